@@ -1,5 +1,9 @@
 package com.support.hub.exception;
 
+import com.support.ticket.exception.TicketArchivedException;
+import com.support.ticket.exception.TicketFeedFullException;
+import com.support.ticket.exception.TicketStatusConflictException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -82,6 +86,40 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(TicketStatusConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleTicketStatusConflictException(
+            TicketStatusConflictException ex) {
+        log.warn("Ticket status conflict: {}", ex.getMessage());
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Conflict");
+        response.put("error", ex.getMessage());
+        response.put("ticketId", ex.getTicketId());
+        response.put("currentStatus", ex.getCurrentStatus());
+        response.put("requestedStatus", ex.getRequestedStatus());
+        response.put("status", HttpStatus.CONFLICT.value());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(TicketArchivedException.class)
+    public ResponseEntity<Map<String, Object>> handleTicketArchivedException(TicketArchivedException ex) {
+        log.warn("Write to archived ticket: {}", ex.getMessage());
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Conflict");
+        response.put("error", ex.getMessage());
+        response.put("ticketId", ex.getTicketId());
+        response.put("status", HttpStatus.CONFLICT.value());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // No body: the client asked for text/event-stream, which a JSON error map cannot be written as.
+    @ExceptionHandler(TicketFeedFullException.class)
+    public ResponseEntity<Void> handleTicketFeedFullException(TicketFeedFullException ex) {
+        log.warn("Rejected ticket feed subscription: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+    }
+
     @ExceptionHandler(com.support.customer.exception.ResourceNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleCustomerResourceNotFoundException(
             com.support.customer.exception.ResourceNotFoundException ex) {
@@ -9,6 +9,7 @@ import com.support.ticket.model.enums.TicketStatus;
 import com.support.ticket.repository.TicketRepository;
 import com.support.ticket.service.TicketCreationOrchestrator;
 import com.support.ticket.service.TicketRecoveryService;
+import com.support.ticket.service.interfaces.ITicketService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +22,12 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -56,6 +63,9 @@ class CompleteSagaFlowIntegrationTest {
     @Autowired
     private TicketRecoveryService ticketRecoveryService;
 
+    @Autowired
+    private ITicketService ticketService;
+
     @Autowired
     private TicketRepository ticketRepository;
 
@@ -151,5 +161,56 @@ class CompleteSagaFlowIntegrationTest {
         Customer updatedCustomer = customerRepository.findByExternalId(customerExternalId).orElseThrow();
         assertThat(updatedCustomer.getOpenTicketCount()).isEqualTo(2);
     }
-}
 
+    @Test
+    void testParallelCreatesAndClosesKeepOpenTicketCountExact() throws Exception {
+        String customerExternalId = "customer-parallel-001";
+
+        customerRepository.save(Customer.builder()
+                .externalId(customerExternalId)
+                .name("Noa Levi")
+                .email("noa.levi@example.com")
+                .openTicketCount(0)
+                .build());
+
+        List<String> ticketIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ticketIds.add(ticketCreationOrchestrator.createTicket(parallelTicket(customerExternalId, i),
+                    "parallel-key-" + i).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ticketIds.size(); i++) {
+            String ticketId = ticketIds.get(i);
+            TicketStatus target = i % 2 == 0 ? TicketStatus.CLOSED : TicketStatus.CANCELLED;
+            futures.add(executor.submit(() -> ticketService.updateStatus(ticketId, target, "agent-parallel")));
+            int index = ticketIds.size() + i;
+            futures.add(executor.submit(() -> ticketCreationOrchestrator.createTicket(
+                    parallelTicket(customerExternalId, index), "parallel-key-" + index)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Customer updatedCustomer = customerRepository.findByExternalId(customerExternalId).orElseThrow();
+        assertThat(updatedCustomer.getOpenTicketCount()).isEqualTo(20);
+        assertThat(ticketRepository.findByCustomerExternalId(customerExternalId))
+                .hasSize(40)
+                .allSatisfy(ticket -> {
+                    assertThat(ticket.getSyncStatus()).isEqualTo(SyncStatus.SYNCED);
+                    assertThat(ticket.getPendingOpenTicketDelta()).isNull();
+                });
+    }
+
+    private Ticket parallelTicket(String customerExternalId, int index) {
+        return Ticket.builder()
+                .customerExternalId(customerExternalId)
+                .title("Parallel ticket " + index)
+                .description("Created and closed under load")
+                .status(TicketStatus.OPEN)
+                .priority(Priority.MEDIUM)
+                .build();
+    }
+}
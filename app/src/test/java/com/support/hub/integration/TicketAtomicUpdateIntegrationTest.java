@@ -0,0 +1,176 @@
+package com.support.hub.integration;
+
+import com.support.ticket.constants.TicketHistory;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketCommentBucket;
+import com.support.ticket.model.TicketEventBucket;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.data.mongodb.auto-index-creation=true"
+})
+class TicketAtomicUpdateIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDB = new MongoDBContainer("mongo:7.0")
+            .withReuse(true);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("support_hub_test")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDB::getReplicaSetUrl);
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private ITicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        mongoTemplate.remove(new Query(), TicketCommentBucket.class);
+        mongoTemplate.remove(new Query(), TicketEventBucket.class);
+    }
+
+    @Test
+    void testConcurrentCommentsAreNotLost() throws Exception {
+        Ticket ticket = ticketService.save(Ticket.builder()
+                .customerExternalId("customer-atomic-001")
+                .title("Concurrent comments")
+                .description("Many agents commenting at once")
+                .status(TicketStatus.OPEN)
+                .priority(Priority.HIGH)
+                .idempotencyKey("atomic-key-001")
+                .build());
+
+        int commenters = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(commenters);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Ticket>> results = new ArrayList<>();
+        for (int i = 0; i < commenters; i++) {
+            String author = "agent-" + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return ticketService.addComment(ticket.getId(), "Comment from " + author, author);
+            }));
+        }
+        start.countDown();
+        for (Future<Ticket> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        Ticket updated = ticketRepository.findById(ticket.getId()).orElseThrow();
+        assertThat(updated.getCommentCount()).isEqualTo(commenters);
+        assertThat(updated.getEventCount()).isEqualTo(commenters);
+        assertThat(updated.getComments()).hasSize(TicketHistory.RECENT_ENTRIES);
+
+        List<TicketCommentBucket> buckets = mongoTemplate.find(
+                Query.query(Criteria.where("ticketId").is(ticket.getId())), TicketCommentBucket.class);
+        assertThat(buckets).hasSize(1);
+        assertThat(buckets.get(0).getCount()).isEqualTo(commenters);
+        assertThat(buckets.get(0).getEntries()).hasSize(commenters);
+    }
+
+    @Test
+    void testStatusChangeRecordsPreviousStatusAtomically() {
+        Ticket ticket = ticketService.save(Ticket.builder()
+                .customerExternalId("customer-atomic-002")
+                .title("Status change")
+                .description("Closed in one update")
+                .status(TicketStatus.OPEN)
+                .priority(Priority.LOW)
+                .idempotencyKey("atomic-key-002")
+                .build());
+
+        Ticket closed = ticketService.updateStatus(ticket.getId(), TicketStatus.CLOSED, "agent-1");
+
+        assertThat(closed.getStatus()).isEqualTo(TicketStatus.CLOSED);
+        assertThat(closed.getEventCount()).isEqualTo(2);
+        assertThat(closed.getEvents()).extracting(event -> event.getEventType())
+                .containsExactly(TicketEventType.STATUS_CHANGED, TicketEventType.CLOSED);
+        assertThat(closed.getEvents().get(0).getDescription()).isEqualTo("Status changed from OPEN to CLOSED");
+
+        TicketEventBucket bucket = mongoTemplate.findOne(
+                Query.query(Criteria.where("ticketId").is(ticket.getId())), TicketEventBucket.class);
+        assertThat(bucket).isNotNull();
+        assertThat(bucket.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testStatusChangesAccumulateTimeInStatusAndResolvedAt() {
+        Ticket ticket = ticketService.save(Ticket.builder()
+                .customerExternalId("customer-atomic-003")
+                .title("Time in status")
+                .description("Walks through the workflow")
+                .status(TicketStatus.OPEN)
+                .priority(Priority.HIGH)
+                .createdAt(LocalDateTime.now().minusHours(2))
+                .idempotencyKey("atomic-key-003")
+                .build());
+
+        Ticket inProgress = ticketService.updateStatus(ticket.getId(), TicketStatus.IN_PROGRESS, "agent-1");
+        assertThat(inProgress.getStatusChangedAt()).isNotNull();
+        assertThat(inProgress.getResolvedAt()).isNull();
+        assertThat(inProgress.getTimeInStatusMillis().get(TicketStatus.OPEN))
+                .isGreaterThanOrEqualTo(Duration.ofHours(2).toMillis() - 1000);
+        assertThat(inProgress.getEvents().get(inProgress.getEvents().size() - 1).getFromStatus())
+                .isEqualTo(TicketStatus.OPEN);
+
+        Ticket resolved = ticketService.updateStatus(ticket.getId(), TicketStatus.RESOLVED, "agent-1");
+        assertThat(resolved.getResolvedAt()).isNotNull();
+        assertThat(resolved.getTimeInStatusMillis()).containsKeys(TicketStatus.OPEN, TicketStatus.IN_PROGRESS);
+
+        Ticket reopened = ticketService.updateStatus(ticket.getId(), TicketStatus.OPEN, "agent-1");
+        assertThat(reopened.getResolvedAt()).isNull();
+        assertThat(reopened.getTimeInStatusMillis().get(TicketStatus.OPEN))
+                .isEqualTo(inProgress.getTimeInStatusMillis().get(TicketStatus.OPEN));
+        assertThat(reopened.getTimeInStatusMillis()).containsKey(TicketStatus.RESOLVED);
+    }
+}
@@ -0,0 +1,152 @@
+package com.support.hub.integration;
+
+import com.support.customer.model.Customer;
+import com.support.customer.repository.CustomerRepository;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBatchItemResult;
+import com.support.ticket.model.TicketCommentBucket;
+import com.support.ticket.model.TicketEventBucket;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketBatchItemStatus;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.TicketCreationOrchestrator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.data.mongodb.auto-index-creation=true"
+})
+class TicketBatchCreationIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDB = new MongoDBContainer("mongo:7.0")
+            .withReuse(true);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("support_hub_test")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDB::getReplicaSetUrl);
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private TicketCreationOrchestrator ticketCreationOrchestrator;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        mongoTemplate.remove(new Query(), TicketCommentBucket.class);
+        mongoTemplate.remove(new Query(), TicketEventBucket.class);
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void testBatchCreatesTicketsAndIncrementsEachCustomerOnce() {
+        Customer first = customerRepository.save(customer("customer-batch-001", "first@example.com"));
+        customerRepository.save(customer("customer-batch-002", "second@example.com"));
+
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tickets.add(ticket("customer-batch-001", "batch-key-" + i));
+        }
+        tickets.add(ticket("customer-batch-002", "batch-key-5"));
+        tickets.add(ticket("customer-missing", "batch-key-6"));
+        tickets.add(ticket("customer-batch-001", "batch-key-0"));
+
+        List<TicketBatchItemResult> results = ticketCreationOrchestrator.createTickets(tickets);
+
+        assertThat(results).extracting(TicketBatchItemResult::getStatus)
+                .filteredOn(status -> status == TicketBatchItemStatus.CREATED).hasSize(6);
+        assertThat(results.get(6).getStatus()).isEqualTo(TicketBatchItemStatus.REJECTED);
+        assertThat(results.get(7).getStatus()).isEqualTo(TicketBatchItemStatus.DUPLICATE);
+        assertThat(results.get(7).getTicket().getId()).isEqualTo(results.get(0).getTicket().getId());
+
+        Customer updatedFirst = customerRepository.findByExternalId("customer-batch-001").orElseThrow();
+        assertThat(updatedFirst.getOpenTicketCount()).isEqualTo(5);
+        assertThat(updatedFirst.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(customerRepository.findByExternalId("customer-batch-002").orElseThrow().getOpenTicketCount())
+                .isEqualTo(1);
+
+        assertThat(ticketRepository.count()).isEqualTo(6);
+        Ticket stored = ticketRepository.findById(results.get(0).getTicket().getId()).orElseThrow();
+        assertThat(stored.getSyncStatus()).isEqualTo(SyncStatus.SYNCED);
+        assertThat(stored.getEventCount()).isEqualTo(2);
+        TicketEventBucket bucket = mongoTemplate.findOne(
+                Query.query(Criteria.where("ticketId").is(stored.getId())), TicketEventBucket.class);
+        assertThat(bucket).isNotNull();
+        assertThat(bucket.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testBatchReplayReturnsExistingTickets() {
+        customerRepository.save(customer("customer-batch-003", "third@example.com"));
+        ticketCreationOrchestrator.createTickets(List.of(ticket("customer-batch-003", "replay-key-1")));
+
+        List<TicketBatchItemResult> replay =
+                ticketCreationOrchestrator.createTickets(List.of(ticket("customer-batch-003", "replay-key-1")));
+
+        assertThat(replay.get(0).getStatus()).isEqualTo(TicketBatchItemStatus.DUPLICATE);
+        assertThat(customerRepository.findByExternalId("customer-batch-003").orElseThrow().getOpenTicketCount())
+                .isEqualTo(1);
+        assertThat(ticketRepository.count()).isEqualTo(1);
+    }
+
+    private static Customer customer(String externalId, String email) {
+        return Customer.builder()
+                .externalId(externalId)
+                .name("Batch Customer")
+                .email(email)
+                .openTicketCount(0)
+                .build();
+    }
+
+    private static Ticket ticket(String customerExternalId, String idempotencyKey) {
+        return Ticket.builder()
+                .customerExternalId(customerExternalId)
+                .title("Batch ticket " + idempotencyKey)
+                .description("Ingested from email")
+                .status(TicketStatus.OPEN)
+                .priority(Priority.MEDIUM)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+}
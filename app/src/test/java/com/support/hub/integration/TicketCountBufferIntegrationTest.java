@@ -0,0 +1,216 @@
+package com.support.hub.integration;
+
+import com.support.customer.model.Customer;
+import com.support.customer.repository.CustomerRepository;
+import com.support.customer.repository.TicketCountIncrementRepository;
+import com.support.customer.service.interfaces.ICustomerService;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.TicketCreationOrchestrator;
+import com.support.ticket.service.TicketCountBuffer;
+import com.support.ticket.service.TicketRecoveryService;
+import com.support.ticket.service.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.data.mongodb.auto-index-creation=true",
+    "ticket.count-buffer.enabled=true",
+    "ticket.count-buffer.flush-interval-ms=3600000"
+})
+class TicketCountBufferIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDB = new MongoDBContainer("mongo:7.0")
+            .withReuse(true);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("support_hub_test")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDB::getReplicaSetUrl);
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private TicketCreationOrchestrator ticketCreationOrchestrator;
+
+    @Autowired
+    private TicketCountBuffer ticketCountBuffer;
+
+    @Autowired
+    private TicketRecoveryService ticketRecoveryService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private TicketCountIncrementRepository ticketCountIncrementRepository;
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        customerRepository.deleteAll();
+        ticketCountIncrementRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentCreationsCoalesceIntoOneFlush() throws Exception {
+        saveCustomer("buffer-customer-1", "buffer1@example.com");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Ticket>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 50; i++) {
+                String idempotencyKey = "buffer-key-" + i;
+                futures.add(executor.submit(() ->
+                        ticketCreationOrchestrator.createTicket(ticket("buffer-customer-1"), idempotencyKey)));
+            }
+            List<Ticket> created = new ArrayList<>();
+            for (Future<Ticket> future : futures) {
+                created.add(future.get());
+            }
+
+            assertThat(created).allSatisfy(ticket ->
+                    assertThat(ticket.getSyncStatus()).isEqualTo(SyncStatus.PENDING));
+            assertThat(openTicketCount("buffer-customer-1")).isZero();
+
+            assertThat(ticketCountBuffer.flush()).isEqualTo(50);
+
+            assertThat(openTicketCount("buffer-customer-1")).isEqualTo(50);
+            assertThat(created).allSatisfy(ticket -> {
+                Ticket stored = ticketRepository.findById(ticket.getId()).orElseThrow();
+                assertThat(stored.getSyncStatus()).isEqualTo(SyncStatus.SYNCED);
+                assertThat(ticketRepository.findEvents(ticket.getId(), 1, 2)).extracting(TicketEvent::getEventType)
+                        .containsExactly(TicketEventType.CREATED, TicketEventType.STATUS_CHANGED);
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testStuckPendingTicketIsPickedUpByRecovery() {
+        saveCustomer("buffer-customer-2", "buffer2@example.com");
+        Ticket stuck = ticket("buffer-customer-2");
+        stuck.setSyncStatus(SyncStatus.PENDING);
+        stuck.setCreatedAt(LocalDateTime.now().minusHours(1));
+        ticketRepository.save(stuck);
+
+        ticketRecoveryService.recoverFailedTickets();
+
+        assertThat(openTicketCount("buffer-customer-2")).isEqualTo(1);
+        assertThat(ticketRepository.findById(stuck.getId()).orElseThrow().getSyncStatus())
+                .isEqualTo(SyncStatus.SYNCED);
+    }
+
+    @Test
+    void testRecoveryAfterLostSyncAckDoesNotReapplyFlushedIncrement() {
+        saveCustomer("buffer-customer-3", "buffer3@example.com");
+        Ticket stuck = ticket("buffer-customer-3");
+        stuck.setSyncStatus(SyncStatus.PENDING);
+        stuck.setCreatedAt(LocalDateTime.now().minusHours(1));
+        ticketRepository.save(stuck);
+        customerService.incrementOpenTicketCountsForTickets(Map.of(stuck.getId(), "buffer-customer-3"));
+        assertThat(openTicketCount("buffer-customer-3")).isEqualTo(1);
+
+        ticketRecoveryService.recoverFailedTickets();
+        ticketRecoveryService.recoverFailedTickets();
+
+        assertThat(openTicketCount("buffer-customer-3")).isEqualTo(1);
+        assertThat(ticketRepository.findById(stuck.getId()).orElseThrow().getSyncStatus())
+                .isEqualTo(SyncStatus.SYNCED);
+    }
+
+    @Test
+    void testCloseBeforeFlushIsAppliedAfterTheCreationIncrement() {
+        saveCustomer("buffer-customer-4", "buffer4@example.com");
+        Ticket created = ticketCreationOrchestrator.createTicket(ticket("buffer-customer-4"), "buffer-close-key");
+
+        ticketService.updateStatus(created.getId(), TicketStatus.CLOSED, "agent-1");
+
+        assertThat(openTicketCount("buffer-customer-4")).isZero();
+        Ticket parked = ticketRepository.findById(created.getId()).orElseThrow();
+        assertThat(parked.getSyncStatus()).isEqualTo(SyncStatus.PENDING);
+        assertThat(parked.getPendingOpenTicketDelta()).isEqualTo(-1);
+
+        ticketCountBuffer.flush();
+
+        assertThat(openTicketCount("buffer-customer-4")).isEqualTo(1);
+        assertThat(ticketRepository.findById(created.getId()).orElseThrow().getSyncStatus())
+                .isEqualTo(SyncStatus.FAILED);
+
+        ticketRecoveryService.recoverFailedTickets();
+
+        assertThat(openTicketCount("buffer-customer-4")).isZero();
+        Ticket recovered = ticketRepository.findById(created.getId()).orElseThrow();
+        assertThat(recovered.getSyncStatus()).isEqualTo(SyncStatus.SYNCED);
+        assertThat(recovered.getPendingOpenTicketDelta()).isNull();
+    }
+
+    private void saveCustomer(String externalId, String email) {
+        customerRepository.save(Customer.builder()
+                .externalId(externalId)
+                .name("Buffer Customer")
+                .email(email)
+                .openTicketCount(0)
+                .build());
+    }
+
+    private int openTicketCount(String externalId) {
+        return customerRepository.findByExternalId(externalId).orElseThrow().getOpenTicketCount();
+    }
+
+    private static Ticket ticket(String customerExternalId) {
+        return Ticket.builder()
+                .customerExternalId(customerExternalId)
+                .title("Buffered Ticket")
+                .description("Created with a buffered customer sync")
+                .status(TicketStatus.OPEN)
+                .priority(Priority.MEDIUM)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.support.hub.integration;
+
+import com.support.customer.model.Customer;
+import com.support.customer.repository.CustomerRepository;
+import com.support.customer.repository.TicketCountIncrementRepository;
+import com.support.customer.service.interfaces.ICustomerService;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.TicketCreationOrchestrator;
+import com.support.ticket.service.TicketOutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.data.mongodb.auto-index-creation=true",
+    "ticket.outbox.enabled=true",
+    "ticket.outbox.drain-interval-ms=3600000"
+})
+class TicketOutboxIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDB = new MongoDBContainer("mongo:7.0")
+            .withReuse(true);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("support_hub_test")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDB::getReplicaSetUrl);
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private TicketCreationOrchestrator ticketCreationOrchestrator;
+
+    @Autowired
+    private TicketOutboxService ticketOutboxService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private TicketCountIncrementRepository ticketCountIncrementRepository;
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        customerRepository.deleteAll();
+        ticketCountIncrementRepository.deleteAll();
+    }
+
+    @Test
+    void testCreationLeavesOutboxEntryUntilDrainAppliesCounts() {
+        saveCustomer("outbox-customer-1", "outbox1@example.com");
+        saveCustomer("outbox-customer-2", "outbox2@example.com");
+
+        List<Ticket> created = List.of(
+                ticketCreationOrchestrator.createTicket(ticket("outbox-customer-1"), "outbox-key-1"),
+                ticketCreationOrchestrator.createTicket(ticket("outbox-customer-1"), "outbox-key-2"),
+                ticketCreationOrchestrator.createTicket(ticket("outbox-customer-1"), "outbox-key-3"),
+                ticketCreationOrchestrator.createTicket(ticket("outbox-customer-2"), "outbox-key-4"));
+
+        assertThat(created).allSatisfy(ticket -> {
+            Ticket stored = ticketRepository.findById(ticket.getId()).orElseThrow();
+            assertThat(stored.getSyncStatus()).isEqualTo(SyncStatus.PENDING);
+            assertThat(stored.getOutbox().getOpenTicketDelta()).isEqualTo(1);
+        });
+        assertThat(openTicketCount("outbox-customer-1")).isZero();
+
+        int drained = ticketOutboxService.drainOutbox();
+
+        assertThat(drained).isEqualTo(4);
+        assertThat(openTicketCount("outbox-customer-1")).isEqualTo(3);
+        assertThat(openTicketCount("outbox-customer-2")).isEqualTo(1);
+        assertThat(created).allSatisfy(ticket -> {
+            Ticket stored = ticketRepository.findById(ticket.getId()).orElseThrow();
+            assertThat(stored.getSyncStatus()).isEqualTo(SyncStatus.SYNCED);
+            assertThat(stored.getOutbox()).isNull();
+            assertThat(stored.getEventCount()).isEqualTo(2);
+            assertThat(ticketRepository.findEvents(ticket.getId(), 1, 2)).extracting(TicketEvent::getEventType)
+                    .containsExactly(TicketEventType.CREATED, TicketEventType.STATUS_CHANGED);
+        });
+
+        assertThat(ticketOutboxService.drainOutbox()).isZero();
+        assertThat(openTicketCount("outbox-customer-1")).isEqualTo(3);
+    }
+
+    @Test
+    void testRedeliveredOutboxEntryIsNotCountedTwice() {
+        saveCustomer("outbox-customer-3", "outbox3@example.com");
+        Ticket created = ticketCreationOrchestrator.createTicket(ticket("outbox-customer-3"), "outbox-key-5");
+        customerService.incrementOpenTicketCountsForTickets(Map.of(created.getId(), "outbox-customer-3"));
+        assertThat(openTicketCount("outbox-customer-3")).isEqualTo(1);
+
+        assertThat(ticketOutboxService.drainOutbox()).isEqualTo(1);
+
+        assertThat(openTicketCount("outbox-customer-3")).isEqualTo(1);
+        Ticket stored = ticketRepository.findById(created.getId()).orElseThrow();
+        assertThat(stored.getSyncStatus()).isEqualTo(SyncStatus.SYNCED);
+        assertThat(stored.getOutbox()).isNull();
+    }
+
+    private void saveCustomer(String externalId, String email) {
+        customerRepository.save(Customer.builder()
+                .externalId(externalId)
+                .name("Outbox Customer")
+                .email(email)
+                .openTicketCount(0)
+                .build());
+    }
+
+    private int openTicketCount(String externalId) {
+        return customerRepository.findByExternalId(externalId).orElseThrow().getOpenTicketCount();
+    }
+
+    private static Ticket ticket(String customerExternalId) {
+        return Ticket.builder()
+                .customerExternalId(customerExternalId)
+                .title("Outbox Ticket")
+                .description("Created with a pending customer sync")
+                .status(TicketStatus.OPEN)
+                .priority(Priority.MEDIUM)
+                .build();
+    }
+}
@@ -0,0 +1,268 @@
+package com.support.hub.integration;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.support.ticket.config.TicketCollectionInitializer;
+import com.support.ticket.constants.TicketArchive;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketChangeWatermark;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketOutboxEntry;
+import com.support.ticket.model.TicketPageCursor;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketSortField;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records the commands the repository sends to the ticket collections from the test thread and explains each
+ * one, so a repository query that stops matching an index fails here.
+ */
+@SpringBootTest
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class TicketQueryPlanIntegrationTest {
+
+    private static final Set<String> EXPLAINED_COMMANDS = Set.of("find", "aggregate", "findAndModify", "update",
+            "delete", "count");
+    private static final Set<String> INDEX_STAGES = Set.of("IXSCAN", "IDHACK", "EXPRESS_IXSCAN");
+    private static final List<String> SESSION_FIELDS = List.of("$db", "lsid", "$clusterTime", "$readPreference",
+            "txnNumber", "autocommit", "startTransaction");
+    private static final CapturedCommands CAPTURED_COMMANDS = new CapturedCommands();
+
+    @Container
+    static MongoDBContainer mongoDB = new MongoDBContainer("mongo:7.0")
+            .withReuse(true);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("support_hub_test")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDB::getReplicaSetUrl);
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @TestConfiguration
+    static class CommandCaptureConfig {
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCapture() {
+            return builder -> builder.addCommandListener(CAPTURED_COMMANDS);
+        }
+    }
+
+    @Autowired
+    private TicketCollectionInitializer ticketCollectionInitializer;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+
+        now = LocalDateTime.now();
+        for (int i = 0; i < 20; i++) {
+            TicketStatus status = TicketStatus.values()[i % TicketStatus.values().length];
+            ticketRepository.save(Ticket.builder()
+                    .customerExternalId("customer-plan-" + (i % 3))
+                    .title("Plan ticket " + i)
+                    .description("Explain plan fixture")
+                    .status(status)
+                    .priority(Priority.values()[i % Priority.values().length])
+                    .syncStatus(i % 5 == 0 ? SyncStatus.FAILED : SyncStatus.SYNCED)
+                    .outbox(i % 4 == 0 ? TicketOutboxEntry.openTicketDelta(1) : null)
+                    .idempotencyKey("plan-key-" + i)
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(now.minusMinutes(i))
+                    .statusChangedAt(now.minusDays(i))
+                    .resolvedAt(status.isResolved() ? now.minusDays(i) : null)
+                    .build());
+        }
+
+        assertThat(ticketCollectionInitializer.ensureIndexes()).isEmpty();
+    }
+
+    @Test
+    void testRepositoryFindersUseIndexes() {
+        assertQueriesUseIndexes(() -> ticketRepository.findByIdempotencyKey("plan-key-1"));
+        assertQueriesUseIndexes(() -> ticketRepository.findByIdempotencyKeyIn(List.of("plan-key-1", "plan-key-2")));
+        assertQueriesUseIndexes(() -> ticketRepository.findBySyncStatus(SyncStatus.FAILED));
+        assertQueriesUseIndexes(() -> ticketRepository.findBySyncStatusAndOutboxIsNullAndCreatedAtBefore(
+                SyncStatus.PENDING, now));
+        assertQueriesUseIndexes(() -> ticketRepository.findByCustomerExternalId("customer-plan-1"));
+        assertQueriesUseIndexes(() -> ticketRepository.findByStatus(TicketStatus.OPEN));
+        assertQueriesUseIndexes(() -> ticketRepository.findByPriority(Priority.HIGH));
+        assertQueriesUseIndexes(() -> ticketRepository.findByStatusAndPriority(TicketStatus.OPEN, Priority.HIGH));
+        assertQueriesUseIndexes(() -> ticketRepository.findByCustomerExternalIdAndStatus("customer-plan-1",
+                TicketStatus.OPEN));
+        assertQueriesUseIndexes(() -> ticketRepository.findByCustomerExternalIdAndPriority("customer-plan-1",
+                Priority.HIGH));
+        assertQueriesUseIndexes(() -> ticketRepository.findByCustomerExternalIdAndStatusAndPriority("customer-plan-1",
+                TicketStatus.OPEN, Priority.HIGH));
+        assertQueriesUseIndexes(() -> ticketRepository.findByCreatedAtBetween(now.minusDays(7), now));
+    }
+
+    @Test
+    void testFilteredListPagesUseIndexes() {
+        TicketPageCursor createdAtCursor = TicketPageCursor.after(TicketSortField.CREATED_AT, Priority.MEDIUM,
+                now.minusMinutes(5), "ffffffffffffffffffffffff");
+        TicketPageCursor priorityCursor = TicketPageCursor.after(TicketSortField.PRIORITY, Priority.MEDIUM,
+                now.minusMinutes(5), "ffffffffffffffffffffffff");
+
+        for (TicketSortField sort : TicketSortField.values()) {
+            assertQueriesUseIndexes(() -> ticketRepository.findPage(new TicketFilter(), sort, null, 10));
+            assertQueriesUseIndexes(() -> ticketRepository.findSummaryPage(new TicketFilter(), sort, null, 10));
+        }
+        assertQueriesUseIndexes(() -> ticketRepository.findPage(
+                TicketFilter.builder().customerExternalId("customer-plan-2").build(),
+                TicketSortField.CREATED_AT, null, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findPage(
+                TicketFilter.builder().status(TicketStatus.IN_PROGRESS).build(), TicketSortField.CREATED_AT, null, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findPage(
+                TicketFilter.builder().priority(Priority.LOW).build(), TicketSortField.CREATED_AT, null, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findPage(
+                TicketFilter.builder().status(TicketStatus.OPEN).priority(Priority.URGENT).build(),
+                TicketSortField.CREATED_AT, null, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findPage(
+                TicketFilter.builder().customerExternalId("customer-plan-0").status(TicketStatus.OPEN)
+                        .priority(Priority.MEDIUM).build(),
+                TicketSortField.CREATED_AT, null, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findPage(
+                TicketFilter.builder().customerExternalId("customer-plan-0").fromDate(now.minusDays(1)).build(),
+                TicketSortField.CREATED_AT, null, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findPage(new TicketFilter(), TicketSortField.CREATED_AT,
+                createdAtCursor, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findPage(new TicketFilter(), TicketSortField.PRIORITY,
+                priorityCursor, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findPage(
+                TicketFilter.builder().includeArchived(true).build(), TicketSortField.CREATED_AT, null, 10));
+    }
+
+    @Test
+    void testBackgroundAndSyncQueriesUseIndexes() {
+        TicketChangeWatermark watermark = new TicketChangeWatermark(now.minusMinutes(10), "000000000000000000000000");
+
+        assertQueriesUseIndexes(() -> ticketRepository.findChangedSince(null, null, now, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findChangedSince("customer-plan-1", watermark, now, 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findArchivable(now.minusDays(2), 10));
+        assertQueriesUseIndexes(() -> ticketRepository.claimOutbox("plan-claim", now.plusMinutes(1),
+                now.plusMinutes(2), 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findIdsForStatusChange(new TicketFilter(),
+                List.of(TicketStatus.OPEN, TicketStatus.IN_PROGRESS), 10));
+        assertQueriesUseIndexes(() -> ticketRepository.findIdsForStatusChange(
+                TicketFilter.builder().customerExternalId("customer-plan-1").build(),
+                List.of(TicketStatus.OPEN), 10));
+        assertQueriesUseIndexes(() -> {
+            try (Stream<Ticket> resolved = ticketRepository.streamResolvedBefore(now, 5)) {
+                resolved.forEach(ticket -> { });
+            }
+        });
+    }
+
+    private void assertQueriesUseIndexes(Runnable repositoryCall) {
+        CAPTURED_COMMANDS.clear();
+        repositoryCall.run();
+
+        List<BsonDocument> commands = CAPTURED_COMMANDS.forCollections(
+                Set.of(mongoTemplate.getCollectionName(Ticket.class), TicketArchive.COLLECTION));
+        assertThat(commands).as("commands sent to the ticket collections").isNotEmpty();
+        commands.forEach(this::assertIndexed);
+    }
+
+    private void assertIndexed(BsonDocument command) {
+        BsonDocument explained = command.clone();
+        SESSION_FIELDS.forEach(explained::remove);
+        Document explain = mongoTemplate.getDb().runCommand(new BsonDocument("explain", explained)
+                .append("verbosity", new BsonString("queryPlanner")));
+
+        List<String> stages = new ArrayList<>();
+        collectWinningStages(explain, false, stages);
+
+        assertThat(stages)
+                .as("winning plan for %s", explained.toJson())
+                .isNotEmpty()
+                .doesNotContain("COLLSCAN")
+                .anyMatch(INDEX_STAGES::contains);
+    }
+
+    private void collectWinningStages(Object node, boolean inWinningPlan, List<String> stages) {
+        if (node instanceof Map<?, ?> map) {
+            if (inWinningPlan && map.get("stage") instanceof String name) {
+                stages.add(name);
+            }
+            map.forEach((key, value) -> collectWinningStages(value, inWinningPlan || "winningPlan".equals(key),
+                    stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectWinningStages(value, inWinningPlan, stages));
+        }
+    }
+
+    private static final class CapturedCommands implements CommandListener {
+
+        private final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+        private volatile Thread capturingThread;
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (Thread.currentThread() == capturingThread && EXPLAINED_COMMANDS.contains(event.getCommandName())) {
+                commands.add(event.getCommand().clone());
+            }
+        }
+
+        void clear() {
+            commands.clear();
+            capturingThread = Thread.currentThread();
+        }
+
+        List<BsonDocument> forCollections(Set<String> collections) {
+            return commands.stream()
+                    .filter(command -> command.get(command.getFirstKey()).isString()
+                            && collections.contains(command.getString(command.getFirstKey()).getValue()))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.support.hub.integration;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.support.ticket.config.TicketMongoReadConfig;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketCommentBucket;
+import com.support.ticket.model.TicketEventBucket;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketPage;
+import com.support.ticket.model.TicketStats;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketSortField;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketService;
+import com.support.ticket.service.interfaces.ITicketStatsService;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.data.mongodb.auto-index-creation=true",
+    "ticket.reads.max-staleness=120s",
+    "ticket.stats.cache-ttl=0s"
+})
+class TicketReadRoutingIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDB = new MongoDBContainer("mongo:7.0")
+            .withReuse(true);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("support_hub_test")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDB::getReplicaSetUrl);
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    static final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CommandCaptureConfig {
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCaptureCustomizer() {
+            return builder -> builder.addCommandListener(new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    commands.add(event.getCommand().clone());
+                }
+            });
+        }
+    }
+
+    @Autowired
+    private ITicketService ticketService;
+
+    @Autowired
+    private ITicketStatsService ticketStatsService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    @Qualifier(TicketMongoReadConfig.SECONDARY_TEMPLATE)
+    private MongoTemplate secondaryMongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        mongoTemplate.remove(new Query(), TicketCommentBucket.class);
+        mongoTemplate.remove(new Query(), TicketEventBucket.class);
+        commands.clear();
+    }
+
+    @Test
+    void testTemplatesCarryExpectedReadPreferences() {
+        assertThat(mongoTemplate.getMongoDatabaseFactory().getMongoDatabase().getReadPreference())
+                .isEqualTo(ReadPreference.primary());
+        assertThat(secondaryMongoTemplate).isNotSameAs(mongoTemplate);
+        ReadPreference secondary = ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS);
+        assertThat(secondaryMongoTemplate.find(new Query().limit(1), Ticket.class)).isEmpty();
+        assertThat(lastCommand("find").get("$readPreference").asDocument())
+                .isEqualTo(secondary.toDocument());
+    }
+
+    @Test
+    void testListAndStatsQueriesAreSentWithSecondaryPreferred() {
+        createTicket("routing-key-001", TicketStatus.OPEN);
+        createTicket("routing-key-002", TicketStatus.CLOSED);
+        commands.clear();
+
+        TicketPage<Ticket> page = ticketService.findTicketPage(new TicketFilter(), TicketSortField.CREATED_AT, null, 10);
+        assertThat(page.getItems()).hasSize(2);
+        BsonDocument find = lastCommand("find");
+        assertThat(find.getString("find").getValue()).isEqualTo("tickets");
+        assertSecondaryPreferred(find);
+
+        TicketStats stats = ticketStatsService.getStats(new TicketFilter());
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertSecondaryPreferred(lastCommand("aggregate"));
+    }
+
+    @Test
+    void testReadAfterWriteStaysOnPrimary() {
+        Ticket created = createTicket("routing-key-003", TicketStatus.OPEN);
+        commands.clear();
+
+        assertThat(ticketRepository.findById(created.getId())).isPresent();
+
+        assertThat(lastCommand("find").containsKey("$readPreference")).isFalse();
+    }
+
+    private Ticket createTicket(String idempotencyKey, TicketStatus status) {
+        return ticketService.save(Ticket.builder()
+                .customerExternalId("customer-routing-001")
+                .title("Routing " + idempotencyKey)
+                .description("Read routing check")
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .idempotencyKey(idempotencyKey)
+                .build());
+    }
+
+    private static BsonDocument lastCommand(String name) {
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            if (commands.get(i).containsKey(name)) {
+                return commands.get(i);
+            }
+        }
+        throw new AssertionError("No " + name + " command was sent");
+    }
+
+    private static void assertSecondaryPreferred(BsonDocument command) {
+        BsonDocument readPreference = command.getDocument("$readPreference");
+        assertThat(readPreference.getString("mode").getValue()).isEqualTo("secondaryPreferred");
+        assertThat(readPreference.getNumber("maxStalenessSeconds").longValue()).isEqualTo(120L);
+    }
+}
@@ -0,0 +1,150 @@
+package com.support.hub.integration;
+
+import com.support.ticket.config.TicketCollectionInitializer;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketCommentBucket;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketPage;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class TicketSearchIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDB = new MongoDBContainer("mongo:7.0")
+            .withReuse(true);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("support_hub_test")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDB::getReplicaSetUrl);
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private ITicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketCollectionInitializer ticketCollectionInitializer;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        mongoTemplate.remove(new Query(), TicketCommentBucket.class);
+        assertThat(ticketCollectionInitializer.ensureIndexes()).isEmpty();
+    }
+
+    @Test
+    void testSearchMatchesTitleDescriptionAndComments() {
+        Ticket printer = createTicket("search-key-001", "Printer jammed on floor 3", "Paper stuck in tray",
+                TicketStatus.OPEN, Priority.HIGH);
+        Ticket vpn = createTicket("search-key-002", "VPN drops", "Connection resets every hour",
+                TicketStatus.OPEN, Priority.MEDIUM);
+        createTicket("search-key-003", "Password reset", "Locked out of email", TicketStatus.OPEN, Priority.LOW);
+
+        ticketService.addComment(vpn.getId(), "Looks like the printer driver update broke the VPN client", "agent-1");
+
+        TicketPage<Ticket> page = ticketService.searchTickets("printer", new TicketFilter(), null, 10);
+
+        assertThat(page.getItems()).extracting(Ticket::getId).containsExactly(printer.getId(), vpn.getId());
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testSearchFiltersCommentMatchesAndListsEachTicketOnce() {
+        Ticket printer = createTicket("search-key-101", "Printer offline", "No response from printer",
+                TicketStatus.OPEN, Priority.HIGH);
+        Ticket scanner = createTicket("search-key-102", "Scanner slow", "Scans take minutes",
+                TicketStatus.OPEN, Priority.HIGH);
+        Ticket monitor = createTicket("search-key-103", "Monitor flicker", "Screen flickers",
+                TicketStatus.OPEN, Priority.LOW);
+
+        ticketService.addComment(printer.getId(), "Printer restarted, still offline", "agent-1");
+        ticketService.addComment(scanner.getId(), "Shares a queue with the printer", "agent-1");
+        ticketService.addComment(monitor.getId(), "Cable runs behind the printer", "agent-1");
+
+        TicketFilter high = TicketFilter.builder().priority(Priority.HIGH).build();
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            TicketPage<Ticket> page = ticketService.searchTickets("printer", high, cursor, 1);
+            page.getItems().forEach(ticket -> seen.add(ticket.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(printer.getId(), scanner.getId());
+    }
+
+    @Test
+    void testSearchAppliesFiltersAndPages() {
+        for (int i = 0; i < 5; i++) {
+            createTicket("search-page-" + i, "Laptop battery issue " + i, "Battery drains quickly",
+                    TicketStatus.OPEN, i % 2 == 0 ? Priority.URGENT : Priority.LOW);
+        }
+
+        TicketFilter urgent = TicketFilter.builder().priority(Priority.URGENT).build();
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            TicketPage<Ticket> page = ticketService.searchTickets("battery", urgent, cursor, 2);
+            page.getItems().forEach(ticket -> {
+                assertThat(ticket.getPriority()).isEqualTo(Priority.URGENT);
+                seen.add(ticket.getId());
+            });
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(3).doesNotHaveDuplicates();
+    }
+
+    private Ticket createTicket(String idempotencyKey, String title, String description,
+                                TicketStatus status, Priority priority) {
+        return ticketService.save(Ticket.builder()
+                .customerExternalId("customer-search-001")
+                .title(title)
+                .description(description)
+                .status(status)
+                .priority(priority)
+                .idempotencyKey(idempotencyKey)
+                .build());
+    }
+}
@@ -0,0 +1,200 @@
+package com.support.hub.integration;
+
+import com.support.ticket.exception.TicketStatusConflictException;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBulkStatusResult;
+import com.support.ticket.model.TicketEventBucket;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.data.mongodb.auto-index-creation=true"
+})
+class TicketStatusConcurrencyIntegrationTest {
+
+    private static final int THREADS = 32;
+
+    @Container
+    static MongoDBContainer mongoDB = new MongoDBContainer("mongo:7.0")
+            .withReuse(true);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("support_hub_test")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDB::getReplicaSetUrl);
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private ITicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        mongoTemplate.remove(new Query(), TicketEventBucket.class);
+    }
+
+    @Test
+    void testConcurrentTransitionsFromSameExpectedStatusHaveSingleWinner() throws Exception {
+        Ticket ticket = createTicket("status-key-001");
+
+        List<Callable<Ticket>> attempts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String agent = "agent-" + i;
+            attempts.add(() -> ticketService.updateStatus(ticket.getId(), TicketStatus.IN_PROGRESS, TicketStatus.OPEN,
+                    agent));
+        }
+
+        Outcome outcome = hammer(attempts);
+
+        assertThat(outcome.successes).isEqualTo(1);
+        assertThat(outcome.conflicts).hasSize(THREADS - 1);
+        assertThat(outcome.conflicts)
+                .allSatisfy(conflict -> assertThat(conflict.getCurrentStatus()).isEqualTo(TicketStatus.IN_PROGRESS));
+
+        Ticket updated = ticketRepository.findById(ticket.getId()).orElseThrow();
+        assertThat(updated.getStatus()).isEqualTo(TicketStatus.IN_PROGRESS);
+        assertThat(updated.getEventCount()).isEqualTo(1);
+        assertThat(eventBucketCount(ticket.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void testConcurrentTerminalTransitionsNeverOverwriteEachOther() throws Exception {
+        Ticket ticket = createTicket("status-key-002");
+
+        List<Callable<Ticket>> attempts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            TicketStatus target = i % 2 == 0 ? TicketStatus.CLOSED : TicketStatus.CANCELLED;
+            String agent = "agent-" + i;
+            attempts.add(() -> ticketService.updateStatus(ticket.getId(), target, agent));
+        }
+
+        Outcome outcome = hammer(attempts);
+
+        Ticket updated = ticketRepository.findById(ticket.getId()).orElseThrow();
+        assertThat(updated.getStatus()).isIn(TicketStatus.CLOSED, TicketStatus.CANCELLED);
+        assertThat(updated.getEventCount()).isEqualTo(2);
+        assertThat(eventBucketCount(ticket.getId())).isEqualTo(2);
+        assertThat(outcome.conflicts)
+                .allSatisfy(conflict -> assertThat(conflict.getCurrentStatus()).isEqualTo(updated.getStatus()));
+        assertThat(outcome.successes + outcome.conflicts.size()).isEqualTo(THREADS);
+    }
+
+    @Test
+    void testBulkCloseChangesOnlyEligibleTicketsAndAppendsHistory() {
+        Ticket first = createTicket("status-key-003");
+        Ticket second = createTicket("status-key-004");
+        Ticket alreadyClosed = ticketService.updateStatus(createTicket("status-key-005").getId(),
+                TicketStatus.CLOSED, "agent-0");
+
+        TicketBulkStatusResult result = ticketService.updateStatuses(
+                List.of(first.getId(), second.getId(), alreadyClosed.getId()), null, TicketStatus.CLOSED, "agent-bulk");
+
+        assertThat(result.getMatched()).isEqualTo(3);
+        assertThat(result.getChanged()).isEqualTo(2);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        for (Ticket ticket : List.of(first, second)) {
+            Ticket updated = ticketRepository.findById(ticket.getId()).orElseThrow();
+            assertThat(updated.getStatus()).isEqualTo(TicketStatus.CLOSED);
+            assertThat(updated.getResolvedAt()).isNotNull();
+            assertThat(updated.getEventCount()).isEqualTo(2);
+            assertThat(updated.getEvents().get(0).getFromStatus()).isEqualTo(TicketStatus.OPEN);
+            assertThat(updated.getEvents().get(0).getPerformedBy()).isEqualTo("agent-bulk");
+            assertThat(eventBucketCount(ticket.getId())).isEqualTo(2);
+        }
+        assertThat(ticketRepository.findById(alreadyClosed.getId()).orElseThrow().getEventCount()).isEqualTo(2);
+    }
+
+    private Ticket createTicket(String idempotencyKey) {
+        return ticketService.save(Ticket.builder()
+                .customerExternalId("customer-status-001")
+                .title("Contended ticket")
+                .description("Many agents changing status at once")
+                .status(TicketStatus.OPEN)
+                .priority(Priority.URGENT)
+                .idempotencyKey(idempotencyKey)
+                .build());
+    }
+
+    private int eventBucketCount(String ticketId) {
+        return mongoTemplate.find(Query.query(Criteria.where("ticketId").is(ticketId)), TicketEventBucket.class)
+                .stream()
+                .mapToInt(TicketEventBucket::getCount)
+                .sum();
+    }
+
+    private Outcome hammer(List<Callable<Ticket>> attempts) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(attempts.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Ticket>> futures = new ArrayList<>();
+        for (Callable<Ticket> attempt : attempts) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return attempt.call();
+            }));
+        }
+        start.countDown();
+
+        Outcome outcome = new Outcome();
+        for (Future<Ticket> future : futures) {
+            try {
+                future.get();
+                outcome.successes++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(TicketStatusConflictException.class);
+                outcome.conflicts.add((TicketStatusConflictException) e.getCause());
+            }
+        }
+        executor.shutdown();
+        return outcome;
+    }
+
+    private static class Outcome {
+        private int successes;
+        private final List<TicketStatusConflictException> conflicts = new ArrayList<>();
+    }
+}
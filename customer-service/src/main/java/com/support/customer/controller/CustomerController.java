@@ -11,6 +11,7 @@ import com.support.customer.exception.ConflictException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -20,6 +21,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Collection;
 import java.util.List;
@@ -116,12 +118,23 @@ public class CustomerController {
 
     @GetMapping("/{externalId}")
     @PreAuthorize("@roles.hasAnyCustomerReadRole(authentication)")
-    public ResponseEntity<CustomerResponseDTO> getCustomerByExternalId(@PathVariable String externalId) {
+    public ResponseEntity<CustomerResponseDTO> getCustomerByExternalId(@PathVariable String externalId,
+                                                                       WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Long version = customerService.findVersionByExternalId(externalId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+            if (request.checkNotModified(String.valueOf(version))) {
+                return null;
+            }
+        }
+
         Customer customer = customerService.findByExternalId(externalId)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
         
         CustomerResponseDTO response = customerMapper.toDTO(customer);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(customer.getVersion()))
+                .body(response);
     }
 
     private String getExternalIdFromAuthentication(Authentication authentication) {
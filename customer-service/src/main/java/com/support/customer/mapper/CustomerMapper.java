@@ -13,11 +13,13 @@ public interface CustomerMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "openTicketCount", ignore = true)
     @Mapping(target = "externalId", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Customer toEntity(CustomerCreateDTO dto);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "openTicketCount", ignore = true)
     @Mapping(target = "externalId", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Customer toEntity(CustomerRequestDTO dto);
 
     CustomerResponseDTO toDTO(Customer customer);
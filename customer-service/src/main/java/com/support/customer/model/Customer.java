@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "customers", indexes = {
     @Index(name = "idx_external_id", columnList = "external_id", unique = true),
-    @Index(name = "idx_email", columnList = "email", unique = true)
+    @Index(name = "idx_email", columnList = "email", unique = true),
+    @Index(name = "idx_external_id_version", columnList = "external_id, version")
 })
 @Data
 @NoArgsConstructor
@@ -41,5 +42,9 @@ public class Customer {
     @NotNull
     @Builder.Default
     private Integer openTicketCount = 0;
+
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
 
@@ -0,0 +1,30 @@
+package com.support.customer.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ticket_count_increments", indexes = {
+    @Index(name = "idx_ticket_count_increments_applied_at", columnList = "applied_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketCountIncrement {
+
+    @Id
+    @Column(name = "ticket_id", nullable = false, length = 64)
+    private String ticketId;
+
+    @Column(name = "customer_external_id", nullable = false, length = 255)
+    private String customerExternalId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
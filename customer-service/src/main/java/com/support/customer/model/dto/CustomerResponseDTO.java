@@ -16,5 +16,6 @@ public class CustomerResponseDTO {
     private String name;
     private String email;
     private Integer openTicketCount;
+    private Long version;
 }
 
@@ -2,18 +2,38 @@ package com.support.customer.repository;
 
 import com.support.customer.model.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerRepositoryCustom {
     Optional<Customer> findByExternalId(String externalId);
     Optional<Customer> findByEmail(String email);
     boolean existsByEmail(String email);
     List<Customer> findByNameContainingIgnoreCase(String name);
     List<Customer> findByEmailContainingIgnoreCase(String email);
     List<Customer> findByExternalIdContaining(String externalId);
+
+    @Query("select c.version from Customer c where c.externalId = :externalId")
+    Optional<Long> findVersionByExternalId(@Param("externalId") String externalId);
+
+    @Query("select c.externalId from Customer c where c.externalId in :externalIds")
+    List<String> findExistingExternalIds(@Param("externalIds") Collection<String> externalIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Customer c set c.openTicketCount = c.openTicketCount + 1, c.version = c.version + 1 "
+            + "where c.externalId = :externalId")
+    int incrementOpenTicketCount(@Param("externalId") String externalId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Customer c set c.openTicketCount = c.openTicketCount - 1, c.version = c.version + 1 "
+            + "where c.externalId = :externalId")
+    int decrementOpenTicketCount(@Param("externalId") String externalId);
 }
 
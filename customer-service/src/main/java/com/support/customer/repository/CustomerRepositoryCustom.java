@@ -0,0 +1,8 @@
+package com.support.customer.repository;
+
+import java.util.Map;
+
+public interface CustomerRepositoryCustom {
+
+    int addOpenTicketCounts(Map<String, Integer> deltas);
+}
@@ -0,0 +1,45 @@
+package com.support.customer.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class CustomerRepositoryCustomImpl implements CustomerRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int addOpenTicketCounts(Map<String, Integer> deltas) {
+
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        StringBuilder cases = new StringBuilder();
+        StringBuilder externalIds = new StringBuilder();
+        deltas.forEach((externalId, delta) -> {
+            cases.append(" WHEN ? THEN ?");
+            parameters.add(externalId);
+            parameters.add(delta);
+            externalIds.append(externalIds.isEmpty() ? "?" : ", ?");
+        });
+        parameters.addAll(deltas.keySet());
+
+        Query query = entityManager.createNativeQuery(
+                "UPDATE customers SET open_ticket_count = open_ticket_count + CASE external_id" + cases
+                        + " ELSE 0 END, version = version + 1 WHERE external_id IN (" + externalIds + ")");
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        entityManager.flush();
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+}
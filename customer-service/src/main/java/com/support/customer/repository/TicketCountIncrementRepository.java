@@ -0,0 +1,27 @@
+package com.support.customer.repository;
+
+import com.support.customer.model.TicketCountIncrement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TicketCountIncrementRepository extends JpaRepository<TicketCountIncrement, String>,
+        TicketCountIncrementRepositoryCustom {
+
+    @Query("select i.ticketId from TicketCountIncrement i where i.ticketId in :ticketIds")
+    List<String> findAppliedTicketIds(@Param("ticketIds") Collection<String> ticketIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM ticket_count_increments WHERE applied_at < :appliedBefore LIMIT :limit",
+            nativeQuery = true)
+    int deleteAppliedBefore(@Param("appliedBefore") LocalDateTime appliedBefore, @Param("limit") int limit);
+}
@@ -0,0 +1,9 @@
+package com.support.customer.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface TicketCountIncrementRepositoryCustom {
+
+    int insertAll(Map<String, String> customerExternalIdByTicketId, LocalDateTime appliedAt);
+}
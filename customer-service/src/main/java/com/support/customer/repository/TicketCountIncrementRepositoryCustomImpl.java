@@ -0,0 +1,40 @@
+package com.support.customer.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class TicketCountIncrementRepositoryCustomImpl implements TicketCountIncrementRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertAll(Map<String, String> customerExternalIdByTicketId, LocalDateTime appliedAt) {
+
+        if (customerExternalIdByTicketId.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        StringBuilder rows = new StringBuilder();
+        customerExternalIdByTicketId.forEach((ticketId, customerExternalId) -> {
+            rows.append(rows.isEmpty() ? "(?, ?, ?)" : ", (?, ?, ?)");
+            parameters.add(ticketId);
+            parameters.add(customerExternalId);
+            parameters.add(appliedAt);
+        });
+
+        Query query = entityManager.createNativeQuery(
+                "INSERT INTO ticket_count_increments (ticket_id, customer_external_id, applied_at) VALUES " + rows);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        return query.executeUpdate();
+    }
+}
@@ -3,6 +3,7 @@ package com.support.customer.service;
 import com.support.customer.service.interfaces.ICustomerService;
 import com.support.customer.model.Customer;
 import com.support.customer.repository.CustomerRepository;
+import com.support.customer.repository.TicketCountIncrementRepository;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.retry.annotation.Backoff;
@@ -10,9 +11,13 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -21,6 +26,7 @@ import java.util.Set;
 public class CustomerService implements ICustomerService {
 
     private final CustomerRepository customerRepository;
+    private final TicketCountIncrementRepository ticketCountIncrementRepository;
 
     public Optional<Customer> findByExternalId(String externalId) {
         return customerRepository.findByExternalId(externalId);
@@ -30,6 +36,17 @@ public class CustomerService implements ICustomerService {
         return customerRepository.findByExternalId(externalId).isPresent();
     }
 
+    public Set<String> findExistingExternalIds(Collection<String> externalIds) {
+        if (externalIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(customerRepository.findExistingExternalIds(externalIds));
+    }
+
+    public Optional<Long> findVersionByExternalId(String externalId) {
+        return customerRepository.findVersionByExternalId(externalId);
+    }
+
     @Transactional
     public Customer createCustomer(String externalId, Customer customer) {
         if (customerRepository.findByExternalId(externalId).isPresent()) {
@@ -51,11 +68,67 @@ public class CustomerService implements ICustomerService {
     )
     public void incrementOpenTicketCount(String externalId) {
 
-        Customer customer = customerRepository.findByExternalId(externalId)
-                .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + externalId));
-        
-        customer.setOpenTicketCount(customer.getOpenTicketCount() + 1);
-        customerRepository.save(customer);
+        if (customerRepository.incrementOpenTicketCount(externalId) == 0) {
+            throw new IllegalArgumentException("Customer not found: " + externalId);
+        }
+    }
+
+    @Transactional
+    @CircuitBreaker(name = "mysqlService")
+    @Retryable(
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100, multiplier = 2)
+    )
+    public void decrementOpenTicketCount(String externalId) {
+
+        if (customerRepository.decrementOpenTicketCount(externalId) == 0) {
+            throw new IllegalArgumentException("Customer not found: " + externalId);
+        }
+    }
+
+    @Transactional
+    @CircuitBreaker(name = "mysqlService")
+    @Retryable(
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100, multiplier = 2)
+    )
+    public void incrementOpenTicketCounts(Map<String, Integer> increments) {
+
+        if (increments.isEmpty()) {
+            return;
+        }
+        int updated = customerRepository.addOpenTicketCounts(increments);
+        if (updated != increments.size()) {
+            throw new IllegalArgumentException("Customers not found: expected " + increments.size()
+                    + " but updated " + updated);
+        }
+    }
+
+    @Transactional
+    @CircuitBreaker(name = "mysqlService")
+    @Retryable(
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100, multiplier = 2)
+    )
+    public int incrementOpenTicketCountsForTickets(Map<String, String> customerExternalIdByTicketId) {
+
+        Map<String, String> unapplied = new HashMap<>(customerExternalIdByTicketId);
+        if (!unapplied.isEmpty()) {
+            ticketCountIncrementRepository.findAppliedTicketIds(unapplied.keySet()).forEach(unapplied::remove);
+        }
+        if (unapplied.isEmpty()) {
+            return 0;
+        }
+
+        ticketCountIncrementRepository.insertAll(unapplied, LocalDateTime.now());
+        Map<String, Integer> increments = new HashMap<>();
+        unapplied.values().forEach(externalId -> increments.merge(externalId, 1, Integer::sum));
+        int updated = customerRepository.addOpenTicketCounts(increments);
+        if (updated != increments.size()) {
+            throw new IllegalArgumentException("Customers not found: expected " + increments.size()
+                    + " but updated " + updated);
+        }
+        return unapplied.size();
     }
 
     @Transactional
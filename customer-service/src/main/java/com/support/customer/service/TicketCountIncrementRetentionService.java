@@ -0,0 +1,53 @@
+package com.support.customer.service;
+
+import com.support.customer.repository.TicketCountIncrementRepository;
+import com.support.customer.service.interfaces.ITicketCountIncrementRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes {@code ticket_count_increments} rows once they are older than any replay the ledger guards against.
+ * The retention must stay well above the recovery pending timeout and the outbox lease.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketCountIncrementRetentionService implements ITicketCountIncrementRetentionService {
+
+    private final TicketCountIncrementRepository ticketCountIncrementRepository;
+
+    @Value("${customer.ticket-count-ledger.retention:7d}")
+    private Duration retention;
+
+    @Value("${customer.ticket-count-ledger.purge-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${customer.ticket-count-ledger.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${customer.ticket-count-ledger.purge-interval-ms:3600000}",
+            initialDelayString = "${customer.ticket-count-ledger.purge-interval-ms:3600000}")
+    public synchronized long purgeExpiredIncrements() {
+
+        LocalDateTime appliedBefore = LocalDateTime.now().minus(retention);
+        long purged = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int deleted = ticketCountIncrementRepository.deleteAppliedBefore(appliedBefore, batchSize);
+            purged += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("Purged {} ticket count increments applied before {}", purged, appliedBefore);
+        }
+        return purged;
+    }
+}
@@ -2,8 +2,11 @@ package com.support.customer.service.interfaces;
 
 import com.support.customer.model.Customer;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ICustomerService {
 
@@ -11,10 +14,20 @@ public interface ICustomerService {
 
     boolean existsByExternalId(String externalId);
 
+    Set<String> findExistingExternalIds(Collection<String> externalIds);
+
+    Optional<Long> findVersionByExternalId(String externalId);
+
     Customer createCustomer(String externalId, Customer customer);
 
     void incrementOpenTicketCount(String externalId);
 
+    void decrementOpenTicketCount(String externalId);
+
+    void incrementOpenTicketCounts(Map<String, Integer> increments);
+
+    int incrementOpenTicketCountsForTickets(Map<String, String> customerExternalIdByTicketId);
+
     Customer updateCustomer(String externalId, Customer customerUpdate);
 
     List<Customer> searchCustomers(String name, String email, String externalId);
@@ -0,0 +1,6 @@
+package com.support.customer.service.interfaces;
+
+public interface ITicketCountIncrementRetentionService {
+
+    long purgeExpiredIncrements();
+}
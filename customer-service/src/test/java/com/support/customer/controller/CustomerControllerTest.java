@@ -308,4 +308,53 @@ class CustomerControllerTest {
             SecurityContextHolder.clearContext();
         }
     }
+
+    @Test
+    void getCustomerByExternalId_Success_ReturnsVersionETag() throws Exception {
+        customer.setVersion(3);
+        when(customerService.findByExternalId("customer123")).thenReturn(Optional.of(customer));
+        when(customerMapper.toDTO(customer)).thenReturn(responseDTO);
+
+        mockMvc.perform(get("/api/customers/customer123"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.externalId").value("customer123"));
+
+        verify(customerService, never()).findVersionByExternalId(anyString());
+    }
+
+    @Test
+    void getCustomerByExternalId_MatchingIfNoneMatch_Returns304WithoutLoadingCustomer() throws Exception {
+        when(customerService.findVersionByExternalId("customer123")).thenReturn(Optional.of(3L));
+
+        mockMvc.perform(get("/api/customers/customer123")
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        verify(customerService, never()).findByExternalId(anyString());
+        verifyNoInteractions(customerMapper);
+    }
+
+    @Test
+    void getCustomerByExternalId_StaleIfNoneMatch_ReturnsFreshBody() throws Exception {
+        customer.setVersion(4);
+        when(customerService.findVersionByExternalId("customer123")).thenReturn(Optional.of(4L));
+        when(customerService.findByExternalId("customer123")).thenReturn(Optional.of(customer));
+        when(customerMapper.toDTO(customer)).thenReturn(responseDTO);
+
+        mockMvc.perform(get("/api/customers/customer123")
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void getCustomerByExternalId_UnknownWithIfNoneMatch_Returns404() throws Exception {
+        when(customerService.findVersionByExternalId("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/customers/missing")
+                        .header("If-None-Match", "\"1\""))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -2,6 +2,7 @@ package com.support.customer.service;
 
 import com.support.customer.model.Customer;
 import com.support.customer.repository.CustomerRepository;
+import com.support.customer.repository.TicketCountIncrementRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,10 +10,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -26,6 +30,9 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private TicketCountIncrementRepository ticketCountIncrementRepository;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -85,28 +92,100 @@ class CustomerServiceTest {
 
     @Test
     void incrementOpenTicketCount_Success() {
-        when(customerRepository.findByExternalId(externalId)).thenReturn(Optional.of(customer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(customer);
+        when(customerRepository.incrementOpenTicketCount(externalId)).thenReturn(1);
 
         customerService.incrementOpenTicketCount(externalId);
 
-        assertThat(customer.getOpenTicketCount()).isEqualTo(1);
-        verify(customerRepository).findByExternalId(externalId);
-        verify(customerRepository).save(customer);
+        verify(customerRepository).incrementOpenTicketCount(externalId);
+        verify(customerRepository, never()).findByExternalId(anyString());
+        verify(customerRepository, never()).save(any(Customer.class));
     }
 
     @Test
     void incrementOpenTicketCount_CustomerNotFound_ThrowsException() {
-        when(customerRepository.findByExternalId(externalId)).thenReturn(Optional.empty());
+        when(customerRepository.incrementOpenTicketCount(externalId)).thenReturn(0);
 
         assertThatThrownBy(() -> customerService.incrementOpenTicketCount(externalId))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("not found");
 
-        verify(customerRepository).findByExternalId(externalId);
         verify(customerRepository, never()).save(any(Customer.class));
     }
 
+    @Test
+    void decrementOpenTicketCount_Success() {
+        when(customerRepository.decrementOpenTicketCount(externalId)).thenReturn(1);
+
+        customerService.decrementOpenTicketCount(externalId);
+
+        verify(customerRepository).decrementOpenTicketCount(externalId);
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
+    @Test
+    void decrementOpenTicketCount_CustomerNotFound_ThrowsException() {
+        when(customerRepository.decrementOpenTicketCount(externalId)).thenReturn(0);
+
+        assertThatThrownBy(() -> customerService.decrementOpenTicketCount(externalId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+    }
+
+    @Test
+    void incrementOpenTicketCounts_AppliesAllDeltasInOneUpdate() {
+        Map<String, Integer> increments = Map.of("customer123", 3, "customer456", 1);
+        when(customerRepository.addOpenTicketCounts(increments)).thenReturn(2);
+
+        customerService.incrementOpenTicketCounts(increments);
+
+        verify(customerRepository).addOpenTicketCounts(increments);
+        verify(customerRepository, never()).findByExternalId(anyString());
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
+    @Test
+    void incrementOpenTicketCounts_MissingCustomer_ThrowsException() {
+        Map<String, Integer> increments = Map.of("customer123", 3, "customer456", 1);
+        when(customerRepository.addOpenTicketCounts(increments)).thenReturn(1);
+
+        assertThatThrownBy(() -> customerService.incrementOpenTicketCounts(increments))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+    }
+
+    @Test
+    void incrementOpenTicketCountsForTickets_SkipsTicketsAlreadyApplied() {
+        when(ticketCountIncrementRepository.findAppliedTicketIds(Set.of("t1", "t2", "t3"))).thenReturn(List.of("t1"));
+        when(customerRepository.addOpenTicketCounts(Map.of("customer123", 1, "customer456", 1))).thenReturn(2);
+
+        int applied = customerService.incrementOpenTicketCountsForTickets(
+                Map.of("t1", "customer123", "t2", "customer123", "t3", "customer456"));
+
+        assertThat(applied).isEqualTo(2);
+        verify(ticketCountIncrementRepository).insertAll(eq(Map.of("t2", "customer123", "t3", "customer456")),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void incrementOpenTicketCountsForTickets_AllApplied_LeavesCountsUntouched() {
+        when(ticketCountIncrementRepository.findAppliedTicketIds(Set.of("t1"))).thenReturn(List.of("t1"));
+
+        int applied = customerService.incrementOpenTicketCountsForTickets(Map.of("t1", "customer123"));
+
+        assertThat(applied).isZero();
+        verify(ticketCountIncrementRepository, never()).insertAll(anyMap(), any(LocalDateTime.class));
+        verify(customerRepository, never()).addOpenTicketCounts(anyMap());
+    }
+
+    @Test
+    void findExistingExternalIds_ReturnsMatchesFromSingleQuery() {
+        List<String> externalIds = List.of("customer123", "missing");
+        when(customerRepository.findExistingExternalIds(externalIds)).thenReturn(List.of("customer123"));
+
+        assertThat(customerService.findExistingExternalIds(externalIds)).containsExactly("customer123");
+        verify(customerRepository, never()).findByExternalId(anyString());
+    }
+
     @Test
     void updateCustomer_Success() {
         Customer updateData = Customer.builder()
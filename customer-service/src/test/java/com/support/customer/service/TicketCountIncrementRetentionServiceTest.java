@@ -0,0 +1,59 @@
+package com.support.customer.service;
+
+import com.support.customer.repository.TicketCountIncrementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketCountIncrementRetentionServiceTest {
+
+    @Mock
+    private TicketCountIncrementRepository ticketCountIncrementRepository;
+
+    @InjectMocks
+    private TicketCountIncrementRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(retentionService, "retention", Duration.ofDays(7));
+        ReflectionTestUtils.setField(retentionService, "batchSize", 2);
+        ReflectionTestUtils.setField(retentionService, "maxBatchesPerRun", 5);
+    }
+
+    @Test
+    void purgeExpiredIncrements_DeletesInBatchesUntilAShortBatch() {
+        when(ticketCountIncrementRepository.deleteAppliedBefore(any(LocalDateTime.class), eq(2)))
+                .thenReturn(2, 2, 1);
+
+        long purged = retentionService.purgeExpiredIncrements();
+
+        assertThat(purged).isEqualTo(5);
+        ArgumentCaptor<LocalDateTime> cutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(ticketCountIncrementRepository, times(3)).deleteAppliedBefore(cutoffCaptor.capture(), eq(2));
+        assertThat(cutoffCaptor.getValue()).isBefore(LocalDateTime.now().minusDays(7).plusMinutes(1));
+    }
+
+    @Test
+    void purgeExpiredIncrements_StopsAtMaxBatchesPerRun() {
+        when(ticketCountIncrementRepository.deleteAppliedBefore(any(LocalDateTime.class), eq(2))).thenReturn(2);
+
+        long purged = retentionService.purgeExpiredIncrements();
+
+        assertThat(purged).isEqualTo(10);
+        verify(ticketCountIncrementRepository, times(5)).deleteAppliedBefore(any(LocalDateTime.class), eq(2));
+    }
+}
@@ -0,0 +1,142 @@
+package com.support.ticket.config;
+
+import com.support.ticket.constants.TicketArchive;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketCommentBucket;
+import com.support.ticket.model.TicketEventBucket;
+import com.support.ticket.model.TicketRollup;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.service.interfaces.ITicketService;
+import com.support.ticket.service.interfaces.ITicketSlaService;
+import com.mongodb.client.result.UpdateResult;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketCollectionInitializer {
+
+    private static final List<Class<?>> INDEXED_ENTITIES =
+            List.of(Ticket.class, TicketCommentBucket.class, TicketEventBucket.class, TicketRollup.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ITicketService ticketService;
+    private final ITicketSlaService ticketSlaService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ticket-collection-init");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeInBackground() {
+        CompletableFuture.runAsync(() -> {
+                    ensureIndexes();
+                    backfillPriorityRank();
+                    migrateEmbeddedHistory();
+                    ticketSlaService.seed();
+                }, executor)
+                .exceptionally(e -> {
+                    log.error("Ticket collection initialization failed", e);
+                    return null;
+                });
+    }
+
+    public Set<String> ensureIndexes() {
+
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        IndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        Set<String> missing = new LinkedHashSet<>();
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            ensureIndexes(indexResolver, entity, mongoTemplate.getCollectionName(entity), missing);
+        }
+        ensureIndexes(indexResolver, Ticket.class, TicketArchive.COLLECTION, missing);
+
+        if (!missing.isEmpty()) {
+            log.warn("Indexes missing after startup creation: {}", missing);
+        }
+        return missing;
+    }
+
+    private void ensureIndexes(IndexResolver indexResolver, Class<?> entity, String collection, Set<String> missing) {
+
+        IndexOperations indexOps = mongoTemplate.indexOps(collection);
+
+        Set<String> declared = new LinkedHashSet<>();
+        for (IndexDefinition index : indexResolver.resolveIndexFor(entity)) {
+            declared.add(indexOps.ensureIndex(index));
+        }
+
+        Set<String> existing = indexOps.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+        declared.stream()
+                .filter(name -> !existing.contains(name))
+                .forEach(name -> missing.add(collection + "." + name));
+        log.info("Ensured {} declared indexes on {}: {}", declared.size(), collection, declared);
+    }
+
+    public void backfillPriorityRank() {
+
+        for (Priority priority : Priority.values()) {
+            Query query = Query.query(Criteria.where("priority").is(priority).and("priorityRank").exists(false));
+            UpdateResult result = mongoTemplate.updateMulti(query,
+                    Update.update("priorityRank", priority.ordinal()), Ticket.class);
+            if (result.getModifiedCount() > 0) {
+                log.info("Backfilled priorityRank on {} {} tickets", result.getModifiedCount(), priority);
+            }
+        }
+    }
+
+    public void migrateEmbeddedHistory() {
+
+        Query query = Query.query(new Criteria().orOperator(
+                Criteria.where("commentCount").exists(false),
+                Criteria.where("eventCount").exists(false)));
+
+        long migrated = 0;
+        try (Stream<Ticket> tickets = mongoTemplate.stream(query, Ticket.class)) {
+            Iterator<Ticket> iterator = tickets.iterator();
+            while (iterator.hasNext()) {
+                if (ticketService.migrateHistory(iterator.next())) {
+                    migrated++;
+                }
+            }
+        }
+        if (migrated > 0) {
+            log.info("Moved embedded comments and events into buckets for {} tickets", migrated);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,34 @@
+package com.support.ticket.config;
+
+import com.mongodb.ReadPreference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class TicketMongoReadConfig {
+
+    public static final String SECONDARY_TEMPLATE = "secondaryMongoTemplate";
+
+    @Bean
+    @Primary
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter) {
+        return new MongoTemplate(mongoDatabaseFactory, mongoConverter);
+    }
+
+    @Bean(SECONDARY_TEMPLATE)
+    public MongoTemplate secondaryMongoTemplate(MongoDatabaseFactory mongoDatabaseFactory,
+                                                MongoConverter mongoConverter,
+                                                @Value("${ticket.reads.max-staleness:90s}") Duration maxStaleness) {
+        MongoTemplate template = new MongoTemplate(mongoDatabaseFactory, mongoConverter);
+        template.setReadPreference(ReadPreference.secondaryPreferred(maxStaleness.toSeconds(), TimeUnit.SECONDS));
+        return template;
+    }
+}
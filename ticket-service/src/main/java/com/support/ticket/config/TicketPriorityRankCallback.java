@@ -0,0 +1,17 @@
+package com.support.ticket.config;
+
+import com.support.ticket.model.Ticket;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TicketPriorityRankCallback implements BeforeConvertCallback<Ticket> {
+
+    @Override
+    public Ticket onBeforeConvert(Ticket ticket, String collection) {
+        if (ticket.getPriority() != null) {
+            ticket.setPriorityRank(ticket.getPriority().ordinal());
+        }
+        return ticket;
+    }
+}
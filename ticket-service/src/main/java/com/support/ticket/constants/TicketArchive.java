@@ -0,0 +1,10 @@
+package com.support.ticket.constants;
+
+public final class TicketArchive {
+
+    public static final String COLLECTION = "tickets_archive";
+
+    private TicketArchive() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
@@ -0,0 +1,10 @@
+package com.support.ticket.constants;
+
+public final class TicketBatch {
+
+    public static final int MAX_ITEMS = 1000;
+
+    private TicketBatch() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
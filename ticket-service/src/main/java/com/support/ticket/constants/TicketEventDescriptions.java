@@ -5,6 +5,9 @@ public final class TicketEventDescriptions {
     public static final String TICKET_CREATED = "Ticket created";
     public static final String TICKET_COUNT_INCREMENTED = "Ticket count incremented in MySQL";
     public static final String TICKET_COUNT_INCREMENTED_RECOVERED = "Ticket count incremented in MySQL (recovered)";
+    public static final String TICKET_COUNT_DECREMENTED_RECOVERED = "Ticket count decremented in MySQL (recovered)";
+    public static final String STATUS_CHANGED_FROM = "Status changed from ";
+    public static final String STATUS_CHANGED_TO = " to ";
 
     private TicketEventDescriptions() {
         throw new UnsupportedOperationException("Utility class");
@@ -0,0 +1,11 @@
+package com.support.ticket.constants;
+
+public final class TicketHistory {
+
+    public static final int BUCKET_SIZE = 100;
+    public static final int RECENT_ENTRIES = 10;
+
+    private TicketHistory() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
@@ -0,0 +1,14 @@
+package com.support.ticket.constants;
+
+public final class TicketPagination {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int STREAM_BATCH_SIZE = 500;
+    public static final int SEARCH_BATCH_SIZE = 500;
+    public static final int SEARCH_MAX_CANDIDATES = 2000;
+
+    private TicketPagination() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
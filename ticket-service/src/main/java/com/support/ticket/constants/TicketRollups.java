@@ -0,0 +1,12 @@
+package com.support.ticket.constants;
+
+public final class TicketRollups {
+
+    public static final int MAX_HISTOGRAM_BUCKETS = 2400;
+    public static final String CREATED = "created";
+    public static final String RESOLVED = "resolved";
+
+    private TicketRollups() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
@@ -1,30 +1,68 @@
 package com.support.ticket.controller;
 
+import com.support.ticket.constants.TicketPagination;
 import com.support.ticket.mapper.TicketMapper;
+import com.support.ticket.model.dto.TicketBatchItemRequestDTO;
+import com.support.ticket.model.dto.TicketBatchItemResponseDTO;
+import com.support.ticket.model.dto.TicketBatchRequestDTO;
+import com.support.ticket.model.dto.TicketBatchResponseDTO;
+import com.support.ticket.model.dto.TicketBulkStatusRequestDTO;
+import com.support.ticket.model.dto.TicketBulkStatusResponseDTO;
+import com.support.ticket.model.dto.TicketChangesResponseDTO;
+import com.support.ticket.model.dto.TicketPageResponseDTO;
 import com.support.ticket.model.dto.TicketRequestDTO;
 import com.support.ticket.model.dto.TicketResponseDTO;
 import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBatchItemResult;
+import com.support.ticket.model.TicketBulkStatusResult;
+import com.support.ticket.model.TicketChanges;
+import com.support.ticket.model.TicketComment;
+import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketPage;
+import com.support.ticket.model.TicketSummary;
+import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketBatchItemStatus;
 import com.support.ticket.model.enums.TicketStatus;
 import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketSortField;
 import com.support.ticket.service.interfaces.ITicketCreationOrchestrator;
 import com.support.ticket.service.interfaces.ITicketService;
 import com.support.ticket.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -32,9 +70,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TicketController {
 
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+    private static final String ORDER_OLDEST = "oldest";
+    private static final String ORDER_NEWEST = "newest";
+    private static final String STREAM_TIMEOUT_INTERCEPTOR = TicketController.class.getName() + ".streamTimeout";
+
     private final ITicketCreationOrchestrator ticketCreationOrchestrator;
     private final ITicketService ticketService;
     private final TicketMapper ticketMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ticket.export.request-timeout:10m}")
+    private Duration streamTimeout;
 
     @PostMapping
     @PreAuthorize("@roles.hasAnyTicketCreateRole(authentication)")
@@ -66,7 +114,10 @@ public class TicketController {
             log.info("Ticket created successfully: ticketId={}, customerId={}", 
                 createdTicket.getId(), externalId);
 
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            HttpStatus status = createdTicket.getSyncStatus() == SyncStatus.PENDING
+                    ? HttpStatus.ACCEPTED
+                    : HttpStatus.CREATED;
+            return ResponseEntity.status(status).body(response);
             
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -75,63 +126,258 @@ public class TicketController {
         }
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("@roles.hasAnyTicketCreateRole(authentication)")
+    public ResponseEntity<TicketBatchResponseDTO> createTickets(
+            @Valid @RequestBody TicketBatchRequestDTO batchRequest,
+            Authentication authentication) {
+
+        if (authentication == null) {
+            authentication = SecurityContextHolder.getContext().getAuthentication();
+        }
+        String externalId = getExternalIdFromAuthentication(authentication);
+        if (authentication != null && authentication.getAuthorities() != null &&
+            authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_CUSTOMER"))) {
+            boolean foreignTicket = batchRequest.getTickets().stream()
+                    .anyMatch(item -> !item.getTicket().getCustomerExternalId().equals(externalId));
+            if (foreignTicket) {
+                log.warn("Customer {} attempted to batch-create tickets for a different customer", externalId);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+        }
+
+        try {
+            List<Ticket> tickets = batchRequest.getTickets().stream()
+                    .map(this::toBatchTicket)
+                    .collect(Collectors.toList());
+            List<TicketBatchItemResult> results = ticketCreationOrchestrator.createTickets(tickets);
+
+            List<TicketBatchItemResponseDTO> items = results.stream()
+                    .map(ticketMapper::toBatchItemDTO)
+                    .collect(Collectors.toList());
+            TicketBatchResponseDTO response = TicketBatchResponseDTO.builder()
+                    .created(countByStatus(results, TicketBatchItemStatus.CREATED))
+                    .duplicates(countByStatus(results, TicketBatchItemStatus.DUPLICATE))
+                    .rejected(countByStatus(results, TicketBatchItemStatus.REJECTED))
+                    .failed(countByStatus(results, TicketBatchItemStatus.FAILED))
+                    .results(items)
+                    .build();
+            log.info("Ticket batch created by {}: size={}, created={}", externalId, results.size(), response.getCreated());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            log.error("Ticket batch failed: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping
     @PreAuthorize("@roles.hasAnyTicketReadAllRole(authentication)")
-    public ResponseEntity<List<TicketResponseDTO>> getTickets(
+    public ResponseEntity<TicketPageResponseDTO<?>> getTickets(
             @RequestParam(required = false) TicketStatus status,
             @RequestParam(required = false) Priority priority,
             @RequestParam(required = false) String customerExternalId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate,
+            @RequestParam(required = false) TicketSortField sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        TicketFilter filter = TicketFilter.builder()
+                .status(status)
+                .priority(priority)
+                .customerExternalId(customerExternalId)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .includeArchived(includeArchived)
+                .build();
 
-        List<Ticket> tickets = ticketService.findTickets(status, priority, customerExternalId, fromDate, toDate);
-        List<TicketResponseDTO> response = tickets.stream()
-                .map(ticketMapper::toDTO)
-                .collect(Collectors.toList());
-                
-        return ResponseEntity.ok(response);
+        try {
+            return ResponseEntity.ok(findPage(filter, view, sort, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("@roles.hasAnyTicketReadAllRole(authentication)")
+    public ResponseEntity<StreamingResponseBody> streamTickets(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) String customerExternalId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest webRequest) {
+
+        TicketFilter filter = TicketFilter.builder()
+                .status(status)
+                .priority(priority)
+                .customerExternalId(customerExternalId)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .includeArchived(includeArchived)
+                .build();
+
+        long timeout = streamTimeout.toMillis();
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(STREAM_TIMEOUT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                        ((AsyncWebRequest) request).setTimeout(timeout);
+                    }
+                });
+
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            long written = 0;
+            try (Stream<Ticket> tickets = ticketService.streamTickets(filter);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                Iterator<Ticket> iterator = tickets.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, ticketMapper.toDTO(iterator.next()));
+                    generator.writeRaw('\n');
+                    if (++written % TicketPagination.STREAM_BATCH_SIZE == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+            log.info("Streamed {} tickets as NDJSON", written);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("@roles.hasAnyTicketReadAllRole(authentication)")
+    public ResponseEntity<TicketPageResponseDTO<TicketResponseDTO>> searchTickets(
+            @RequestParam String q,
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) String customerExternalId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        TicketFilter filter = TicketFilter.builder()
+                .status(status)
+                .priority(priority)
+                .customerExternalId(customerExternalId)
+                .build();
+
+        try {
+            TicketPage<Ticket> page = ticketService.searchTickets(q, filter, cursor, limit);
+            return ResponseEntity.ok(toPageResponse(page, ticketMapper::toDTO));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("@roles.hasAnyTicketReadRole(authentication)")
+    public ResponseEntity<TicketChangesResponseDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) String customerExternalId,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+
+        if (authentication == null) {
+            authentication = SecurityContextHolder.getContext().getAuthentication();
+        }
+        if (authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_CUSTOMER"))) {
+            customerExternalId = getExternalIdFromAuthentication(authentication);
+        }
+
+        try {
+            TicketChanges changes = ticketService.findChanges(customerExternalId, since, limit);
+            TicketChangesResponseDTO response = TicketChangesResponseDTO.builder()
+                    .changed(changes.getItems().stream()
+                            .filter(summary -> !summary.getStatus().isTerminal())
+                            .map(ticketMapper::toSummaryDTO)
+                            .collect(Collectors.toList()))
+                    .tombstones(changes.getItems().stream()
+                            .filter(summary -> summary.getStatus().isTerminal())
+                            .map(ticketMapper::toTombstoneDTO)
+                            .collect(Collectors.toList()))
+                    .watermark(changes.getWatermark())
+                    .hasMore(changes.isHasMore())
+                    .build();
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     @GetMapping("/me")
     @PreAuthorize("@roles.hasCustomerReadOwnRole(authentication)")
-    public ResponseEntity<List<TicketResponseDTO>> getOwnTickets(
+    public ResponseEntity<TicketPageResponseDTO<?>> getOwnTickets(
             Authentication authentication,
             @RequestParam(required = false) TicketStatus status,
-            @RequestParam(required = false) Priority priority) {
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) TicketSortField sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
 
+        if (authentication == null) {
+            authentication = SecurityContextHolder.getContext().getAuthentication();
+        }
         String customerExternalId = getExternalIdFromAuthentication(authentication);
 
-        List<Ticket> tickets = ticketService.findTicketsByCustomer(customerExternalId, status, priority);
-
-        List<TicketResponseDTO> response = tickets.stream()
-                .map(ticketMapper::toDTO)
-                .collect(Collectors.toList());
+        TicketFilter filter = TicketFilter.builder()
+                .customerExternalId(customerExternalId)
+                .status(status)
+                .priority(priority)
+                .includeArchived(includeArchived)
+                .build();
 
-        return ResponseEntity.ok(response);
+        try {
+            return ResponseEntity.ok(findPage(filter, view, sort, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("@roles.hasAnyTicketReadRole(authentication)")
     public ResponseEntity<TicketResponseDTO> getTicketById(
             @PathVariable String id,
-            Authentication authentication) {
-
-        Ticket ticket = ticketService.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Ticket not found"));
+            Authentication authentication,
+            WebRequest request) {
 
         if (authentication == null) {
             authentication = SecurityContextHolder.getContext().getAuthentication();
         }
         String externalId = getExternalIdFromAuthentication(authentication);
+        boolean isCustomer = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_CUSTOMER"));
 
-        if (authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_CUSTOMER"))) {
-            if (!ticket.getCustomerExternalId().equals(externalId)) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Ticket header = ticketService.findVersionHeader(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Ticket not found"));
+            if (isCustomer && !header.getCustomerExternalId().equals(externalId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
+            if (request.checkNotModified(header.entityTag())) {
+                return null;
+            }
+        }
+
+        Ticket ticket = ticketService.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket not found"));
+
+        if (isCustomer && !ticket.getCustomerExternalId().equals(externalId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
         TicketResponseDTO response = ticketMapper.toDTO(ticket);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ticket.entityTag())
+                .body(response);
     }
 
     @PostMapping("/{id}/comments")
@@ -167,11 +413,38 @@ public class TicketController {
         }
     }
 
+    @GetMapping("/{id}/comments")
+    @PreAuthorize("@roles.hasAnyTicketReadRole(authentication)")
+    public ResponseEntity<TicketPageResponseDTO<TicketComment>> getComments(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = ORDER_OLDEST) String order,
+            Authentication authentication) {
+
+        return getHistoryPage(id, order, authentication,
+                (header, newestFirst) -> ticketService.findComments(header, cursor, limit, newestFirst));
+    }
+
+    @GetMapping("/{id}/events")
+    @PreAuthorize("@roles.hasAnyTicketReadRole(authentication)")
+    public ResponseEntity<TicketPageResponseDTO<TicketEvent>> getEvents(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = ORDER_OLDEST) String order,
+            Authentication authentication) {
+
+        return getHistoryPage(id, order, authentication,
+                (header, newestFirst) -> ticketService.findEvents(header, cursor, limit, newestFirst));
+    }
+
     @PutMapping("/{id}/status")
     @PreAuthorize("@roles.hasAnyTicketUpdateStatusRole(authentication)")
     public ResponseEntity<TicketResponseDTO> updateStatus(
             @PathVariable String id,
             @RequestBody TicketStatus newStatus,
+            @RequestParam(required = false) TicketStatus expectedStatus,
             Authentication authentication) {
 
         try {
@@ -181,10 +454,10 @@ public class TicketController {
             }
             String performedBy = getExternalIdFromAuthentication(authentication);
 
-            log.info("Updating ticket status: ticketId={}, newStatus={}, performedBy={}", 
-                id, newStatus, performedBy);
+            log.info("Updating ticket status: ticketId={}, newStatus={}, expectedStatus={}, performedBy={}", 
+                id, newStatus, expectedStatus, performedBy);
 
-            Ticket updatedTicket = ticketService.updateStatus(id, newStatus, performedBy);
+            Ticket updatedTicket = ticketService.updateStatus(id, newStatus, expectedStatus, performedBy);
             TicketResponseDTO response = ticketMapper.toDTO(updatedTicket);
             
             return ResponseEntity.ok(response);
@@ -194,6 +467,100 @@ public class TicketController {
         }
     }
 
+    @PutMapping("/status")
+    @PreAuthorize("@roles.hasAnyTicketUpdateStatusRole(authentication)")
+    public ResponseEntity<TicketBulkStatusResponseDTO> updateStatuses(
+            @Valid @RequestBody TicketBulkStatusRequestDTO bulkRequest,
+            Authentication authentication) {
+
+        if (authentication == null) {
+            authentication = SecurityContextHolder.getContext().getAuthentication();
+        }
+        String performedBy = getExternalIdFromAuthentication(authentication);
+        if ((bulkRequest.getTicketIds() == null) == (bulkRequest.getFilter() == null)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
+        try {
+            log.info("Bulk updating ticket status: ids={}, filter={}, newStatus={}, performedBy={}",
+                bulkRequest.getTicketIds() != null ? bulkRequest.getTicketIds().size() : null,
+                bulkRequest.getFilter(), bulkRequest.getStatus(), performedBy);
+
+            TicketBulkStatusResult result = ticketService.updateStatuses(bulkRequest.getTicketIds(),
+                    bulkRequest.getFilter(), bulkRequest.getStatus(), performedBy);
+            return ResponseEntity.ok(ticketMapper.toBulkStatusDTO(result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    private TicketPageResponseDTO<?> findPage(TicketFilter filter, String view, TicketSortField sort,
+                                              String cursor, Integer limit) {
+
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            TicketPage<TicketSummary> page = ticketService.findTicketSummaryPage(filter, sort, cursor, limit);
+            return toPageResponse(page, ticketMapper::toSummaryDTO);
+        }
+        if (!VIEW_FULL.equalsIgnoreCase(view)) {
+            throw new IllegalArgumentException("Unknown view: " + view);
+        }
+
+        TicketPage<Ticket> page = ticketService.findTicketPage(filter, sort, cursor, limit);
+        return toPageResponse(page, ticketMapper::toDTO);
+    }
+
+    private <T> ResponseEntity<TicketPageResponseDTO<T>> getHistoryPage(
+            String id, String order, Authentication authentication,
+            BiFunction<Ticket, Boolean, TicketPage<T>> pageLoader) {
+
+        Ticket header = ticketService.findHistoryHeader(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket not found"));
+
+        if (authentication == null) {
+            authentication = SecurityContextHolder.getContext().getAuthentication();
+        }
+        String externalId = getExternalIdFromAuthentication(authentication);
+
+        if (authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_CUSTOMER"))) {
+            if (!header.getCustomerExternalId().equals(externalId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+        }
+
+        try {
+            boolean newestFirst;
+            if (ORDER_NEWEST.equalsIgnoreCase(order)) {
+                newestFirst = true;
+            } else if (ORDER_OLDEST.equalsIgnoreCase(order)) {
+                newestFirst = false;
+            } else {
+                throw new IllegalArgumentException("Unknown order: " + order);
+            }
+            return ResponseEntity.ok(toPageResponse(pageLoader.apply(header, newestFirst), Function.identity()));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid history page request for ticket {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    private <T, D> TicketPageResponseDTO<D> toPageResponse(TicketPage<T> page, Function<T, D> toDTO) {
+        List<D> items = page.getItems().stream()
+                .map(toDTO)
+                .collect(Collectors.toList());
+        return new TicketPageResponseDTO<>(items, page.getNextCursor());
+    }
+
+    private Ticket toBatchTicket(TicketBatchItemRequestDTO item) {
+        Ticket ticket = ticketMapper.toEntity(item.getTicket());
+        ticket.setIdempotencyKey(item.getIdempotencyKey());
+        return ticket;
+    }
+
+    private static int countByStatus(List<TicketBatchItemResult> results, TicketBatchItemStatus status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
     private String getExternalIdFromAuthentication(Authentication authentication) {
 
         if (authentication.getPrincipal() instanceof Jwt jwt) {
@@ -0,0 +1,38 @@
+package com.support.ticket.controller;
+
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.service.interfaces.ITicketFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/tickets/feed")
+@RequiredArgsConstructor
+public class TicketFeedController {
+
+    private final ITicketFeedService ticketFeedService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@roles.hasAnyTicketReadAllRole(authentication)")
+    public SseEmitter subscribe(
+            @RequestParam(required = false) String customerExternalId,
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) Priority priority) {
+
+        TicketFilter filter = TicketFilter.builder()
+                .customerExternalId(customerExternalId)
+                .status(status)
+                .priority(priority)
+                .build();
+
+        return ticketFeedService.subscribe(filter);
+    }
+}
@@ -0,0 +1,99 @@
+package com.support.ticket.controller;
+
+import com.support.ticket.model.TicketCacheStats;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketHistogram;
+import com.support.ticket.model.TicketSlaReport;
+import com.support.ticket.model.TicketStats;
+import com.support.ticket.model.enums.RollupGranularity;
+import com.support.ticket.service.interfaces.ITicketCounterService;
+import com.support.ticket.service.interfaces.ITicketRollupService;
+import com.support.ticket.service.interfaces.ITicketService;
+import com.support.ticket.service.interfaces.ITicketSlaService;
+import com.support.ticket.service.interfaces.ITicketStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/tickets/stats")
+@RequiredArgsConstructor
+public class TicketStatsController {
+
+    private final ITicketStatsService ticketStatsService;
+    private final ITicketCounterService ticketCounterService;
+    private final ITicketRollupService ticketRollupService;
+    private final ITicketSlaService ticketSlaService;
+    private final ITicketService ticketService;
+
+    @GetMapping
+    @PreAuthorize("@roles.hasAnyTicketReadAllRole(authentication)")
+    public ResponseEntity<TicketStats> getStats(
+            @RequestParam(required = false) String customerExternalId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate) {
+
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        TicketFilter filter = TicketFilter.builder()
+                .customerExternalId(customerExternalId)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .build();
+
+        return ResponseEntity.ok(ticketStatsService.getStats(filter));
+    }
+
+    @GetMapping("/live")
+    @PreAuthorize("@roles.hasAnyTicketReadAllRole(authentication)")
+    public ResponseEntity<TicketStats> getLiveCounts() {
+
+        if (!ticketCounterService.isSeeded()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(ticketCounterService.getCounts());
+    }
+
+    @GetMapping("/sla")
+    @PreAuthorize("@roles.hasAnyTicketReadAllRole(authentication)")
+    public ResponseEntity<TicketSlaReport> getSlaReport() {
+
+        if (!ticketSlaService.isSeeded()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(ticketSlaService.getReport());
+    }
+
+    @GetMapping("/cache")
+    @PreAuthorize("@roles.hasAnyTicketReadAllRole(authentication)")
+    public ResponseEntity<TicketCacheStats> getCacheStats() {
+        return ResponseEntity.ok(ticketService.getCacheStats());
+    }
+
+    @GetMapping("/histogram")
+    @PreAuthorize("@roles.hasAnyTicketReadAllRole(authentication)")
+    public ResponseEntity<TicketHistogram> getHistogram(
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate) {
+
+        try {
+            return ResponseEntity.ok(ticketRollupService.getHistogram(granularity, fromDate, toDate));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid histogram request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.support.ticket.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TicketArchivedException extends RuntimeException {
+
+    private final String ticketId;
+
+    public TicketArchivedException(String ticketId) {
+        super("Ticket " + ticketId + " is archived and cannot be changed");
+        this.ticketId = ticketId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.support.ticket.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TicketFeedFullException extends RuntimeException {
+
+    private final int maxSubscribers;
+
+    public TicketFeedFullException(int maxSubscribers) {
+        super("Ticket feed is at its limit of " + maxSubscribers + " subscribers");
+        this.maxSubscribers = maxSubscribers;
+    }
+}
@@ -0,0 +1,19 @@
+package com.support.ticket.exception;
+
+import com.support.ticket.model.enums.TicketStatus;
+import lombok.Getter;
+
+@Getter
+public class TicketStatusConflictException extends RuntimeException {
+
+    private final String ticketId;
+    private final TicketStatus currentStatus;
+    private final TicketStatus requestedStatus;
+
+    public TicketStatusConflictException(String ticketId, TicketStatus currentStatus, TicketStatus requestedStatus) {
+        super("Ticket " + ticketId + " is " + currentStatus + " and cannot move to " + requestedStatus);
+        this.ticketId = ticketId;
+        this.currentStatus = currentStatus;
+        this.requestedStatus = requestedStatus;
+    }
+}
@@ -1,8 +1,15 @@
 package com.support.ticket.mapper;
 
 import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBatchItemResult;
+import com.support.ticket.model.TicketBulkStatusResult;
+import com.support.ticket.model.TicketSummary;
+import com.support.ticket.model.dto.TicketBatchItemResponseDTO;
+import com.support.ticket.model.dto.TicketBulkStatusResponseDTO;
 import com.support.ticket.model.dto.TicketRequestDTO;
 import com.support.ticket.model.dto.TicketResponseDTO;
+import com.support.ticket.model.dto.TicketSummaryDTO;
+import com.support.ticket.model.dto.TicketTombstoneDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -11,13 +18,32 @@ public interface TicketMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "idempotencyKey", ignore = true)
+    @Mapping(target = "priorityRank", ignore = true)
     @Mapping(target = "syncStatus", ignore = true)
+    @Mapping(target = "outbox", ignore = true)
+    @Mapping(target = "pendingOpenTicketDelta", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "statusChangedAt", ignore = true)
+    @Mapping(target = "resolvedAt", ignore = true)
+    @Mapping(target = "timeInStatusMillis", ignore = true)
     @Mapping(target = "comments", ignore = true)
     @Mapping(target = "events", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "eventCount", ignore = true)
+    @Mapping(target = "pendingComments", ignore = true)
+    @Mapping(target = "pendingEvents", ignore = true)
     Ticket toEntity(TicketRequestDTO dto);
 
     TicketResponseDTO toDTO(Ticket ticket);
+
+    TicketSummaryDTO toSummaryDTO(TicketSummary summary);
+
+    TicketTombstoneDTO toTombstoneDTO(TicketSummary summary);
+
+    TicketBatchItemResponseDTO toBatchItemDTO(TicketBatchItemResult result);
+
+    TicketBulkStatusResponseDTO toBulkStatusDTO(TicketBulkStatusResult result);
 }
 
@@ -1,5 +1,6 @@
 package com.support.ticket.model;
 
+import com.support.ticket.constants.TicketHistory;
 import com.support.ticket.model.enums.Priority;
 import com.support.ticket.model.enums.SyncStatus;
 import com.support.ticket.model.enums.TicketStatus;
@@ -10,14 +11,34 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Document(collection = "tickets")
+@CompoundIndexes({
+    @CompoundIndex(name = "customer_status_priority_createdAt_id_idx",
+            def = "{'customerExternalId': 1, 'status': 1, 'priority': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "customer_createdAt_id_idx", def = "{'customerExternalId': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "status_priority_createdAt_id_idx",
+            def = "{'status': 1, 'priority': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "priority_createdAt_id_idx", def = "{'priority': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "createdAt_id_idx", def = "{'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "priorityRank_createdAt_id_idx", def = "{'priorityRank': -1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "updatedAt_id_idx", def = "{'updatedAt': 1, '_id': 1}"),
+    @CompoundIndex(name = "customer_updatedAt_id_idx", def = "{'customerExternalId': 1, 'updatedAt': 1, '_id': 1}"),
+    @CompoundIndex(name = "outbox_availableAt_idx", def = "{'outbox.availableAt': 1}", sparse = true)
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,14 +48,15 @@ public class Ticket {
     @Id
     private String id;
 
-    @Indexed
     @NotBlank(message = "Customer external ID is required")
     private String customerExternalId;
 
     @NotBlank(message = "Title is required")
+    @TextIndexed(weight = 3)
     private String title;
 
     @NotBlank(message = "Description is required")
+    @TextIndexed
     private String description;
 
     @NotNull(message = "Status is required")
@@ -45,38 +67,109 @@ public class Ticket {
     @Builder.Default
     private Priority priority = Priority.MEDIUM;
 
+    private Integer priorityRank;
+
     @Indexed(unique = true)
     private String idempotencyKey;
 
+    @Indexed
     @Builder.Default
     private SyncStatus syncStatus = SyncStatus.SYNCED;
 
+    private TicketOutboxEntry outbox;
+
+    private Integer pendingOpenTicketDelta;
+
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    private Long version;
+
+    private LocalDateTime statusChangedAt;
+
+    @Indexed
+    private LocalDateTime resolvedAt;
+
+    @Builder.Default
+    private Map<TicketStatus, Long> timeInStatusMillis = new HashMap<>();
+
     @Builder.Default
     private List<TicketComment> comments = new ArrayList<>();
 
     @Builder.Default
     private List<TicketEvent> events = new ArrayList<>();
 
+    private Integer commentCount;
+
+    private Integer eventCount;
+
+    @Transient
+    @Builder.Default
+    private List<TicketComment> pendingComments = new ArrayList<>();
+
+    @Transient
+    @Builder.Default
+    private List<TicketEvent> pendingEvents = new ArrayList<>();
+
     public void addComment(TicketComment comment) {
-        if (this.comments == null) {
-            this.comments = new ArrayList<>();
-        }
+        normalizeHistory();
         this.comments.add(comment);
+        this.pendingComments.add(comment);
+        this.commentCount++;
+        trimToRecent(this.comments);
         this.updatedAt = LocalDateTime.now();
     }
 
     public void addEvent(TicketEvent event) {
+        normalizeHistory();
+        this.events.add(event);
+        this.pendingEvents.add(event);
+        this.eventCount++;
+        trimToRecent(this.events);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void normalizeHistory() {
+        if (this.comments == null) {
+            this.comments = new ArrayList<>();
+        }
         if (this.events == null) {
             this.events = new ArrayList<>();
         }
-        this.events.add(event);
-        this.updatedAt = LocalDateTime.now();
+        if (this.pendingComments == null) {
+            this.pendingComments = new ArrayList<>();
+        }
+        if (this.pendingEvents == null) {
+            this.pendingEvents = new ArrayList<>();
+        }
+        if (this.commentCount == null) {
+            this.commentCount = this.comments.size();
+            this.pendingComments.addAll(0, this.comments);
+            trimToRecent(this.comments);
+        }
+        if (this.eventCount == null) {
+            this.eventCount = this.events.size();
+            this.pendingEvents.addAll(0, this.events);
+            trimToRecent(this.events);
+        }
+    }
+
+    public String entityTag() {
+        long millis = updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+        return (version != null ? version : 0) + "-" + millis;
     }
-}
 
+    public void clearPendingHistory() {
+        this.pendingComments = new ArrayList<>();
+        this.pendingEvents = new ArrayList<>();
+    }
+
+    private static void trimToRecent(List<?> entries) {
+        if (entries.size() > TicketHistory.RECENT_ENTRIES) {
+            entries.subList(0, entries.size() - TicketHistory.RECENT_ENTRIES).clear();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.TicketBatchItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketBatchItemResult {
+
+    private int index;
+    private TicketBatchItemStatus status;
+    private Ticket ticket;
+    private String error;
+
+    public static TicketBatchItemResult of(int index, TicketBatchItemStatus status, Ticket ticket) {
+        return new TicketBatchItemResult(index, status, ticket, null);
+    }
+
+    public static TicketBatchItemResult error(int index, TicketBatchItemStatus status, String error) {
+        return new TicketBatchItemResult(index, status, null, error);
+    }
+}
@@ -0,0 +1,16 @@
+package com.support.ticket.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketBulkStatusResult {
+
+    private long matched;
+    private long changed;
+    private long skipped;
+    private boolean hasMore;
+}
@@ -0,0 +1,48 @@
+package com.support.ticket.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketChangeWatermark {
+
+    private static final String SEPARATOR = "|";
+
+    private LocalDateTime updatedAt;
+    private String id;
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, updatedAt.toString(), id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketChangeWatermark decode(String token) {
+
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = raw.split(Pattern.quote(SEPARATOR), 2);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid watermark", e);
+        }
+
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid watermark");
+        }
+
+        try {
+            return new TicketChangeWatermark(LocalDateTime.parse(parts[0]), parts[1]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid watermark", e);
+        }
+    }
+}
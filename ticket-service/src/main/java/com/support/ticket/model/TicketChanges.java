@@ -0,0 +1,17 @@
+package com.support.ticket.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketChanges {
+
+    private List<TicketSummary> items;
+    private String watermark;
+    private boolean hasMore;
+}
@@ -12,7 +12,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class TicketComment {
+public class TicketComment implements TicketHistoryEntry {
 
     @Builder.Default
     private String id = UUID.randomUUID().toString();
@@ -20,6 +20,7 @@ public class TicketComment {
     private String authorExternalId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer seq;
 
     public TicketComment(String content, String authorExternalId) {
         this.id = UUID.randomUUID().toString();
@@ -0,0 +1,37 @@
+package com.support.ticket.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Document(collection = "ticket_comment_buckets")
+@CompoundIndexes({
+    @CompoundIndex(name = "ticketId_bucket_idx", def = "{'ticketId': 1, 'bucket': 1}", unique = true),
+    @CompoundIndex(name = "entries_content_text_idx", def = "{'entries.content': 'text'}")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketCommentBucket implements TicketHistoryBucket<TicketComment> {
+
+    @Id
+    private String id;
+
+    private String ticketId;
+
+    private int bucket;
+
+    private int count;
+
+    @Builder.Default
+    private List<TicketComment> entries = new ArrayList<>();
+}
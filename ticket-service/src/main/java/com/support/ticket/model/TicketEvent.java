@@ -1,6 +1,7 @@
 package com.support.ticket.model;
 
 import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,12 +13,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class TicketEvent {
+public class TicketEvent implements TicketHistoryEntry {
 
     private TicketEventType eventType;
     private String description;
     private String performedBy;
     private LocalDateTime timestamp;
+    private TicketStatus fromStatus;
+    private TicketStatus toStatus;
+    private Integer seq;
 
     public TicketEvent(TicketEventType eventType, String description, String performedBy) {
         this.eventType = eventType;
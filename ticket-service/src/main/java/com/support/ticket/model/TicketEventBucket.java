@@ -0,0 +1,33 @@
+package com.support.ticket.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Document(collection = "ticket_event_buckets")
+@CompoundIndex(name = "ticketId_bucket_idx", def = "{'ticketId': 1, 'bucket': 1}", unique = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketEventBucket implements TicketHistoryBucket<TicketEvent> {
+
+    @Id
+    private String id;
+
+    private String ticketId;
+
+    private int bucket;
+
+    private int count;
+
+    @Builder.Default
+    private List<TicketEvent> entries = new ArrayList<>();
+}
@@ -0,0 +1,52 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketFeedEvent {
+
+    private TicketEventType eventType;
+    private String ticketId;
+    private String customerExternalId;
+    private TicketStatus status;
+    private Priority priority;
+    private TicketStatus fromStatus;
+    private String description;
+    private String performedBy;
+    private LocalDateTime timestamp;
+
+    public static TicketFeedEvent of(Ticket ticket, TicketEvent event) {
+        return TicketFeedEvent.builder()
+                .eventType(event.getEventType())
+                .ticketId(ticket.getId())
+                .customerExternalId(ticket.getCustomerExternalId())
+                .status(ticket.getStatus())
+                .priority(ticket.getPriority())
+                .fromStatus(event.getFromStatus())
+                .description(event.getDescription())
+                .performedBy(event.getPerformedBy())
+                .timestamp(event.getTimestamp())
+                .build();
+    }
+
+    public boolean matches(TicketFilter filter) {
+        if (filter.getCustomerExternalId() != null && !filter.getCustomerExternalId().equals(customerExternalId)) {
+            return false;
+        }
+        if (filter.getStatus() != null && filter.getStatus() != status) {
+            return false;
+        }
+        return filter.getPriority() == null || filter.getPriority() == priority;
+    }
+}
@@ -0,0 +1,24 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketFilter {
+
+    private TicketStatus status;
+    private Priority priority;
+    private String customerExternalId;
+    private LocalDateTime fromDate;
+    private LocalDateTime toDate;
+    private boolean includeArchived;
+}
@@ -0,0 +1,35 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketHistogram {
+
+    private RollupGranularity granularity;
+    private LocalDateTime fromDate;
+    private LocalDateTime toDate;
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bucket {
+
+        private LocalDateTime bucketStart;
+        private Map<Priority, Long> created;
+        private Map<Priority, Long> resolved;
+    }
+}
@@ -0,0 +1,10 @@
+package com.support.ticket.model;
+
+import java.util.List;
+
+public interface TicketHistoryBucket<T extends TicketHistoryEntry> {
+
+    int getBucket();
+
+    List<T> getEntries();
+}
@@ -0,0 +1,8 @@
+package com.support.ticket.model;
+
+public interface TicketHistoryEntry {
+
+    Integer getSeq();
+
+    void setSeq(Integer seq);
+}
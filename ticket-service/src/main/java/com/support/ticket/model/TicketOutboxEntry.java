@@ -0,0 +1,30 @@
+package com.support.ticket.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketOutboxEntry {
+
+    private int openTicketDelta;
+    private LocalDateTime enqueuedAt;
+    private LocalDateTime availableAt;
+    private String claimToken;
+    private int attempts;
+
+    public static TicketOutboxEntry openTicketDelta(int delta) {
+        LocalDateTime now = LocalDateTime.now();
+        return TicketOutboxEntry.builder()
+                .openTicketDelta(delta)
+                .enqueuedAt(now)
+                .availableAt(now)
+                .build();
+    }
+}
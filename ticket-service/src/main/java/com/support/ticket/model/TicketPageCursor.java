@@ -0,0 +1,61 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketSortField;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketPageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private TicketSortField sort;
+    private int priorityRank;
+    private LocalDateTime createdAt;
+    private String id;
+
+    public static TicketPageCursor after(TicketSortField sort, Priority priority, LocalDateTime createdAt, String id) {
+        int priorityRank = priority != null ? priority.ordinal() : 0;
+        return new TicketPageCursor(sort, priorityRank, createdAt, id);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sort.name(), String.valueOf(priorityRank), createdAt.toString(), id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketPageCursor decode(String cursor, TicketSortField expectedSort) {
+
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split(Pattern.quote(SEPARATOR), 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        try {
+            TicketSortField sort = TicketSortField.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor was issued for sort " + sort + ", not " + expectedSort);
+            }
+            return new TicketPageCursor(sort, Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]), parts[3]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
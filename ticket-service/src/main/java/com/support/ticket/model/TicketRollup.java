@@ -0,0 +1,37 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Document(collection = "ticket_rollups")
+@CompoundIndex(name = "granularity_bucketStart_idx", def = "{'granularity': 1, 'bucketStart': 1}", unique = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketRollup {
+
+    @Id
+    private String id;
+
+    private RollupGranularity granularity;
+
+    private LocalDateTime bucketStart;
+
+    @Builder.Default
+    private Map<Priority, Long> created = new HashMap<>();
+
+    @Builder.Default
+    private Map<Priority, Long> resolved = new HashMap<>();
+}
@@ -0,0 +1,47 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.TicketSearchMatch;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketSearchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private TicketSearchMatch match;
+    private double score;
+    private String id;
+
+    public static TicketSearchCursor after(TicketSearchHit hit) {
+        return new TicketSearchCursor(hit.getMatch(), hit.getScore(), hit.getTicket().getId());
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, match.name(), Double.toString(score), id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketSearchCursor decode(String cursor) {
+
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split(Pattern.quote(SEPARATOR), 3);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new TicketSearchCursor(TicketSearchMatch.valueOf(parts[0]), Double.parseDouble(parts[1]), parts[2]);
+    }
+}
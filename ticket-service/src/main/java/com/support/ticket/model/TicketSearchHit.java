@@ -0,0 +1,16 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.TicketSearchMatch;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketSearchHit {
+
+    private Ticket ticket;
+    private TicketSearchMatch match;
+    private double score;
+}
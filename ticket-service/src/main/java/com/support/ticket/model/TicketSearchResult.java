@@ -0,0 +1,16 @@
+package com.support.ticket.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketSearchResult {
+
+    private List<TicketSearchHit> hits;
+    private TicketSearchCursor resumeAfter;
+}
@@ -0,0 +1,34 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.Priority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketSlaReport {
+
+    private Map<Priority, ResolutionTime> resolutionTime;
+    private LocalDateTime generatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ResolutionTime {
+
+        private long count;
+        private long p50Millis;
+        private long p90Millis;
+        private long p99Millis;
+        private long maxMillis;
+        private double meanMillis;
+    }
+}
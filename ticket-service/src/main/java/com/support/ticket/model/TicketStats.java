@@ -0,0 +1,59 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketStats {
+
+    private long total;
+    private Map<TicketStatus, Long> byStatus;
+    private Map<Priority, Long> byPriority;
+    private Map<TicketStatus, Map<Priority, Long>> byStatusAndPriority;
+    private LocalDateTime generatedAt;
+
+    public static TicketStats fromCounts(List<TicketStatusPriorityCount> counts) {
+        Map<TicketStatus, Long> byStatus = new EnumMap<>(TicketStatus.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        Map<TicketStatus, Map<Priority, Long>> byStatusAndPriority = new EnumMap<>(TicketStatus.class);
+        for (TicketStatus status : TicketStatus.values()) {
+            byStatus.put(status, 0L);
+            Map<Priority, Long> row = new EnumMap<>(Priority.class);
+            for (Priority priority : Priority.values()) {
+                row.put(priority, 0L);
+            }
+            byStatusAndPriority.put(status, row);
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+
+        long total = 0;
+        for (TicketStatusPriorityCount count : counts) {
+            byStatusAndPriority.get(count.getStatus()).merge(count.getPriority(), count.getCount(), Long::sum);
+            byStatus.merge(count.getStatus(), count.getCount(), Long::sum);
+            byPriority.merge(count.getPriority(), count.getCount(), Long::sum);
+            total += count.getCount();
+        }
+
+        return TicketStats.builder()
+                .total(total)
+                .byStatus(byStatus)
+                .byPriority(byPriority)
+                .byStatusAndPriority(byStatusAndPriority)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+}
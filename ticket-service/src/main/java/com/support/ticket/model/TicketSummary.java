@@ -0,0 +1,31 @@
+package com.support.ticket.model;
+
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketSummary {
+
+    @Id
+    private String id;
+    private String customerExternalId;
+    private String title;
+    private TicketStatus status;
+    private Priority priority;
+    private SyncStatus syncStatus;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private int commentCount;
+    private int eventCount;
+}
@@ -0,0 +1,21 @@
+package com.support.ticket.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketBatchItemRequestDTO {
+
+    private String idempotencyKey;
+
+    @Valid
+    @NotNull(message = "Ticket is required")
+    private TicketRequestDTO ticket;
+}
@@ -0,0 +1,19 @@
+package com.support.ticket.model.dto;
+
+import com.support.ticket.model.enums.TicketBatchItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketBatchItemResponseDTO {
+
+    private int index;
+    private TicketBatchItemStatus status;
+    private TicketResponseDTO ticket;
+    private String error;
+}
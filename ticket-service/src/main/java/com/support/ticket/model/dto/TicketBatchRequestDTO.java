@@ -0,0 +1,24 @@
+package com.support.ticket.model.dto;
+
+import com.support.ticket.constants.TicketBatch;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketBatchRequestDTO {
+
+    @Valid
+    @NotEmpty(message = "Tickets are required")
+    @Size(max = TicketBatch.MAX_ITEMS, message = "At most " + TicketBatch.MAX_ITEMS + " tickets per batch")
+    private List<TicketBatchItemRequestDTO> tickets;
+}
@@ -0,0 +1,21 @@
+package com.support.ticket.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketBatchResponseDTO {
+
+    private int created;
+    private int duplicates;
+    private int rejected;
+    private int failed;
+    private List<TicketBatchItemResponseDTO> results;
+}
@@ -0,0 +1,28 @@
+package com.support.ticket.model.dto;
+
+import com.support.ticket.constants.TicketBatch;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.enums.TicketStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketBulkStatusRequestDTO {
+
+    @Size(max = TicketBatch.MAX_ITEMS, message = "At most " + TicketBatch.MAX_ITEMS + " tickets per bulk update")
+    private List<String> ticketIds;
+
+    private TicketFilter filter;
+
+    @NotNull(message = "Status is required")
+    private TicketStatus status;
+}
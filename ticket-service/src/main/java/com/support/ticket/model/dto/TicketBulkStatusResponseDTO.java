@@ -0,0 +1,18 @@
+package com.support.ticket.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketBulkStatusResponseDTO {
+
+    private long matched;
+    private long changed;
+    private long skipped;
+    private boolean hasMore;
+}
@@ -0,0 +1,20 @@
+package com.support.ticket.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketChangesResponseDTO {
+
+    private List<TicketSummaryDTO> changed;
+    private List<TicketTombstoneDTO> tombstones;
+    private String watermark;
+    private boolean hasMore;
+}
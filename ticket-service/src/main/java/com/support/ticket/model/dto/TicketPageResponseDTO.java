@@ -0,0 +1,18 @@
+package com.support.ticket.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketPageResponseDTO<T> {
+
+    private List<T> items;
+    private String nextCursor;
+}
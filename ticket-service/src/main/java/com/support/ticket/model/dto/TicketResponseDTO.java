@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -28,7 +29,13 @@ public class TicketResponseDTO {
     private SyncStatus syncStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+    private LocalDateTime statusChangedAt;
+    private LocalDateTime resolvedAt;
+    private Map<TicketStatus, Long> timeInStatusMillis;
     private List<TicketComment> comments;
     private List<TicketEvent> events;
+    private Integer commentCount;
+    private Integer eventCount;
 }
 
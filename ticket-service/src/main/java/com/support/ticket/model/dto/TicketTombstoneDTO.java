@@ -0,0 +1,20 @@
+package com.support.ticket.model.dto;
+
+import com.support.ticket.model.enums.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketTombstoneDTO {
+
+    private String id;
+    private TicketStatus status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,6 @@
+package com.support.ticket.model.enums;
+
+public enum ReadConsistency {
+    PRIMARY,
+    STALE_OK
+}
@@ -0,0 +1,8 @@
+package com.support.ticket.model.enums;
+
+public enum TicketBatchItemStatus {
+    CREATED,
+    DUPLICATE,
+    REJECTED,
+    FAILED
+}
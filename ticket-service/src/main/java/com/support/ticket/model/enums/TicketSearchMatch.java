@@ -0,0 +1,6 @@
+package com.support.ticket.model.enums;
+
+public enum TicketSearchMatch {
+    TICKET,
+    COMMENT
+}
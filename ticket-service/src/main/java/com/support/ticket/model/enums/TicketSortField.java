@@ -0,0 +1,6 @@
+package com.support.ticket.model.enums;
+
+public enum TicketSortField {
+    CREATED_AT,
+    PRIORITY
+}
@@ -1,10 +1,53 @@
 package com.support.ticket.model.enums;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum TicketStatus {
     OPEN,
     IN_PROGRESS,
     RESOLVED,
     CLOSED,
-    CANCELLED
-}
+    CANCELLED;
+
+    private static final Map<TicketStatus, Set<TicketStatus>> TRANSITIONS = new EnumMap<>(TicketStatus.class);
+    private static final Map<TicketStatus, Set<TicketStatus>> SOURCES = new EnumMap<>(TicketStatus.class);
+
+    static {
+        TRANSITIONS.put(OPEN, EnumSet.of(IN_PROGRESS, RESOLVED, CLOSED, CANCELLED));
+        TRANSITIONS.put(IN_PROGRESS, EnumSet.of(OPEN, RESOLVED, CLOSED, CANCELLED));
+        TRANSITIONS.put(RESOLVED, EnumSet.of(OPEN, IN_PROGRESS, CLOSED));
+        TRANSITIONS.put(CLOSED, EnumSet.noneOf(TicketStatus.class));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(TicketStatus.class));
+
+        for (TicketStatus status : values()) {
+            SOURCES.put(status, EnumSet.noneOf(TicketStatus.class));
+        }
+        TRANSITIONS.forEach((from, targets) -> targets.forEach(to -> SOURCES.get(to).add(from)));
+        TRANSITIONS.replaceAll((status, targets) -> Collections.unmodifiableSet(targets));
+        SOURCES.replaceAll((status, sources) -> Collections.unmodifiableSet(sources));
+    }
 
+    public boolean canTransitionTo(TicketStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    public boolean isTerminal() {
+        return TRANSITIONS.get(this).isEmpty();
+    }
+
+    public boolean isResolved() {
+        return this == RESOLVED || this == CLOSED;
+    }
+
+    public static Set<TicketStatus> allowedSources(TicketStatus target) {
+        return SOURCES.get(target);
+    }
+
+    public static int openTicketDelta(TicketStatus from, TicketStatus to) {
+        return (to.isTerminal() ? 0 : 1) - (from.isTerminal() ? 0 : 1);
+    }
+}
@@ -8,13 +8,16 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TicketRepository extends MongoRepository<Ticket, String> {
+public interface TicketRepository extends MongoRepository<Ticket, String>, TicketRepositoryCustom {
     Optional<Ticket> findByIdempotencyKey(String idempotencyKey);
+    List<Ticket> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
     List<Ticket> findBySyncStatus(SyncStatus syncStatus);
+    List<Ticket> findBySyncStatusAndOutboxIsNullAndCreatedAtBefore(SyncStatus syncStatus, LocalDateTime createdBefore);
     List<Ticket> findByCustomerExternalId(String customerExternalId);
     List<Ticket> findByStatus(TicketStatus status);
     List<Ticket> findByPriority(Priority priority);
@@ -24,4 +27,3 @@ public interface TicketRepository extends MongoRepository<Ticket, String> {
     List<Ticket> findByCustomerExternalIdAndStatusAndPriority(String customerExternalId, TicketStatus status, Priority priority);
     List<Ticket> findByCreatedAtBetween(LocalDateTime fromDate, LocalDateTime toDate);
 }
-
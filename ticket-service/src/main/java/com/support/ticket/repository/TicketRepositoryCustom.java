@@ -0,0 +1,104 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketChangeWatermark;
+import com.support.ticket.model.TicketComment;
+import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketPageCursor;
+import com.support.ticket.model.TicketRollup;
+import com.support.ticket.model.TicketSearchCursor;
+import com.support.ticket.model.TicketSearchResult;
+import com.support.ticket.model.TicketStatusPriorityCount;
+import com.support.ticket.model.TicketSummary;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.ReadConsistency;
+import com.support.ticket.model.enums.RollupGranularity;
+import com.support.ticket.model.enums.TicketSortField;
+import com.support.ticket.model.enums.TicketStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TicketRepositoryCustom {
+
+    List<Ticket> findPage(TicketFilter filter, TicketSortField sort, TicketPageCursor after, int limit);
+
+    List<TicketSummary> findSummaryPage(TicketFilter filter, TicketSortField sort, TicketPageCursor after, int limit);
+
+    List<TicketSummary> findChangedSince(String customerExternalId, TicketChangeWatermark after, LocalDateTime until,
+                                         int limit);
+
+    Stream<Ticket> streamByFilter(TicketFilter filter, int batchSize);
+
+    List<TicketStatusPriorityCount> countByStatusAndPriority(TicketFilter filter, ReadConsistency consistency);
+
+    TicketSearchResult searchPage(String text, TicketFilter filter, TicketSearchCursor after, int limit);
+
+    Ticket addComment(String ticketId, TicketComment comment, TicketEvent event);
+
+    Ticket changeStatus(String ticketId, Collection<TicketStatus> fromStatuses, TicketStatus newStatus,
+                        String performedBy, List<TicketEvent> followUpEvents);
+
+    List<String> findIdsForStatusChange(TicketFilter filter, Collection<TicketStatus> fromStatuses, int limit);
+
+    List<Ticket> findStatusHeaders(Collection<String> ticketIds);
+
+    long changeStatuses(Collection<String> ticketIds, Collection<TicketStatus> fromStatuses, TicketStatus newStatus,
+                        String performedBy, LocalDateTime changedAt, List<TicketEvent> followUpEvents);
+
+    Stream<Ticket> streamStatusChanges(Collection<String> ticketIds, TicketStatus newStatus, String performedBy,
+                                       LocalDateTime changedAt, int batchSize);
+
+    Stream<Ticket> streamResolvedBefore(LocalDateTime before, int batchSize);
+
+    Ticket findVersionHeader(String ticketId);
+
+    Ticket findHistoryHeader(String ticketId);
+
+    Optional<Ticket> findArchivedById(String ticketId);
+
+    List<Ticket> findArchivable(LocalDateTime closedBefore, int limit);
+
+    long archive(List<Ticket> tickets);
+
+    List<TicketComment> findComments(String ticketId, int fromSequence, int toSequence);
+
+    List<TicketEvent> findEvents(String ticketId, int fromSequence, int toSequence);
+
+    void appendComments(String ticketId, int firstSequence, List<TicketComment> comments);
+
+    void appendEvents(String ticketId, int firstSequence, List<TicketEvent> events);
+
+    Map<Integer, String> insertAll(List<Ticket> tickets);
+
+    void replaceAll(List<Ticket> tickets);
+
+    void appendPendingHistory(List<Ticket> tickets);
+
+    boolean migrateHistory(Ticket ticket, Long expectedVersion);
+
+    List<Ticket> claimOutbox(String claimToken, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    long ackOutbox(Collection<String> ticketIds, String claimToken, LocalDateTime ackedAt);
+
+    long failOutbox(Collection<String> ticketIds, String claimToken);
+
+    long markSynced(Collection<String> ticketIds, LocalDateTime syncedAt);
+
+    long markSyncFailed(Collection<String> ticketIds);
+
+    long recordSyncFailure(Collection<String> ticketIds, int openTicketDelta);
+
+    Ticket markRecovered(String ticketId, int appliedDelta, TicketEvent event);
+
+    void appendSyncHistory(Collection<String> ticketIds, LocalDateTime syncedAt);
+
+    void incrementRollups(String counter, Priority priority, LocalDateTime time);
+
+    List<TicketRollup> findRollups(RollupGranularity granularity, LocalDateTime fromDate, LocalDateTime toDate);
+}
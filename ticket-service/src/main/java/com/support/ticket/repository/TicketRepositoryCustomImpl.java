@@ -0,0 +1,945 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.config.TicketMongoReadConfig;
+import com.support.ticket.constants.TicketArchive;
+import com.support.ticket.constants.TicketEventDescriptions;
+import com.support.ticket.constants.TicketHistory;
+import com.support.ticket.constants.TicketPagination;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketChangeWatermark;
+import com.support.ticket.model.TicketComment;
+import com.support.ticket.model.TicketCommentBucket;
+import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.TicketEventBucket;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketHistoryBucket;
+import com.support.ticket.model.TicketHistoryEntry;
+import com.support.ticket.model.TicketPageCursor;
+import com.support.ticket.model.TicketRollup;
+import com.support.ticket.model.TicketSearchCursor;
+import com.support.ticket.model.TicketSearchHit;
+import com.support.ticket.model.TicketSearchResult;
+import com.support.ticket.model.TicketStatusPriorityCount;
+import com.support.ticket.model.TicketSummary;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.ReadConsistency;
+import com.support.ticket.model.enums.RollupGranularity;
+import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketSearchMatch;
+import com.support.ticket.model.enums.TicketSortField;
+import com.support.ticket.model.enums.TicketStatus;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Slf4j
+public class TicketRepositoryCustomImpl implements TicketRepositoryCustom {
+
+    private static final Document TEXT_SCORE = new Document("$meta", "textScore");
+    private static final AggregationOperation SEARCH_ORDER =
+            context -> new Document("$sort", new Document("score", -1).append("_id", -1));
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoTemplate secondaryMongoTemplate;
+
+    public TicketRepositoryCustomImpl(MongoTemplate mongoTemplate,
+                                      @Qualifier(TicketMongoReadConfig.SECONDARY_TEMPLATE) MongoTemplate secondaryMongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.secondaryMongoTemplate = secondaryMongoTemplate;
+    }
+
+    @Override
+    public List<Ticket> findPage(TicketFilter filter, TicketSortField sort, TicketPageCursor after, int limit) {
+
+        Query query = buildPageQuery(filter, sort, after, limit);
+        List<Ticket> tickets = secondaryMongoTemplate.find(query, Ticket.class);
+        if (!filter.isIncludeArchived()) {
+            return tickets;
+        }
+        return mergePages(tickets, secondaryMongoTemplate.find(query, Ticket.class, TicketArchive.COLLECTION),
+                pageOrder(sort, Ticket::getPriority, Ticket::getCreatedAt, Ticket::getId), limit);
+    }
+
+    @Override
+    public List<TicketSummary> findSummaryPage(TicketFilter filter, TicketSortField sort, TicketPageCursor after, int limit) {
+
+        Query query = buildPageQuery(filter, sort, after, limit);
+        query.fields()
+                .include("customerExternalId", "title", "status", "priority", "syncStatus", "createdAt", "updatedAt",
+                        "commentCount", "eventCount");
+        List<TicketSummary> summaries =
+                secondaryMongoTemplate.find(query, TicketSummary.class, mongoTemplate.getCollectionName(Ticket.class));
+        if (!filter.isIncludeArchived()) {
+            return summaries;
+        }
+        return mergePages(summaries, secondaryMongoTemplate.find(query, TicketSummary.class, TicketArchive.COLLECTION),
+                pageOrder(sort, TicketSummary::getPriority, TicketSummary::getCreatedAt, TicketSummary::getId), limit);
+    }
+
+    @Override
+    public List<TicketSummary> findChangedSince(String customerExternalId, TicketChangeWatermark after,
+                                                LocalDateTime until, int limit) {
+
+        Criteria criteria = new Criteria();
+        if (customerExternalId != null) {
+            criteria = criteria.and("customerExternalId").is(customerExternalId);
+        }
+        criteria = criteria.and("updatedAt").lte(until);
+        if (after != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("updatedAt").gt(after.getUpdatedAt()),
+                    Criteria.where("updatedAt").is(after.getUpdatedAt()).and("id").gt(after.getId())
+            );
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "updatedAt", "id"))
+                .limit(limit);
+        query.fields()
+                .include("customerExternalId", "title", "status", "priority", "syncStatus", "createdAt", "updatedAt",
+                        "commentCount", "eventCount");
+        return mongoTemplate.find(query, TicketSummary.class, mongoTemplate.getCollectionName(Ticket.class));
+    }
+
+    @Override
+    public Stream<Ticket> streamByFilter(TicketFilter filter, int batchSize) {
+
+        Query query = Query.query(buildCriteria(filter))
+                .with(buildSort(TicketSortField.CREATED_AT))
+                .cursorBatchSize(batchSize);
+        Stream<Ticket> tickets = secondaryMongoTemplate.stream(query, Ticket.class);
+        if (!filter.isIncludeArchived()) {
+            return tickets;
+        }
+        return Stream.concat(tickets, secondaryMongoTemplate.stream(query, Ticket.class, TicketArchive.COLLECTION));
+    }
+
+    @Override
+    public List<TicketStatusPriorityCount> countByStatusAndPriority(TicketFilter filter, ReadConsistency consistency) {
+
+        Criteria criteria = buildCriteria(filter);
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                UnionWithOperation.unionWith(TicketArchive.COLLECTION)
+                        .pipeline(Aggregation.match(criteria))
+                        .mapFieldsTo(Ticket.class),
+                Aggregation.group("status", "priority").count().as("count")
+        );
+
+        MongoTemplate template = consistency == ReadConsistency.STALE_OK ? secondaryMongoTemplate : mongoTemplate;
+        List<TicketStatusPriorityCount> counts = new ArrayList<>();
+        for (Document result : template.aggregate(aggregation, Ticket.class, Document.class)) {
+            Document group = result.get("_id", Document.class);
+            if (group.getString("status") == null || group.getString("priority") == null) {
+                continue;
+            }
+            counts.add(new TicketStatusPriorityCount(
+                    TicketStatus.valueOf(group.getString("status")),
+                    Priority.valueOf(group.getString("priority")),
+                    ((Number) result.get("count")).longValue()));
+        }
+        return counts;
+    }
+
+    @Override
+    public TicketSearchResult searchPage(String text, TicketFilter filter, TicketSearchCursor after, int limit) {
+
+        TextCriteria textCriteria = TextCriteria.forDefaultLanguage().matching(text);
+        List<TicketSearchHit> hits = new ArrayList<>();
+        if (after == null || after.getMatch() == TicketSearchMatch.TICKET) {
+            TicketSearchResult ticketMatches = findTicketTextMatches(textCriteria, filter, after, limit);
+            if (ticketMatches.getHits().size() == limit || ticketMatches.getResumeAfter() != null) {
+                return ticketMatches;
+            }
+            hits.addAll(ticketMatches.getHits());
+            after = null;
+        }
+        TicketSearchResult commentMatches = findCommentOnlyMatches(textCriteria, filter, after, limit - hits.size());
+        hits.addAll(commentMatches.getHits());
+        return new TicketSearchResult(hits, commentMatches.getResumeAfter());
+    }
+
+    private TicketSearchResult findTicketTextMatches(TextCriteria textCriteria, TicketFilter filter,
+                                                     TicketSearchCursor after, int limit) {
+
+        List<TicketSearchHit> hits = new ArrayList<>();
+        TicketSearchCursor position = after;
+        int scanned = 0;
+        while (hits.size() < limit) {
+            if (scanned >= TicketPagination.SEARCH_MAX_CANDIDATES) {
+                return new TicketSearchResult(hits, position);
+            }
+            int batchSize = limit - hits.size();
+            List<AggregationOperation> stages = new ArrayList<>();
+            stages.add(Aggregation.match(textCriteria));
+            stages.add(Aggregation.match(buildCriteria(filter)));
+            stages.add(context -> new Document("$project", new Document("score", TEXT_SCORE)));
+            if (position != null) {
+                stages.add(searchKeysetStage(position, toObjectId(position.getId())));
+            }
+            stages.add(SEARCH_ORDER);
+            stages.add(Aggregation.limit(batchSize));
+            List<Document> matches = secondaryMongoTemplate.aggregate(Aggregation.newAggregation(stages),
+                    Ticket.class, Document.class).getMappedResults();
+            if (matches.isEmpty()) {
+                break;
+            }
+            scanned += matches.size();
+
+            List<String> ticketIds = matches.stream().map(match -> match.get("_id").toString()).toList();
+            Map<String, Ticket> tickets = new HashMap<>();
+            secondaryMongoTemplate.find(Query.query(Criteria.where("id").in(ticketIds)), Ticket.class)
+                    .forEach(ticket -> tickets.put(ticket.getId(), ticket));
+            for (Document match : matches) {
+                Ticket ticket = tickets.get(match.get("_id").toString());
+                if (ticket != null) {
+                    hits.add(new TicketSearchHit(ticket, TicketSearchMatch.TICKET,
+                            ((Number) match.get("score")).doubleValue()));
+                }
+            }
+            if (matches.size() < batchSize) {
+                break;
+            }
+            Document last = matches.get(matches.size() - 1);
+            position = new TicketSearchCursor(TicketSearchMatch.TICKET,
+                    ((Number) last.get("score")).doubleValue(), last.get("_id").toString());
+        }
+        return new TicketSearchResult(hits, null);
+    }
+
+    /**
+     * Runs the comment {@code $group} once per page, capped at {@link TicketPagination#SEARCH_MAX_CANDIDATES}
+     * tickets after the keyset, and checks the candidates in batches. If the cap is reached before the page is
+     * full, the result carries the last scanned candidate so the next page resumes from there.
+     */
+    private TicketSearchResult findCommentOnlyMatches(TextCriteria textCriteria, TicketFilter filter,
+                                                      TicketSearchCursor after, int limit) {
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(textCriteria));
+        stages.add(context -> new Document("$group", new Document("_id", "$ticketId")
+                .append("score", new Document("$max", TEXT_SCORE))));
+        if (after != null) {
+            stages.add(searchKeysetStage(after, after.getId()));
+        }
+        stages.add(SEARCH_ORDER);
+        stages.add(Aggregation.limit(TicketPagination.SEARCH_MAX_CANDIDATES));
+        List<Document> candidates = secondaryMongoTemplate.aggregate(Aggregation.newAggregation(stages),
+                TicketCommentBucket.class, Document.class).getMappedResults();
+
+        List<TicketSearchHit> hits = new ArrayList<>();
+        for (int from = 0; from < candidates.size(); from += TicketPagination.SEARCH_BATCH_SIZE) {
+            List<Document> batch = candidates.subList(from,
+                    Math.min(from + TicketPagination.SEARCH_BATCH_SIZE, candidates.size()));
+            List<String> ticketIds = batch.stream().map(candidate -> candidate.getString("_id")).toList();
+            Map<String, Ticket> eligible = new HashMap<>();
+            secondaryMongoTemplate.find(Query.query(buildCriteria(filter).and("id").in(ticketIds)), Ticket.class)
+                    .forEach(ticket -> eligible.put(ticket.getId(), ticket));
+            Query ticketMatches = TextQuery.queryText(textCriteria).addCriteria(Criteria.where("id").in(ticketIds));
+            ticketMatches.fields().include("id");
+            secondaryMongoTemplate.find(ticketMatches, Ticket.class).forEach(ticket -> eligible.remove(ticket.getId()));
+
+            for (Document candidate : batch) {
+                Ticket ticket = eligible.get(candidate.getString("_id"));
+                if (ticket != null) {
+                    hits.add(new TicketSearchHit(ticket, TicketSearchMatch.COMMENT,
+                            ((Number) candidate.get("score")).doubleValue()));
+                    if (hits.size() == limit) {
+                        return new TicketSearchResult(hits, null);
+                    }
+                }
+            }
+        }
+        if (candidates.size() < TicketPagination.SEARCH_MAX_CANDIDATES) {
+            return new TicketSearchResult(hits, null);
+        }
+        Document last = candidates.get(candidates.size() - 1);
+        return new TicketSearchResult(hits, new TicketSearchCursor(TicketSearchMatch.COMMENT,
+                ((Number) last.get("score")).doubleValue(), last.getString("_id")));
+    }
+
+    private static AggregationOperation searchKeysetStage(TicketSearchCursor after, Object id) {
+        return context -> new Document("$match", new Document("$or", List.of(
+                new Document("score", new Document("$lt", after.getScore())),
+                new Document("score", after.getScore()).append("_id", new Document("$lt", id)))));
+    }
+
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    @Override
+    public Ticket addComment(String ticketId, TicketComment comment, TicketEvent event) {
+
+        Update update = new Update()
+                .push("comments").slice(-TicketHistory.RECENT_ENTRIES).each(comment)
+                .push("events").slice(-TicketHistory.RECENT_ENTRIES).each(event)
+                .inc("commentCount", 1)
+                .inc("eventCount", 1)
+                .inc("version", 1)
+                .currentDate("updatedAt");
+        return mongoTemplate.findAndModify(historyTrackedTicket(ticketId), update,
+                FindAndModifyOptions.options().returnNew(true), Ticket.class);
+    }
+
+    @Override
+    public Ticket changeStatus(String ticketId, Collection<TicketStatus> fromStatuses, TicketStatus newStatus,
+                               String performedBy, List<TicketEvent> followUpEvents) {
+
+        AggregationUpdate update = statusChangeUpdate(fromStatuses, newStatus, performedBy, followUpEvents, "$$NOW");
+        Query query = historyTrackedTicket(ticketId);
+        query.addCriteria(Criteria.where("status").in(fromStatuses));
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Ticket.class);
+    }
+
+    @Override
+    public List<String> findIdsForStatusChange(TicketFilter filter, Collection<TicketStatus> fromStatuses, int limit) {
+
+        Query query = Query.query(buildCriteria(filter).and("status").in(fromStatuses))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+        query.fields().include("id");
+        return mongoTemplate.find(query, Ticket.class).stream().map(Ticket::getId).toList();
+    }
+
+    @Override
+    public List<Ticket> findStatusHeaders(Collection<String> ticketIds) {
+
+        Query query = Query.query(Criteria.where("id").in(ticketIds));
+        query.fields().include("status", "commentCount", "eventCount");
+        return mongoTemplate.find(query, Ticket.class);
+    }
+
+    @Override
+    public long changeStatuses(Collection<String> ticketIds, Collection<TicketStatus> fromStatuses,
+                               TicketStatus newStatus, String performedBy, LocalDateTime changedAt,
+                               List<TicketEvent> followUpEvents) {
+
+        Object now = literal(mongoTemplate.getConverter().convertToMongoType(changedAt));
+        AggregationUpdate update = statusChangeUpdate(fromStatuses, newStatus, performedBy, followUpEvents, now);
+        Query query = Query.query(Criteria.where("id").in(ticketIds)
+                .and("status").in(fromStatuses)
+                .and("commentCount").exists(true)
+                .and("eventCount").exists(true));
+        return mongoTemplate.updateMulti(query, update, Ticket.class).getModifiedCount();
+    }
+
+    @Override
+    public Stream<Ticket> streamStatusChanges(Collection<String> ticketIds, TicketStatus newStatus, String performedBy,
+                                              LocalDateTime changedAt, int batchSize) {
+
+        Query query = Query.query(Criteria.where("id").in(ticketIds)
+                        .and("events").elemMatch(Criteria.where("eventType").is(TicketEventType.STATUS_CHANGED)
+                                .and("toStatus").is(newStatus)
+                                .and("performedBy").is(performedBy)
+                                .and("timestamp").is(changedAt)))
+                .cursorBatchSize(batchSize);
+        query.fields().include("customerExternalId", "status", "priority", "createdAt", "resolvedAt", "eventCount",
+                "syncStatus", "events");
+        return mongoTemplate.stream(query, Ticket.class);
+    }
+
+    private AggregationUpdate statusChangeUpdate(Collection<TicketStatus> fromStatuses, TicketStatus newStatus,
+                                                 String performedBy, List<TicketEvent> followUpEvents, Object now) {
+
+        List<Object> newEvents = new ArrayList<>();
+        newEvents.add(new Document("eventType", TicketEventType.STATUS_CHANGED.name())
+                .append("description", new Document("$concat", List.of(
+                        TicketEventDescriptions.STATUS_CHANGED_FROM, "$status",
+                        TicketEventDescriptions.STATUS_CHANGED_TO, newStatus.name())))
+                .append("performedBy", literal(performedBy))
+                .append("timestamp", now)
+                .append("fromStatus", "$status")
+                .append("toStatus", newStatus.name()));
+        followUpEvents.forEach(event -> newEvents.add(literal(mongoTemplate.getConverter().convertToMongoType(event))));
+
+        Document set = new Document("status", newStatus.name())
+                .append("events", new Document("$slice", List.of(
+                        new Document("$concatArrays", List.of(
+                                new Document("$ifNull", Arrays.asList("$events", List.of())), newEvents)),
+                        -TicketHistory.RECENT_ENTRIES)))
+                .append("eventCount", new Document("$add", List.of("$eventCount", newEvents.size())))
+                .append("updatedAt", now)
+                .append("version", new Document("$add", List.of(new Document("$ifNull", List.of("$version", 0L)), 1L)))
+                .append("statusChangedAt", now)
+                .append("resolvedAt", newStatus.isResolved()
+                        ? new Document("$cond", List.of(
+                                new Document("$in", List.of("$status", unresolvedStatusNames())), now, "$resolvedAt"))
+                        : "$$REMOVE");
+
+        Document elapsed = new Document("$ifNull", List.of(
+                new Document("$subtract", List.of(now,
+                        new Document("$ifNull", List.of("$statusChangedAt", "$createdAt")))),
+                0));
+        for (TicketStatus fromStatus : fromStatuses) {
+            String field = "timeInStatusMillis." + fromStatus.name();
+            set.append(field, new Document("$cond", List.of(
+                    new Document("$eq", List.of("$status", fromStatus.name())),
+                    new Document("$add", List.of(new Document("$ifNull", List.of("$" + field, 0L)), elapsed)),
+                    "$" + field)));
+        }
+        return AggregationUpdate.from(List.of(context -> new Document("$set", set)));
+    }
+
+    private static List<String> unresolvedStatusNames() {
+        return Arrays.stream(TicketStatus.values())
+                .filter(status -> !status.isResolved())
+                .map(TicketStatus::name)
+                .toList();
+    }
+
+    @Override
+    public Stream<Ticket> streamResolvedBefore(LocalDateTime before, int batchSize) {
+
+        Query query = Query.query(Criteria.where("resolvedAt").lt(before)).cursorBatchSize(batchSize);
+        query.fields().include("priority", "createdAt", "resolvedAt");
+        return Stream.concat(mongoTemplate.stream(query, Ticket.class),
+                mongoTemplate.stream(query, Ticket.class, TicketArchive.COLLECTION));
+    }
+
+    @Override
+    public Ticket findVersionHeader(String ticketId) {
+
+        Query query = Query.query(Criteria.where("id").is(ticketId));
+        query.fields().include("customerExternalId", "version", "updatedAt");
+        return findOneIncludingArchive(query);
+    }
+
+    @Override
+    public Ticket findHistoryHeader(String ticketId) {
+
+        Query query = Query.query(Criteria.where("id").is(ticketId));
+        query.fields().include("customerExternalId", "commentCount", "eventCount");
+        return findOneIncludingArchive(query);
+    }
+
+    @Override
+    public Optional<Ticket> findArchivedById(String ticketId) {
+        return Optional.ofNullable(mongoTemplate.findById(ticketId, Ticket.class, TicketArchive.COLLECTION));
+    }
+
+    @Override
+    public List<Ticket> findArchivable(LocalDateTime closedBefore, int limit) {
+
+        List<TicketStatus> terminalStatuses = Arrays.stream(TicketStatus.values())
+                .filter(TicketStatus::isTerminal)
+                .toList();
+        Criteria criteria = Criteria.where("status").in(terminalStatuses).orOperator(
+                Criteria.where("statusChangedAt").lt(closedBefore),
+                Criteria.where("statusChangedAt").is(null).and("updatedAt").lt(closedBefore)
+        );
+        return mongoTemplate.find(Query.query(criteria).limit(limit), Ticket.class);
+    }
+
+    @Override
+    public long archive(List<Ticket> tickets) {
+
+        if (tickets.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations copies = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class,
+                TicketArchive.COLLECTION);
+        BulkOperations removals = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class);
+        for (Ticket ticket : tickets) {
+            copies.replaceOne(Query.query(Criteria.where("id").is(ticket.getId())), ticket,
+                    FindAndReplaceOptions.options().upsert());
+            removals.remove(Query.query(Criteria.where("id").is(ticket.getId()).and("version").is(ticket.getVersion())));
+        }
+        copies.execute();
+        long removed = removals.execute().getDeletedCount();
+        if (removed < tickets.size()) {
+            Query stillHot = Query.query(Criteria.where("id").in(tickets.stream().map(Ticket::getId).toList()));
+            stillHot.fields().include("id");
+            List<String> changedIds = mongoTemplate.find(stillHot, Ticket.class).stream().map(Ticket::getId).toList();
+            if (!changedIds.isEmpty()) {
+                mongoTemplate.remove(Query.query(Criteria.where("id").in(changedIds)), TicketArchive.COLLECTION);
+            }
+        }
+        return removed;
+    }
+
+    private Ticket findOneIncludingArchive(Query query) {
+        Ticket ticket = mongoTemplate.findOne(query, Ticket.class);
+        return ticket != null ? ticket : mongoTemplate.findOne(query, Ticket.class, TicketArchive.COLLECTION);
+    }
+
+    private static <T> List<T> mergePages(List<T> hot, List<T> archived, Comparator<T> order, int limit) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<T> merged = new ArrayList<>(hot);
+        merged.addAll(archived);
+        merged.sort(order);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    static <T> Comparator<T> pageOrder(TicketSortField sort, Function<T, Priority> priority,
+                                       Function<T, LocalDateTime> createdAt, Function<T, String> id) {
+
+        Comparator<T> newestFirst = Comparator.comparing(createdAt).thenComparing(id).reversed();
+        if (sort == TicketSortField.PRIORITY) {
+            return Comparator.<T, Integer>comparing(item -> priority.apply(item).ordinal()).reversed()
+                    .thenComparing(newestFirst);
+        }
+        return newestFirst;
+    }
+
+    @Override
+    public List<TicketComment> findComments(String ticketId, int fromSequence, int toSequence) {
+        return findHistoryRange(ticketId, fromSequence, toSequence, TicketCommentBucket.class);
+    }
+
+    @Override
+    public List<TicketEvent> findEvents(String ticketId, int fromSequence, int toSequence) {
+        return findHistoryRange(ticketId, fromSequence, toSequence, TicketEventBucket.class);
+    }
+
+    private <T extends TicketHistoryEntry, B extends TicketHistoryBucket<T>> List<T> findHistoryRange(
+            String ticketId, int fromSequence, int toSequence, Class<B> bucketType) {
+
+        Query query = Query.query(Criteria.where("ticketId").is(ticketId)
+                        .and("bucket").gte(bucketOf(fromSequence)).lte(bucketOf(toSequence)))
+                .with(Sort.by(Sort.Direction.ASC, "bucket"));
+
+        Map<Integer, T> entriesBySequence = new TreeMap<>();
+        for (B bucket : mongoTemplate.find(query, bucketType)) {
+            int firstSequence = bucket.getBucket() * TicketHistory.BUCKET_SIZE + 1;
+            List<T> bucketEntries = bucket.getEntries();
+            for (int i = 0; i < bucketEntries.size(); i++) {
+                T entry = bucketEntries.get(i);
+                int sequence = entry.getSeq() != null ? entry.getSeq() : firstSequence + i;
+                if (sequence >= fromSequence && sequence <= toSequence) {
+                    entriesBySequence.putIfAbsent(sequence, entry);
+                }
+            }
+        }
+        return new ArrayList<>(entriesBySequence.values());
+    }
+
+    @Override
+    public void appendComments(String ticketId, int firstSequence, List<TicketComment> comments) {
+        appendToBuckets(ticketId, firstSequence, comments, TicketCommentBucket.class);
+    }
+
+    @Override
+    public void appendEvents(String ticketId, int firstSequence, List<TicketEvent> events) {
+        appendToBuckets(ticketId, firstSequence, events, TicketEventBucket.class);
+    }
+
+    @Override
+    public Map<Integer, String> insertAll(List<Ticket> tickets) {
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class);
+        for (Ticket ticket : tickets) {
+            if (ticket.getId() == null) {
+                ticket.setId(new ObjectId().toHexString());
+            }
+            operations.insert(ticket);
+        }
+
+        Map<Integer, String> failures = new HashMap<>();
+        try {
+            operations.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                failures.put(error.getIndex(), error.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public void replaceAll(List<Ticket> tickets) {
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class);
+        for (Ticket ticket : tickets) {
+            operations.replaceOne(Query.query(Criteria.where("id").is(ticket.getId())), ticket);
+        }
+        operations.execute();
+    }
+
+    @Override
+    public void appendPendingHistory(List<Ticket> tickets) {
+
+        BulkOperations comments = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketCommentBucket.class);
+        BulkOperations events = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketEventBucket.class);
+        boolean hasComments = false;
+        boolean hasEvents = false;
+        for (Ticket ticket : tickets) {
+            List<TicketComment> pendingComments = ticket.getPendingComments();
+            if (!pendingComments.isEmpty()) {
+                addBucketUpserts(comments, ticket.getId(),
+                        ticket.getCommentCount() - pendingComments.size() + 1, pendingComments);
+                hasComments = true;
+            }
+            List<TicketEvent> pendingEvents = ticket.getPendingEvents();
+            if (!pendingEvents.isEmpty()) {
+                addBucketUpserts(events, ticket.getId(),
+                        ticket.getEventCount() - pendingEvents.size() + 1, pendingEvents);
+                hasEvents = true;
+            }
+        }
+        if (hasComments) {
+            comments.execute();
+        }
+        if (hasEvents) {
+            events.execute();
+        }
+    }
+
+    @Override
+    public boolean migrateHistory(Ticket ticket, Long expectedVersion) {
+
+        Query query = Query.query(Criteria.where("id").is(ticket.getId())
+                .and("commentCount").exists(false)
+                .and("version").is(expectedVersion));
+        Update update = new Update()
+                .set("comments", ticket.getComments())
+                .set("events", ticket.getEvents())
+                .set("commentCount", ticket.getCommentCount())
+                .set("eventCount", ticket.getEventCount())
+                .inc("version", 1);
+        if (mongoTemplate.updateFirst(query, update, Ticket.class).getModifiedCount() == 0) {
+            return false;
+        }
+        appendPendingHistory(List.of(ticket));
+        return true;
+    }
+
+    @Override
+    public List<Ticket> claimOutbox(String claimToken, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+
+        Query candidates = Query.query(Criteria.where("outbox.availableAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "outbox.availableAt"))
+                .limit(limit);
+        candidates.fields().include("id");
+        List<String> ticketIds = mongoTemplate.find(candidates, Ticket.class).stream().map(Ticket::getId).toList();
+        if (ticketIds.isEmpty()) {
+            return List.of();
+        }
+
+        mongoTemplate.updateMulti(Query.query(Criteria.where("id").in(ticketIds).and("outbox.availableAt").lte(now)),
+                new Update()
+                        .set("outbox.claimToken", claimToken)
+                        .set("outbox.availableAt", leaseUntil)
+                        .inc("outbox.attempts", 1),
+                Ticket.class);
+
+        Query claimed = Query.query(Criteria.where("id").in(ticketIds).and("outbox.claimToken").is(claimToken));
+        claimed.fields().include("customerExternalId", "outbox");
+        return mongoTemplate.find(claimed, Ticket.class);
+    }
+
+    @Override
+    public long ackOutbox(Collection<String> ticketIds, String claimToken, LocalDateTime ackedAt) {
+
+        Query query = Query.query(Criteria.where("id").in(ticketIds)
+                .and("outbox.claimToken").is(claimToken)
+                .and("eventCount").exists(true));
+        return mongoTemplate.updateMulti(query, customerSyncedUpdate(ackedAt), Ticket.class).getModifiedCount();
+    }
+
+    @Override
+    public long markSynced(Collection<String> ticketIds, LocalDateTime syncedAt) {
+
+        Query query = Query.query(Criteria.where("id").in(ticketIds)
+                .and("syncStatus").is(SyncStatus.PENDING)
+                .and("outbox").exists(false)
+                .and("eventCount").exists(true));
+        return mongoTemplate.updateMulti(query, customerSyncedUpdate(syncedAt), Ticket.class).getModifiedCount();
+    }
+
+    @Override
+    public long markSyncFailed(Collection<String> ticketIds) {
+
+        Query query = Query.query(Criteria.where("id").in(ticketIds).and("syncStatus").is(SyncStatus.PENDING));
+        Document set = new Document("syncStatus", SyncStatus.FAILED.name())
+                .append("pendingOpenTicketDelta", new Document("$add", List.of(
+                        new Document("$ifNull", List.of("$pendingOpenTicketDelta", 0)), 1)))
+                .append("updatedAt", "$$NOW")
+                .append("version", new Document("$add", List.of(new Document("$ifNull", List.of("$version", 0L)), 1L)));
+        return mongoTemplate.updateMulti(query, AggregationUpdate.from(List.of(context -> new Document("$set", set))),
+                Ticket.class).getModifiedCount();
+    }
+
+    @Override
+    public long recordSyncFailure(Collection<String> ticketIds, int openTicketDelta) {
+
+        Query query = Query.query(Criteria.where("id").in(ticketIds));
+        Document set = new Document("pendingOpenTicketDelta", new Document("$add", List.of(
+                        new Document("$ifNull", List.of("$pendingOpenTicketDelta", new Document("$cond", List.of(
+                                new Document("$eq", List.of("$syncStatus", SyncStatus.FAILED.name())), 1, 0)))),
+                        openTicketDelta)))
+                .append("syncStatus", new Document("$cond", List.of(
+                        new Document("$eq", List.of("$syncStatus", SyncStatus.PENDING.name())),
+                        SyncStatus.PENDING.name(), SyncStatus.FAILED.name())))
+                .append("updatedAt", "$$NOW")
+                .append("version", new Document("$add", List.of(new Document("$ifNull", List.of("$version", 0L)), 1L)));
+        return mongoTemplate.updateMulti(query, AggregationUpdate.from(List.of(context -> new Document("$set", set))),
+                Ticket.class).getModifiedCount();
+    }
+
+    @Override
+    public Ticket markRecovered(String ticketId, int appliedDelta, TicketEvent event) {
+
+        Query query = Query.query(Criteria.where("id").is(ticketId)
+                .and("syncStatus").in(SyncStatus.FAILED, SyncStatus.PENDING)
+                .and("outbox").exists(false)
+                .and("eventCount").exists(true));
+        Document remaining = new Document("pendingOpenTicketDelta", new Document("$subtract", List.of(
+                new Document("$cond", List.of(
+                        new Document("$eq", List.of("$syncStatus", SyncStatus.PENDING.name())),
+                        new Document("$add", List.of(new Document("$ifNull", List.of("$pendingOpenTicketDelta", 0)), 1)),
+                        new Document("$ifNull", List.of("$pendingOpenTicketDelta", 1)))),
+                appliedDelta)));
+        Document settled = new Document("$eq", List.of("$pendingOpenTicketDelta", 0));
+        Document set = new Document("syncStatus", new Document("$cond", List.of(
+                        settled, SyncStatus.SYNCED.name(), SyncStatus.FAILED.name())))
+                .append("pendingOpenTicketDelta", new Document("$cond", List.of(
+                        settled, "$$REMOVE", "$pendingOpenTicketDelta")))
+                .append("updatedAt", "$$NOW")
+                .append("version", new Document("$add", List.of(new Document("$ifNull", List.of("$version", 0L)), 1L)));
+        if (event != null) {
+            set.append("events", new Document("$slice", List.of(
+                            new Document("$concatArrays", List.of(
+                                    new Document("$ifNull", Arrays.asList("$events", List.of())),
+                                    List.of(literal(mongoTemplate.getConverter().convertToMongoType(event))))),
+                            -TicketHistory.RECENT_ENTRIES)))
+                    .append("eventCount", new Document("$add", List.of("$eventCount", 1)));
+        }
+        AggregationUpdate update = AggregationUpdate.from(List.of(
+                context -> new Document("$set", remaining),
+                context -> new Document("$set", set)));
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Ticket.class);
+    }
+
+    @Override
+    public void appendSyncHistory(Collection<String> ticketIds, LocalDateTime syncedAt) {
+
+        Query query = Query.query(Criteria.where("id").in(ticketIds)
+                .and("events").elemMatch(Criteria.where("description")
+                        .is(TicketEventDescriptions.TICKET_COUNT_INCREMENTED)
+                        .and("timestamp").is(syncedAt)));
+        query.fields().include("eventCount", "events");
+
+        List<Ticket> histories = new ArrayList<>();
+        for (Ticket ticket : mongoTemplate.find(query, Ticket.class)) {
+            List<TicketEvent> events = ticket.getEvents();
+            int index = events.size() - 1;
+            while (index >= 0 && !(syncedAt.equals(events.get(index).getTimestamp())
+                    && TicketEventDescriptions.TICKET_COUNT_INCREMENTED.equals(events.get(index).getDescription()))) {
+                index--;
+            }
+            if (index < 0) {
+                log.warn("Sync event at {} not found in embedded events of ticket {}, skipping history append",
+                        syncedAt, ticket.getId());
+                continue;
+            }
+            histories.add(Ticket.builder()
+                    .id(ticket.getId())
+                    .commentCount(0)
+                    .eventCount(ticket.getEventCount() - (events.size() - 1 - index))
+                    .pendingEvents(new ArrayList<>(List.of(events.get(index))))
+                    .build());
+        }
+        appendPendingHistory(histories);
+    }
+
+    private AggregationUpdate customerSyncedUpdate(LocalDateTime syncedAt) {
+
+        Object now = literal(mongoTemplate.getConverter().convertToMongoType(syncedAt));
+        Document syncedEvent = new Document("eventType", TicketEventType.STATUS_CHANGED.name())
+                .append("description", literal(TicketEventDescriptions.TICKET_COUNT_INCREMENTED))
+                .append("performedBy", "$customerExternalId")
+                .append("timestamp", now);
+        Document set = new Document("syncStatus", new Document("$cond", List.of(
+                        new Document("$eq", List.of(new Document("$ifNull", List.of("$pendingOpenTicketDelta", 0)), 0)),
+                        SyncStatus.SYNCED.name(), SyncStatus.FAILED.name())))
+                .append("events", new Document("$slice", List.of(
+                        new Document("$concatArrays", List.of(
+                                new Document("$ifNull", Arrays.asList("$events", List.of())), List.of(syncedEvent))),
+                        -TicketHistory.RECENT_ENTRIES)))
+                .append("eventCount", new Document("$add", List.of("$eventCount", 1)))
+                .append("updatedAt", now)
+                .append("version", new Document("$add", List.of(new Document("$ifNull", List.of("$version", 0L)), 1L)));
+        return AggregationUpdate.from(List.of(
+                context -> new Document("$set", set),
+                context -> new Document("$unset", "outbox")));
+    }
+
+    @Override
+    public long failOutbox(Collection<String> ticketIds, String claimToken) {
+
+        Query query = Query.query(Criteria.where("id").in(ticketIds).and("outbox.claimToken").is(claimToken));
+        Document set = new Document("syncStatus", SyncStatus.FAILED.name())
+                .append("pendingOpenTicketDelta", new Document("$add", List.of(
+                        new Document("$ifNull", List.of("$pendingOpenTicketDelta", 0)),
+                        new Document("$ifNull", List.of("$outbox.openTicketDelta", 1)))))
+                .append("updatedAt", "$$NOW")
+                .append("version", new Document("$add", List.of(new Document("$ifNull", List.of("$version", 0L)), 1L)));
+        AggregationUpdate update = AggregationUpdate.from(List.of(
+                context -> new Document("$set", set),
+                context -> new Document("$unset", "outbox")));
+        return mongoTemplate.updateMulti(query, update, Ticket.class).getModifiedCount();
+    }
+
+    @Override
+    public void incrementRollups(String counter, Priority priority, LocalDateTime time) {
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketRollup.class);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            Query query = Query.query(Criteria.where("granularity").is(granularity)
+                    .and("bucketStart").is(granularity.bucketStart(time)));
+            operations.upsert(query, new Update().inc(counter + "." + priority.name(), 1));
+        }
+        operations.execute();
+    }
+
+    @Override
+    public List<TicketRollup> findRollups(RollupGranularity granularity, LocalDateTime fromDate, LocalDateTime toDate) {
+
+        Query query = Query.query(Criteria.where("granularity").is(granularity)
+                        .and("bucketStart").gte(granularity.bucketStart(fromDate)).lte(granularity.bucketStart(toDate)))
+                .with(Sort.by(Sort.Direction.ASC, "bucketStart"));
+        return secondaryMongoTemplate.find(query, TicketRollup.class);
+    }
+
+    private void appendToBuckets(String ticketId, int firstSequence, List<? extends TicketHistoryEntry> entries,
+                                 Class<?> bucketType) {
+
+        groupByBucket(firstSequence, entries).forEach((bucket, bucketEntries) ->
+                mongoTemplate.upsert(bucketQuery(ticketId, bucket), bucketUpdate(bucketEntries), bucketType));
+    }
+
+    private static void addBucketUpserts(BulkOperations operations, String ticketId, int firstSequence,
+                                         List<? extends TicketHistoryEntry> entries) {
+
+        groupByBucket(firstSequence, entries).forEach((bucket, bucketEntries) ->
+                operations.upsert(bucketQuery(ticketId, bucket), bucketUpdate(bucketEntries)));
+    }
+
+    private static Map<Integer, List<Object>> groupByBucket(int firstSequence,
+                                                           List<? extends TicketHistoryEntry> entries) {
+
+        Map<Integer, List<Object>> entriesByBucket = new TreeMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            TicketHistoryEntry entry = entries.get(i);
+            entry.setSeq(firstSequence + i);
+            entriesByBucket.computeIfAbsent(bucketOf(firstSequence + i), bucket -> new ArrayList<>()).add(entry);
+        }
+        return entriesByBucket;
+    }
+
+    private static Query bucketQuery(String ticketId, int bucket) {
+        return Query.query(Criteria.where("ticketId").is(ticketId).and("bucket").is(bucket));
+    }
+
+    private static Update bucketUpdate(List<Object> bucketEntries) {
+        return new Update()
+                .push("entries").each(bucketEntries.toArray())
+                .inc("count", bucketEntries.size());
+    }
+
+    private static Query historyTrackedTicket(String ticketId) {
+        return Query.query(Criteria.where("id").is(ticketId)
+                .and("commentCount").exists(true)
+                .and("eventCount").exists(true));
+    }
+
+    private static Document literal(Object value) {
+        return new Document("$literal", value);
+    }
+
+    static int bucketOf(int sequence) {
+        return (sequence - 1) / TicketHistory.BUCKET_SIZE;
+    }
+
+    private Query buildPageQuery(TicketFilter filter, TicketSortField sort, TicketPageCursor after, int limit) {
+
+        Criteria criteria = buildCriteria(filter);
+        if (after != null) {
+            criteria = criteria.andOperator(buildKeysetCriteria(sort, after));
+        }
+        return Query.query(criteria).with(buildSort(sort)).limit(limit);
+    }
+
+    static Criteria buildCriteria(TicketFilter filter) {
+
+        Criteria criteria = new Criteria();
+
+        if (filter.getCustomerExternalId() != null && !filter.getCustomerExternalId().isBlank()) {
+            criteria = criteria.and("customerExternalId").is(filter.getCustomerExternalId());
+        }
+        if (filter.getStatus() != null) {
+            criteria = criteria.and("status").is(filter.getStatus());
+        }
+        if (filter.getPriority() != null) {
+            criteria = criteria.and("priority").is(filter.getPriority());
+        }
+        if (filter.getFromDate() != null || filter.getToDate() != null) {
+            criteria = criteria.and("createdAt");
+            if (filter.getFromDate() != null) {
+                criteria = criteria.gte(filter.getFromDate());
+            }
+            if (filter.getToDate() != null) {
+                criteria = criteria.lte(filter.getToDate());
+            }
+        }
+        return criteria;
+    }
+
+    static Sort buildSort(TicketSortField sort) {
+        if (sort == TicketSortField.PRIORITY) {
+            return Sort.by(Sort.Direction.DESC, "priorityRank", "createdAt", "id");
+        }
+        return Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    }
+
+    static Criteria buildKeysetCriteria(TicketSortField sort, TicketPageCursor after) {
+
+        Criteria olderThanCursor = new Criteria().orOperator(
+                Criteria.where("createdAt").lt(after.getCreatedAt()),
+                Criteria.where("createdAt").is(after.getCreatedAt()).and("id").lt(after.getId())
+        );
+
+        if (sort == TicketSortField.PRIORITY) {
+            return new Criteria().orOperator(
+                    Criteria.where("priorityRank").lt(after.getPriorityRank()),
+                    new Criteria().andOperator(Criteria.where("priorityRank").is(after.getPriorityRank()), olderThanCursor)
+            );
+        }
+        return olderThanCursor;
+    }
+}
@@ -0,0 +1,78 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketArchiveService implements ITicketArchiveService {
+
+    private final TicketRepository ticketRepository;
+    private final TicketCache ticketCache;
+
+    @Value("${ticket.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ticket.archive.closed-for:90d}")
+    private Duration closedFor;
+
+    @Value("${ticket.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${ticket.archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${ticket.archive.batch-pause:200ms}")
+    private Duration batchPause;
+
+    @Scheduled(fixedDelayString = "${ticket.archive.interval-ms:60000}",
+            initialDelayString = "${ticket.archive.interval-ms:60000}")
+    public synchronized long archiveClosedTickets() {
+
+        if (!enabled) {
+            return 0;
+        }
+
+        LocalDateTime closedBefore = LocalDateTime.now().minus(closedFor);
+        long archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Ticket> tickets = ticketRepository.findArchivable(closedBefore, batchSize);
+            if (tickets.isEmpty()) {
+                break;
+            }
+
+            archived += ticketRepository.archive(tickets);
+            tickets.forEach(ticket -> ticketCache.invalidate(ticket.getId()));
+
+            if (tickets.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} tickets closed before {}", archived, closedBefore);
+        }
+        return archived;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketCacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class TicketCache {
+
+    private static final int TEXT_BYTES_PER_UNIT = 1024;
+
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private long totalWeight;
+
+    public TicketCache(@Value("${ticket.cache.max-weight:10000}") long maxWeight,
+                       @Value("${ticket.cache.ttl:30s}") Duration ttl) {
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Optional<Ticket> get(String id, Function<String, Optional<Ticket>> loader) {
+
+        Entry entry;
+        boolean owner = false;
+        synchronized (this) {
+            entry = entries.get(id);
+            if (entry != null && entry.isExpired()) {
+                remove(id, entry);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(id, entry);
+                owner = true;
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+        }
+
+        if (owner) {
+            load(id, entry, loader);
+        }
+        try {
+            return Optional.ofNullable(entry.ticket.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public synchronized Optional<Ticket> peek(String id) {
+        Entry entry = entries.get(id);
+        if (entry == null || !entry.ticket.isDone() || entry.isExpired()
+                || entry.ticket.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry.ticket.getNow(null));
+    }
+
+    public synchronized void invalidate(String id) {
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            remove(id, entry);
+            invalidations.increment();
+        }
+    }
+
+    public synchronized TicketCacheStats getStats() {
+        return TicketCacheStats.builder()
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .evictions(evictions.sum())
+                .invalidations(invalidations.sum())
+                .size(entries.size())
+                .weight(totalWeight)
+                .maxWeight(maxWeight)
+                .build();
+    }
+
+    private void load(String id, Entry entry, Function<String, Optional<Ticket>> loader) {
+        Ticket ticket;
+        try {
+            ticket = loader.apply(id).orElse(null);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                remove(id, entry);
+            }
+            entry.ticket.completeExceptionally(e);
+            return;
+        }
+
+        synchronized (this) {
+            long weight = ticket != null ? weigh(ticket) : 0;
+            if (ticket == null || weight > maxWeight || entries.get(id) != entry) {
+                remove(id, entry);
+            } else {
+                entry.weight = weight;
+                entry.expiresAt = System.nanoTime() + ttlNanos;
+                totalWeight += weight;
+                evictOverweight();
+            }
+        }
+        entry.ticket.complete(ticket);
+    }
+
+    private void evictOverweight() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            if (eldest.weight == 0) {
+                continue;
+            }
+            iterator.remove();
+            totalWeight -= eldest.weight;
+            evictions.increment();
+        }
+    }
+
+    private void remove(String id, Entry entry) {
+        if (entries.get(id) == entry) {
+            entries.remove(id);
+            totalWeight -= entry.weight;
+        }
+    }
+
+    private static long weigh(Ticket ticket) {
+        long textLength = length(ticket.getTitle()) + length(ticket.getDescription());
+        return 1 + size(ticket.getComments()) + size(ticket.getEvents()) + textLength / TEXT_BYTES_PER_UNIT;
+    }
+
+    private static int size(Collection<?> values) {
+        return values != null ? values.size() : 0;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<Ticket> ticket = new CompletableFuture<>();
+        private long weight;
+        private long expiresAt;
+
+        private boolean isExpired() {
+            return ticket.isDone() && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.support.ticket.service;
+
+import com.support.customer.service.interfaces.ICustomerService;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketCountBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketCountBuffer implements ITicketCountBuffer {
+
+    private final TicketRepository ticketRepository;
+    private final ICustomerService customerService;
+    private final TicketCache ticketCache;
+
+    // Queued per ticket rather than summed per customer: the flush needs the ticket ids for the increment ledger
+    // and for markSynced, and the per-customer sums are built from them inside the same MySQL transaction.
+    private final ConcurrentLinkedQueue<Map.Entry<String, String>> pendingTickets = new ConcurrentLinkedQueue<>();
+
+    public void add(String customerExternalId, String ticketId) {
+        pendingTickets.add(Map.entry(ticketId, customerExternalId));
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.count-buffer.flush-interval-ms:200}")
+    public synchronized int flush() {
+
+        Map<String, String> customerByTicketId = new LinkedHashMap<>();
+        for (Map.Entry<String, String> ticket = pendingTickets.poll(); ticket != null; ticket = pendingTickets.poll()) {
+            customerByTicketId.put(ticket.getKey(), ticket.getValue());
+        }
+        if (customerByTicketId.isEmpty()) {
+            return 0;
+        }
+
+        List<String> ticketIds = new ArrayList<>(customerByTicketId.keySet());
+        try {
+            customerService.incrementOpenTicketCountsForTickets(customerByTicketId);
+        } catch (Exception e) {
+            log.error("Failed to flush buffered ticket counts for {} tickets; marking them for recovery",
+                    ticketIds.size(), e);
+            ticketRepository.markSyncFailed(ticketIds);
+            ticketIds.forEach(ticketCache::invalidate);
+            return 0;
+        }
+
+        LocalDateTime syncedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        long synced = ticketRepository.markSynced(ticketIds, syncedAt);
+        ticketIds.forEach(ticketCache::invalidate);
+        if (synced > 0) {
+            ticketRepository.appendSyncHistory(ticketIds, syncedAt);
+        }
+        log.debug("Flushed buffered ticket counts: tickets={}", ticketIds.size());
+        return ticketIds.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,142 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketStats;
+import com.support.ticket.model.TicketStatusPriorityCount;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.ReadConsistency;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketCounterService implements ITicketCounterService {
+
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final TicketRepository ticketRepository;
+    private final LongAdder[] counters = newCounters();
+
+    private volatile boolean seeded;
+    private long[] unconfirmedDrift;
+
+    public void recordCreated(TicketStatus status, Priority priority) {
+        counter(status, priority).increment();
+    }
+
+    public void recordTransition(Priority priority, TicketStatus fromStatus, TicketStatus toStatus) {
+        if (fromStatus == toStatus) {
+            return;
+        }
+        counter(fromStatus, priority).decrement();
+        counter(toStatus, priority).increment();
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public TicketStats getCounts() {
+        List<TicketStatusPriorityCount> counts = new ArrayList<>(counters.length);
+        for (TicketStatus status : STATUSES) {
+            for (Priority priority : PRIORITIES) {
+                counts.add(new TicketStatusPriorityCount(status, priority, counter(status, priority).sum()));
+            }
+        }
+        return TicketStats.fromCounts(counts);
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.counters.drift-check-interval-ms:300000}")
+    public synchronized void checkDrift() {
+        long[] before = snapshot();
+        long[] actual = new long[counters.length];
+        for (TicketStatusPriorityCount count : ticketRepository.countByStatusAndPriority(new TicketFilter(), ReadConsistency.PRIMARY)) {
+            actual[index(count.getStatus(), count.getPriority())] += count.getCount();
+        }
+        long[] after = snapshot();
+
+        long[] drift = new long[counters.length];
+        boolean drifted = false;
+        for (int i = 0; i < drift.length; i++) {
+            drift[i] = actual[i] - after[i];
+            drifted |= drift[i] != 0;
+        }
+
+        if (!seeded) {
+            applyDrift(drift);
+            seeded = true;
+            log.info("Seeded ticket counters: total={}", Arrays.stream(actual).sum());
+            return;
+        }
+        if (!drifted) {
+            unconfirmedDrift = null;
+            return;
+        }
+        if (!Arrays.equals(before, after) || !Arrays.equals(drift, unconfirmedDrift)) {
+            unconfirmedDrift = Arrays.equals(before, after) ? drift : null;
+            log.debug("Ticket counters differ from stored counts, confirming on next check");
+            return;
+        }
+
+        log.warn("Correcting ticket counter drift: {}", describe(drift));
+        applyDrift(drift);
+        unconfirmedDrift = null;
+    }
+
+    private void applyDrift(long[] drift) {
+        for (int i = 0; i < drift.length; i++) {
+            if (drift[i] != 0) {
+                counters[i].add(drift[i]);
+            }
+        }
+    }
+
+    private long[] snapshot() {
+        long[] values = new long[counters.length];
+        for (int i = 0; i < counters.length; i++) {
+            values[i] = counters[i].sum();
+        }
+        return values;
+    }
+
+    private String describe(long[] drift) {
+        List<String> entries = new ArrayList<>();
+        for (TicketStatus status : STATUSES) {
+            for (Priority priority : PRIORITIES) {
+                long value = drift[index(status, priority)];
+                if (value != 0) {
+                    entries.add(status + "/" + priority + "=" + value);
+                }
+            }
+        }
+        return String.join(", ", entries);
+    }
+
+    private LongAdder counter(TicketStatus status, Priority priority) {
+        return counters[index(status, priority)];
+    }
+
+    private static int index(TicketStatus status, Priority priority) {
+        return status.ordinal() * PRIORITIES.length + priority.ordinal();
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[STATUSES.length * PRIORITIES.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
@@ -2,18 +2,35 @@ package com.support.ticket.service;
 
 import com.support.customer.service.interfaces.ICustomerService;
 import com.support.ticket.constants.TicketEventDescriptions;
+import com.support.ticket.service.interfaces.ITicketCountBuffer;
+import com.support.ticket.service.interfaces.ITicketCounterService;
+import com.support.ticket.service.interfaces.ITicketFeedService;
 import com.support.ticket.service.interfaces.ITicketCreationOrchestrator;
+import com.support.ticket.service.interfaces.ITicketRollupService;
 import com.support.ticket.service.interfaces.ITicketService;
 import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBatchItemResult;
 import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.TicketFeedEvent;
+import com.support.ticket.model.TicketOutboxEntry;
 import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketBatchItemStatus;
 import com.support.ticket.model.enums.TicketEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -22,6 +39,16 @@ public class TicketCreationOrchestrator implements ITicketCreationOrchestrator {
 
     private final ITicketService ticketService;
     private final ICustomerService customerService;
+    private final ITicketCounterService ticketCounterService;
+    private final ITicketRollupService ticketRollupService;
+    private final ITicketFeedService ticketFeedService;
+    private final ITicketCountBuffer ticketCountBuffer;
+
+    @Value("${ticket.outbox.enabled:false}")
+    private boolean outboxEnabled;
+
+    @Value("${ticket.count-buffer.enabled:false}")
+    private boolean countBufferEnabled;
 
     public Ticket createTicket(Ticket ticket, String idempotencyKey) {
         
@@ -50,23 +77,148 @@ public class TicketCreationOrchestrator implements ITicketCreationOrchestrator {
                 customerExternalId
         );
         ticket.addEvent(createdEvent);
+        ticket.setSyncStatus(SyncStatus.PENDING);
+        if (outboxEnabled) {
+            ticket.setOutbox(TicketOutboxEntry.openTicketDelta(1));
+        }
 
         Ticket savedTicket = ticketService.save(ticket);
+        ticketCounterService.recordCreated(savedTicket.getStatus(), savedTicket.getPriority());
+        ticketRollupService.recordCreated(savedTicket.getPriority(), savedTicket.getCreatedAt());
+        ticketFeedService.publish(TicketFeedEvent.of(savedTicket, createdEvent));
 
-        try {
-            syncTicketToCustomer(savedTicket, TicketEventDescriptions.TICKET_COUNT_INCREMENTED);
-            log.info("Ticket created successfully: ticketId={}, customerId={}, idempotencyKey={}", 
+        if (outboxEnabled) {
+            log.info("Ticket created with pending customer sync: ticketId={}, customerId={}, idempotencyKey={}",
+                savedTicket.getId(), customerExternalId, idempotencyKey);
+            return savedTicket;
+        }
+        if (countBufferEnabled) {
+            ticketCountBuffer.add(customerExternalId, savedTicket.getId());
+            log.info("Ticket created with buffered customer sync: ticketId={}, customerId={}, idempotencyKey={}",
                 savedTicket.getId(), customerExternalId, idempotencyKey);
+            return savedTicket;
+        }
+
+        try {
+            customerService.incrementOpenTicketCountsForTickets(Map.of(savedTicket.getId(), customerExternalId));
         } catch (Exception e) {
             log.error("Failed to increment ticket count for customer: {}", customerExternalId, e);
+            ticketService.markCustomerSyncFailed(savedTicket.getId());
             savedTicket.setSyncStatus(SyncStatus.FAILED);
-            ticketService.save(savedTicket);
             throw new RuntimeException("Failed to complete ticket creation: " + e.getMessage(), e);
         }
 
+        syncTicketToCustomer(savedTicket, TicketEventDescriptions.TICKET_COUNT_INCREMENTED);
+        log.info("Ticket created successfully: ticketId={}, customerId={}, idempotencyKey={}", 
+            savedTicket.getId(), customerExternalId, idempotencyKey);
         return savedTicket;
     }
 
+    public List<TicketBatchItemResult> createTickets(List<Ticket> tickets) {
+
+        TicketBatchItemResult[] results = new TicketBatchItemResult[tickets.size()];
+        Map<String, Integer> firstIndexByKey = new LinkedHashMap<>();
+        for (int i = 0; i < tickets.size(); i++) {
+            Ticket ticket = tickets.get(i);
+            if (ticket.getIdempotencyKey() == null || ticket.getIdempotencyKey().isBlank()) {
+                ticket.setIdempotencyKey(UUID.randomUUID().toString());
+            }
+            firstIndexByKey.putIfAbsent(ticket.getIdempotencyKey(), i);
+        }
+
+        Map<String, Ticket> existingTickets = ticketService.findByIdempotencyKeys(firstIndexByKey.keySet());
+        List<Integer> candidates = new ArrayList<>();
+        for (int index : firstIndexByKey.values()) {
+            Ticket existingTicket = existingTickets.get(tickets.get(index).getIdempotencyKey());
+            if (existingTicket != null) {
+                results[index] = TicketBatchItemResult.of(index, TicketBatchItemStatus.DUPLICATE, existingTicket);
+            } else {
+                candidates.add(index);
+            }
+        }
+
+        Set<String> knownCustomers = customerService.findExistingExternalIds(candidates.stream()
+                .map(index -> tickets.get(index).getCustomerExternalId())
+                .collect(Collectors.toSet()));
+
+        List<Integer> insertIndexes = new ArrayList<>();
+        List<Ticket> toInsert = new ArrayList<>();
+        List<TicketEvent> createdEvents = new ArrayList<>();
+        for (int index : candidates) {
+            Ticket ticket = tickets.get(index);
+            String customerExternalId = ticket.getCustomerExternalId();
+            if (!knownCustomers.contains(customerExternalId)) {
+                results[index] = TicketBatchItemResult.error(index, TicketBatchItemStatus.REJECTED,
+                        "Customer does not exist: " + customerExternalId);
+                continue;
+            }
+            TicketEvent createdEvent = new TicketEvent(
+                    TicketEventType.CREATED,
+                    TicketEventDescriptions.TICKET_CREATED,
+                    customerExternalId
+            );
+            ticket.setSyncStatus(SyncStatus.PENDING);
+            if (outboxEnabled) {
+                ticket.setOutbox(TicketOutboxEntry.openTicketDelta(1));
+            }
+            ticket.addEvent(createdEvent);
+            insertIndexes.add(index);
+            toInsert.add(ticket);
+            createdEvents.add(createdEvent);
+        }
+
+        Map<Integer, String> insertFailures = toInsert.isEmpty() ? Map.of() : ticketService.insertAll(toInsert);
+        List<Ticket> createdTickets = new ArrayList<>();
+        Map<String, Integer> increments = new HashMap<>();
+        Map<Integer, String> failedIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < toInsert.size(); i++) {
+            int index = insertIndexes.get(i);
+            if (insertFailures.containsKey(i)) {
+                failedIndexes.put(index, insertFailures.get(i));
+                continue;
+            }
+            Ticket createdTicket = toInsert.get(i);
+            createdTickets.add(createdTicket);
+            increments.merge(createdTicket.getCustomerExternalId(), 1, Integer::sum);
+            results[index] = TicketBatchItemResult.of(index, TicketBatchItemStatus.CREATED, createdTicket);
+            ticketCounterService.recordCreated(createdTicket.getStatus(), createdTicket.getPriority());
+            ticketRollupService.recordCreated(createdTicket.getPriority(), createdTicket.getCreatedAt());
+            ticketFeedService.publish(TicketFeedEvent.of(createdTicket, createdEvents.get(i)));
+        }
+
+        if (!failedIndexes.isEmpty()) {
+            Map<String, Ticket> racedTickets = ticketService.findByIdempotencyKeys(failedIndexes.keySet().stream()
+                    .map(index -> tickets.get(index).getIdempotencyKey())
+                    .toList());
+            failedIndexes.forEach((index, error) -> {
+                Ticket racedTicket = racedTickets.get(tickets.get(index).getIdempotencyKey());
+                results[index] = racedTicket != null
+                        ? TicketBatchItemResult.of(index, TicketBatchItemStatus.DUPLICATE, racedTicket)
+                        : TicketBatchItemResult.error(index, TicketBatchItemStatus.FAILED, error);
+            });
+        }
+
+        if (countBufferEnabled && !outboxEnabled) {
+            createdTickets.forEach(createdTicket ->
+                    ticketCountBuffer.add(createdTicket.getCustomerExternalId(), createdTicket.getId()));
+        } else if (!outboxEnabled) {
+            syncTicketsToCustomers(createdTickets);
+        }
+
+        for (int i = 0; i < tickets.size(); i++) {
+            if (results[i] == null) {
+                TicketBatchItemResult first = results[firstIndexByKey.get(tickets.get(i).getIdempotencyKey())];
+                results[i] = first.getTicket() != null
+                        ? TicketBatchItemResult.of(i, TicketBatchItemStatus.DUPLICATE, first.getTicket())
+                        : TicketBatchItemResult.error(i, first.getStatus(), first.getError());
+            }
+        }
+
+        log.info("Ticket batch processed: size={}, created={}, customers={}",
+                tickets.size(), createdTickets.size(), increments.size());
+        return Arrays.asList(results);
+    }
+
     public void recoverTicket(Ticket ticket) {
         String customerExternalId = ticket.getCustomerExternalId();
         
@@ -75,32 +227,80 @@ public class TicketCreationOrchestrator implements ITicketCreationOrchestrator {
             return;
         }
 
+        Integer pendingDelta = ticket.getPendingOpenTicketDelta();
+        boolean creationPending = ticket.getSyncStatus() == SyncStatus.PENDING;
+        int openTicketDelta = creationPending
+                ? (pendingDelta != null ? pendingDelta : 0) + 1
+                : (pendingDelta != null ? pendingDelta : 1);
+
         try {
-            syncTicketToCustomer(ticket, TicketEventDescriptions.TICKET_COUNT_INCREMENTED_RECOVERED);
-            log.info("Successfully recovered ticket: ticketId={}, customerId={}", 
-                ticket.getId(), customerExternalId);
+            if (creationPending) {
+                customerService.incrementOpenTicketCountsForTickets(Map.of(ticket.getId(), customerExternalId));
+            }
+            int transitionDelta = creationPending ? openTicketDelta - 1 : openTicketDelta;
+            if (transitionDelta != 0) {
+                customerService.incrementOpenTicketCounts(Map.of(customerExternalId, transitionDelta));
+            }
+            TicketEvent recoveredEvent = null;
+            if (openTicketDelta != 0) {
+                recoveredEvent = new TicketEvent(
+                        TicketEventType.STATUS_CHANGED,
+                        openTicketDelta > 0
+                                ? TicketEventDescriptions.TICKET_COUNT_INCREMENTED_RECOVERED
+                                : TicketEventDescriptions.TICKET_COUNT_DECREMENTED_RECOVERED,
+                        customerExternalId
+                );
+            }
+            if (ticketService.markRecovered(ticket.getId(), openTicketDelta, recoveredEvent).isEmpty()) {
+                log.warn("Ticket {} changed sync state during recovery of delta {}", ticket.getId(), openTicketDelta);
+                return;
+            }
+            log.info("Successfully recovered ticket: ticketId={}, customerId={}, delta={}",
+                ticket.getId(), customerExternalId, openTicketDelta);
         } catch (Exception e) {
-            log.error("Failed to increment ticket count for customer: {} in ticket: {}", 
-                    customerExternalId, ticket.getId(), e);
-            ticket.setSyncStatus(SyncStatus.FAILED);
-            ticketService.save(ticket);
+            log.error("Failed to apply open ticket delta {} for customer: {} in ticket: {}",
+                    openTicketDelta, customerExternalId, ticket.getId(), e);
         }
     }
 
+    private void syncTicketsToCustomers(List<Ticket> tickets) {
+
+        if (tickets.isEmpty()) {
+            return;
+        }
+        Map<String, String> customerByTicketId = new LinkedHashMap<>();
+        tickets.forEach(ticket -> customerByTicketId.put(ticket.getId(), ticket.getCustomerExternalId()));
+        try {
+            customerService.incrementOpenTicketCountsForTickets(customerByTicketId);
+            for (Ticket ticket : tickets) {
+                ticket.setSyncStatus(SyncStatus.SYNCED);
+                ticket.addEvent(new TicketEvent(
+                        TicketEventType.STATUS_CHANGED,
+                        TicketEventDescriptions.TICKET_COUNT_INCREMENTED,
+                        ticket.getCustomerExternalId()
+                ));
+            }
+        } catch (Exception e) {
+            log.error("Failed to increment ticket counts for {} tickets in batch", tickets.size(), e);
+            tickets.forEach(ticket -> ticket.setSyncStatus(SyncStatus.FAILED));
+        }
+        ticketService.saveAll(tickets);
+    }
+
+    // Guarded on the ticket still being PENDING, so a status change or recovery that touched the ticket after the
+    // save is not overwritten by this instance's copy.
     private void syncTicketToCustomer(Ticket ticket, String eventDescription) {
 
-        String customerExternalId = ticket.getCustomerExternalId();
-        customerService.incrementOpenTicketCount(customerExternalId);
+        if (!ticketService.markCustomerSynced(ticket.getId())) {
+            log.warn("Ticket {} was no longer PENDING when its creation increment was recorded", ticket.getId());
+            return;
+        }
         ticket.setSyncStatus(SyncStatus.SYNCED);
-        
-        TicketEvent syncedEvent = new TicketEvent(
+        ticket.addEvent(new TicketEvent(
                 TicketEventType.STATUS_CHANGED,
                 eventDescription,
-                customerExternalId
-        );
-
-        ticket.addEvent(syncedEvent);
-        ticketService.save(ticket);
+                ticket.getCustomerExternalId()
+        ));
     }
 }
 
@@ -0,0 +1,189 @@
+package com.support.ticket.service;
+
+import com.support.ticket.exception.TicketFeedFullException;
+import com.support.ticket.model.TicketFeedEvent;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.service.interfaces.ITicketFeedService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class TicketFeedService implements ITicketFeedService {
+
+    static final String DROPPED_EVENT = "dropped";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Fixed pool shared by all subscribers. A subscriber has at most one drain task queued or running, so the queue
+    // is bounded by max-subscribers, and a drain yields after bufferSize sends so one busy stream cannot hold a thread.
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final ThreadPoolExecutor executor;
+
+    public TicketFeedService(@Value("${ticket.feed.buffer-size:256}") int bufferSize,
+                             @Value("${ticket.feed.max-subscribers:1000}") int maxSubscribers,
+                             @Value("${ticket.feed.send-threads:4}") int sendThreads,
+                             @Value("${ticket.feed.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.executor = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "ticket-feed-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public void publish(TicketFeedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (event.matches(subscriber.filter)) {
+                subscriber.offer(SseEmitter.event().name(event.getEventType().name()).data(event));
+            }
+        }
+    }
+
+    public SseEmitter subscribe(TicketFilter filter) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        register(emitter, filter);
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.feed.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment(HEARTBEAT));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        executor.shutdownNow();
+    }
+
+    synchronized Subscriber register(SseEmitter emitter, TicketFilter filter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new TicketFeedFullException(maxSubscribers);
+        }
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return subscriber;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final TicketFilter filter;
+        private final Deque<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+        private long dropped;
+        private long droppedTotal;
+        private boolean draining;
+        private boolean closed;
+
+        private Subscriber(SseEmitter emitter, TicketFilter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    dropped++;
+                    droppedTotal++;
+                }
+                buffer.addLast(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+
+        synchronized long getDroppedTotal() {
+            return droppedTotal;
+        }
+
+        synchronized int getBuffered() {
+            return buffer.size();
+        }
+
+        private void drain() {
+            for (int sent = 0; ; sent++) {
+                SseEmitter.SseEventBuilder next;
+                long missed;
+                synchronized (this) {
+                    if (buffer.isEmpty()) {
+                        draining = false;
+                        return;
+                    }
+                    if (sent == bufferSize) {
+                        break;
+                    }
+                    next = buffer.pollFirst();
+                    missed = dropped;
+                    dropped = 0;
+                }
+                try {
+                    if (missed > 0) {
+                        emitter.send(SseEmitter.event().name(DROPPED_EVENT).data(missed));
+                    }
+                    emitter.send(next);
+                } catch (Exception e) {
+                    log.debug("Closing ticket feed subscriber after failed send: {}", e.getMessage());
+                    subscribers.remove(this);
+                    emitter.completeWithError(e);
+                    synchronized (this) {
+                        closed = true;
+                        buffer.clear();
+                        draining = false;
+                    }
+                    return;
+                }
+            }
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.support.ticket.service;
+
+import com.support.customer.service.interfaces.ICustomerService;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketOutboxService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class TicketOutboxService implements ITicketOutboxService {
+
+    private final TicketRepository ticketRepository;
+    private final ICustomerService customerService;
+    private final TicketCache ticketCache;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final int workers;
+    private final ThreadPoolExecutor executor;
+
+    public TicketOutboxService(TicketRepository ticketRepository,
+                               ICustomerService customerService,
+                               TicketCache ticketCache,
+                               @Value("${ticket.outbox.batch-size:500}") int batchSize,
+                               @Value("${ticket.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                               @Value("${ticket.outbox.max-attempts:10}") int maxAttempts,
+                               @Value("${ticket.outbox.lease:30s}") Duration lease,
+                               @Value("${ticket.outbox.workers:4}") int workers) {
+        this.ticketRepository = ticketRepository;
+        this.customerService = customerService;
+        this.ticketCache = ticketCache;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.workers = workers;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers), runnable -> {
+                    Thread thread = new Thread(runnable, "ticket-outbox-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.outbox.drain-interval-ms:1000}",
+            initialDelayString = "${ticket.outbox.drain-interval-ms:1000}")
+    public synchronized int drainOutbox() {
+
+        int drained = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            String claimToken = UUID.randomUUID().toString();
+            LocalDateTime now = LocalDateTime.now();
+            List<Ticket> claimed = ticketRepository.claimOutbox(claimToken, now, now.plus(lease), batchSize);
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            drained += drainClaimed(claimed, claimToken);
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (drained > 0) {
+            log.info("Drained {} ticket outbox entries", drained);
+        }
+        return drained;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private int drainClaimed(List<Ticket> claimed, String claimToken) {
+
+        Map<String, List<Ticket>> ticketsByCustomer = new LinkedHashMap<>();
+        claimed.forEach(ticket -> ticketsByCustomer
+                .computeIfAbsent(ticket.getCustomerExternalId(), customer -> new ArrayList<>())
+                .add(ticket));
+
+        int partitionCount = Math.min(workers, ticketsByCustomer.size());
+        List<List<Ticket>> partitions = new ArrayList<>();
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        int next = 0;
+        for (List<Ticket> customerTickets : ticketsByCustomer.values()) {
+            partitions.get(next++ % partitionCount).addAll(customerTickets);
+        }
+
+        List<CompletableFuture<Integer>> futures = partitions.stream()
+                .map(partition -> CompletableFuture.supplyAsync(() -> drainPartition(partition, claimToken), executor))
+                .toList();
+        return futures.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    private int drainPartition(List<Ticket> tickets, String claimToken) {
+
+        // Outbox entries carry the creation increment, so they go through the per-ticket ledger: a claim that is
+        // redelivered after its lease expired cannot count the same ticket twice.
+        Map<String, String> customerByTicketId = new LinkedHashMap<>();
+        tickets.forEach(ticket -> customerByTicketId.put(ticket.getId(), ticket.getCustomerExternalId()));
+        List<String> ticketIds = List.copyOf(customerByTicketId.keySet());
+
+        try {
+            customerService.incrementOpenTicketCountsForTickets(customerByTicketId);
+        } catch (Exception e) {
+            log.error("Failed to apply outbox increments for {} tickets", customerByTicketId.size(), e);
+            List<String> exhausted = tickets.stream()
+                    .filter(ticket -> ticket.getOutbox().getAttempts() >= maxAttempts)
+                    .map(Ticket::getId)
+                    .toList();
+            if (!exhausted.isEmpty()) {
+                ticketRepository.failOutbox(exhausted, claimToken);
+                exhausted.forEach(ticketCache::invalidate);
+                log.warn("Marked {} tickets as sync FAILED after {} outbox attempts", exhausted.size(), maxAttempts);
+            }
+            return 0;
+        }
+
+        try {
+            LocalDateTime ackedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            long acked = ticketRepository.ackOutbox(ticketIds, claimToken, ackedAt);
+            ticketIds.forEach(ticketCache::invalidate);
+            if (acked > 0) {
+                ticketRepository.appendSyncHistory(ticketIds, ackedAt);
+            }
+            return (int) acked;
+        } catch (Exception e) {
+            log.error("Failed to acknowledge outbox entries for {} tickets", ticketIds.size(), e);
+            return 0;
+        }
+    }
+}
@@ -7,9 +7,13 @@ import com.support.ticket.model.enums.SyncStatus;
 import com.support.ticket.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -20,11 +24,18 @@ public class TicketRecoveryService implements ITicketRecoveryService {
     private final TicketRepository ticketRepository;
     private final ITicketCreationOrchestrator ticketCreationOrchestrator;
 
+    @Value("${ticket.recovery.pending-timeout:5m}")
+    private Duration pendingTimeout;
+
     @Scheduled(fixedDelay = 300000)
     public void recoverFailedTickets() {
 
-        List<Ticket> failedTickets = ticketRepository.findBySyncStatus(SyncStatus.FAILED);
-        log.info("Found {} failed tickets to retry recovery", failedTickets.size());
+        List<Ticket> failedTickets = new ArrayList<>(ticketRepository.findBySyncStatus(SyncStatus.FAILED));
+        List<Ticket> stalePendingTickets = ticketRepository.findBySyncStatusAndOutboxIsNullAndCreatedAtBefore(
+                SyncStatus.PENDING, LocalDateTime.now().minus(pendingTimeout));
+        failedTickets.addAll(stalePendingTickets);
+        log.info("Found {} failed tickets to retry recovery ({} stuck pending)", failedTickets.size(),
+                stalePendingTickets.size());
 
         for (Ticket ticket : failedTickets) {
             try {
@@ -0,0 +1,87 @@
+package com.support.ticket.service;
+
+import com.support.ticket.constants.TicketRollups;
+import com.support.ticket.model.TicketHistogram;
+import com.support.ticket.model.TicketRollup;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.RollupGranularity;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketRollupService implements ITicketRollupService {
+
+    private final TicketRepository ticketRepository;
+
+    public void recordCreated(Priority priority, LocalDateTime createdAt) {
+        increment(TicketRollups.CREATED, priority, createdAt);
+    }
+
+    public void recordResolved(Priority priority, LocalDateTime resolvedAt) {
+        increment(TicketRollups.RESOLVED, priority, resolvedAt);
+    }
+
+    public TicketHistogram getHistogram(RollupGranularity granularity, LocalDateTime fromDate, LocalDateTime toDate) {
+
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("fromDate must not be after toDate");
+        }
+        if (granularity.bucketsBetween(fromDate, toDate) > TicketRollups.MAX_HISTOGRAM_BUCKETS) {
+            throw new IllegalArgumentException("Range exceeds " + TicketRollups.MAX_HISTOGRAM_BUCKETS + " "
+                    + granularity.name().toLowerCase() + " buckets");
+        }
+
+        Map<LocalDateTime, TicketRollup> rollups = new HashMap<>();
+        for (TicketRollup rollup : ticketRepository.findRollups(granularity, fromDate, toDate)) {
+            rollups.put(rollup.getBucketStart(), rollup);
+        }
+
+        List<TicketHistogram.Bucket> buckets = new ArrayList<>();
+        LocalDateTime last = granularity.bucketStart(toDate);
+        for (LocalDateTime start = granularity.bucketStart(fromDate); !start.isAfter(last);
+             start = granularity.nextBucket(start)) {
+            TicketRollup rollup = rollups.get(start);
+            buckets.add(TicketHistogram.Bucket.builder()
+                    .bucketStart(start)
+                    .created(byPriority(rollup != null ? rollup.getCreated() : null))
+                    .resolved(byPriority(rollup != null ? rollup.getResolved() : null))
+                    .build());
+        }
+
+        return TicketHistogram.builder()
+                .granularity(granularity)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .buckets(buckets)
+                .build();
+    }
+
+    private void increment(String counter, Priority priority, LocalDateTime time) {
+        try {
+            ticketRepository.incrementRollups(counter, priority, time != null ? time : LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Failed to update {} rollups for priority {} at {}: {}", counter, priority, time, e.getMessage());
+        }
+    }
+
+    private static Map<Priority, Long> byPriority(Map<Priority, Long> counts) {
+        Map<Priority, Long> result = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            Long count = counts != null ? counts.get(priority) : null;
+            result.put(priority, count != null ? count : 0L);
+        }
+        return result;
+    }
+}
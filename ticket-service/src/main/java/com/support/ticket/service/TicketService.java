@@ -1,156 +1,633 @@
 package com.support.ticket.service;
 
+import com.support.customer.service.interfaces.ICustomerService;
+import com.support.ticket.constants.TicketBatch;
+import com.support.ticket.constants.TicketPagination;
+import com.support.ticket.exception.TicketArchivedException;
+import com.support.ticket.exception.TicketStatusConflictException;
+import com.support.ticket.service.interfaces.ITicketCounterService;
+import com.support.ticket.service.interfaces.ITicketFeedService;
+import com.support.ticket.service.interfaces.ITicketRollupService;
 import com.support.ticket.service.interfaces.ITicketService;
+import com.support.ticket.service.interfaces.ITicketSlaService;
 import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBulkStatusResult;
+import com.support.ticket.model.TicketCacheStats;
+import com.support.ticket.model.TicketChangeWatermark;
+import com.support.ticket.model.TicketChanges;
 import com.support.ticket.model.TicketComment;
 import com.support.ticket.model.TicketEvent;
-import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.TicketFeedEvent;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketPage;
+import com.support.ticket.model.TicketPageCursor;
+import com.support.ticket.model.TicketSearchCursor;
+import com.support.ticket.model.TicketSearchHit;
+import com.support.ticket.model.TicketSearchResult;
+import com.support.ticket.model.TicketSummary;
+import com.support.ticket.model.enums.SyncStatus;
 import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketSortField;
 import com.support.ticket.model.enums.TicketStatus;
 import com.support.ticket.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TicketService implements ITicketService {
 
     private final TicketRepository ticketRepository;
+    private final ITicketCounterService ticketCounterService;
+    private final ITicketRollupService ticketRollupService;
+    private final ITicketSlaService ticketSlaService;
+    private final TicketCache ticketCache;
+    private final ITicketFeedService ticketFeedService;
+    private final ICustomerService customerService;
+
+    @Value("${ticket.changes.settle-window:2s}")
+    private Duration changeSettleWindow;
 
     public Ticket save(Ticket ticket) {
-        return ticketRepository.save(ticket);
+
+        ticket.normalizeHistory();
+        ticket.setVersion(ticket.getVersion() != null ? ticket.getVersion() + 1 : 1);
+        ticket.setUpdatedAt(LocalDateTime.now());
+        Ticket savedTicket = ticketRepository.save(ticket);
+        ticketCache.invalidate(savedTicket.getId());
+
+        List<TicketComment> pendingComments = ticket.getPendingComments();
+        if (!pendingComments.isEmpty()) {
+            ticketRepository.appendComments(savedTicket.getId(),
+                    ticket.getCommentCount() - pendingComments.size() + 1, pendingComments);
+        }
+        List<TicketEvent> pendingEvents = ticket.getPendingEvents();
+        if (!pendingEvents.isEmpty()) {
+            ticketRepository.appendEvents(savedTicket.getId(),
+                    ticket.getEventCount() - pendingEvents.size() + 1, pendingEvents);
+        }
+        ticket.clearPendingHistory();
+        return savedTicket;
     }
 
     public Optional<Ticket> findByIdempotencyKey(String idempotencyKey) {
         return ticketRepository.findByIdempotencyKey(idempotencyKey);
     }
 
+    public Map<String, Ticket> findByIdempotencyKeys(Collection<String> idempotencyKeys) {
+        if (idempotencyKeys.isEmpty()) {
+            return Map.of();
+        }
+        return ticketRepository.findByIdempotencyKeyIn(idempotencyKeys).stream()
+                .collect(Collectors.toMap(Ticket::getIdempotencyKey, Function.identity()));
+    }
+
+    public Map<Integer, String> insertAll(List<Ticket> tickets) {
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Ticket ticket : tickets) {
+            ticket.normalizeHistory();
+            ticket.setVersion(1L);
+            ticket.setUpdatedAt(now);
+        }
+        Map<Integer, String> failures = ticketRepository.insertAll(tickets);
+
+        List<Ticket> inserted = new ArrayList<>();
+        for (int i = 0; i < tickets.size(); i++) {
+            if (!failures.containsKey(i)) {
+                inserted.add(tickets.get(i));
+            }
+        }
+        ticketRepository.appendPendingHistory(inserted);
+        inserted.forEach(Ticket::clearPendingHistory);
+        return failures;
+    }
+
+    public void saveAll(List<Ticket> tickets) {
+
+        if (tickets.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Ticket ticket : tickets) {
+            ticket.normalizeHistory();
+            ticket.setVersion(ticket.getVersion() != null ? ticket.getVersion() + 1 : 1);
+            ticket.setUpdatedAt(now);
+        }
+        ticketRepository.replaceAll(tickets);
+        tickets.forEach(ticket -> ticketCache.invalidate(ticket.getId()));
+        ticketRepository.appendPendingHistory(tickets);
+        tickets.forEach(Ticket::clearPendingHistory);
+    }
+
+    public boolean migrateHistory(Ticket ticket) {
+
+        Long expectedVersion = ticket.getVersion();
+        ticket.normalizeHistory();
+        boolean migrated = ticketRepository.migrateHistory(ticket, expectedVersion);
+        ticket.clearPendingHistory();
+        if (migrated) {
+            ticketCache.invalidate(ticket.getId());
+        }
+        return migrated;
+    }
+
+    public Optional<Ticket> markRecovered(String ticketId, int appliedDelta, TicketEvent event) {
+
+        Ticket ticket = ticketRepository.markRecovered(ticketId, appliedDelta, event);
+        ticketCache.invalidate(ticketId);
+        if (ticket != null && event != null) {
+            ticketRepository.appendEvents(ticketId, ticket.getEventCount(), List.of(event));
+        }
+        return Optional.ofNullable(ticket);
+    }
+
+    public boolean markCustomerSynced(String ticketId) {
+
+        LocalDateTime syncedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        long synced = ticketRepository.markSynced(List.of(ticketId), syncedAt);
+        ticketCache.invalidate(ticketId);
+        if (synced > 0) {
+            ticketRepository.appendSyncHistory(List.of(ticketId), syncedAt);
+        }
+        return synced > 0;
+    }
+
+    public boolean markCustomerSyncFailed(String ticketId) {
+
+        long failed = ticketRepository.markSyncFailed(List.of(ticketId));
+        ticketCache.invalidate(ticketId);
+        return failed > 0;
+    }
+
     public Optional<Ticket> findById(String id) {
-        return ticketRepository.findById(id);
+        return ticketCache.get(id, this::findInHotOrArchive);
+    }
+
+    /**
+     * Always reads the version from MongoDB: the ticket cache is per instance, so a cached copy can miss a write
+     * made through another node and answer a conditional GET with a stale 304.
+     */
+    public Optional<Ticket> findVersionHeader(String id) {
+        return Optional.ofNullable(ticketRepository.findVersionHeader(id));
+    }
+
+    public TicketCacheStats getCacheStats() {
+        return ticketCache.getStats();
     }
 
     public Ticket addComment(String ticketId, String commentContent, String authorExternalId) {
 
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new IllegalArgumentException("Ticket not found: " + ticketId));
-        
         TicketComment comment = new TicketComment(commentContent, authorExternalId);
-        ticket.addComment(comment);
-        
         TicketEvent commentEvent = new TicketEvent(
                 TicketEventType.COMMENT_ADDED,
                 "Comment added: " + commentContent,
                 authorExternalId
         );
 
-        ticket.addEvent(commentEvent);
-        return ticketRepository.save(ticket);
+        Ticket ticket = ticketRepository.addComment(ticketId, comment, commentEvent);
+        if (ticket == null) {
+            loadForUpdate(ticketId);
+            ticket = ticketRepository.addComment(ticketId, comment, commentEvent);
+            if (ticket == null) {
+                throw new IllegalArgumentException("Ticket not found: " + ticketId);
+            }
+        }
+        ticketCache.invalidate(ticketId);
+
+        ticketRepository.appendComments(ticketId, ticket.getCommentCount(), List.of(comment));
+        ticketRepository.appendEvents(ticketId, ticket.getEventCount(), List.of(commentEvent));
+        ticketFeedService.publish(TicketFeedEvent.of(ticket, commentEvent));
+        return ticket;
     }
 
     public Ticket updateStatus(String ticketId, TicketStatus newStatus, String performedBy) {
-        
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new IllegalArgumentException("Ticket not found: " + ticketId));
-        
-        TicketStatus oldStatus = ticket.getStatus();
-        if (oldStatus == newStatus) {
-            return ticket;
-        }
-        
-        ticket.setStatus(newStatus);
-        
-        TicketEvent statusEvent = new TicketEvent(
-                TicketEventType.STATUS_CHANGED,
-                "Status changed from " + oldStatus + " to " + newStatus,
-                performedBy
-        );
+        return updateStatus(ticketId, newStatus, null, performedBy);
+    }
+
+    public Ticket updateStatus(String ticketId, TicketStatus newStatus, TicketStatus expectedStatus, String performedBy) {
+
+        List<TicketEvent> followUpEvents = new ArrayList<>();
+        if (newStatus.isTerminal()) {
+            followUpEvents.add(new TicketEvent(
+                    TicketEventType.CLOSED,
+                    "Ticket " + newStatus.name().toLowerCase(),
+                    performedBy
+            ));
+        }
+
+        Set<TicketStatus> fromStatuses = EnumSet.noneOf(TicketStatus.class);
+        fromStatuses.addAll(TicketStatus.allowedSources(newStatus));
+        if (expectedStatus != null) {
+            fromStatuses.retainAll(EnumSet.of(expectedStatus));
+        }
 
-        ticket.addEvent(statusEvent);
-        
-        if (newStatus == TicketStatus.CLOSED || newStatus == TicketStatus.CANCELLED) {
+        Ticket ticket = ticketRepository.changeStatus(ticketId, fromStatuses, newStatus, performedBy, followUpEvents);
+        if (ticket == null) {
+            Ticket current = loadForUpdate(ticketId);
+            if (current.getStatus() == newStatus && (expectedStatus == null || expectedStatus == newStatus)) {
+                return current;
+            }
+            if (fromStatuses.contains(current.getStatus())) {
+                ticket = ticketRepository.changeStatus(ticketId, fromStatuses, newStatus, performedBy, followUpEvents);
+            }
+            if (ticket == null) {
+                throw new TicketStatusConflictException(ticketId, current.getStatus(), newStatus);
+            }
+        }
+        ticketCache.invalidate(ticketId);
+
+        int appended = followUpEvents.size() + 1;
+        List<TicketEvent> events = ticket.getEvents();
+        ticketRepository.appendEvents(ticketId, ticket.getEventCount() - appended + 1,
+                events.subList(events.size() - appended, events.size()));
+
+        TicketEvent statusEvent = events.get(events.size() - appended);
+        TicketStatus fromStatus = statusEvent.getFromStatus();
+        if (fromStatus != null) {
+            int openTicketDelta = TicketStatus.openTicketDelta(fromStatus, newStatus);
+            if (openTicketDelta != 0) {
+                syncOpenTicketCount(ticket, openTicketDelta);
+            }
+            ticketCounterService.recordTransition(ticket.getPriority(), fromStatus, newStatus);
+            if (newStatus.isResolved() && !fromStatus.isResolved()) {
+                ticketRollupService.recordResolved(ticket.getPriority(), statusEvent.getTimestamp());
+                if (ticket.getCreatedAt() != null && ticket.getResolvedAt() != null) {
+                    ticketSlaService.recordResolution(ticket.getPriority(),
+                            Duration.between(ticket.getCreatedAt(), ticket.getResolvedAt()));
+                }
+            }
+            ticketFeedService.publish(TicketFeedEvent.of(ticket, statusEvent));
+        }
+        return ticket;
+    }
+
+    public TicketBulkStatusResult updateStatuses(List<String> ticketIds, TicketFilter filter, TicketStatus newStatus,
+                                                 String performedBy) {
+
+        Set<TicketStatus> fromStatuses = TicketStatus.allowedSources(newStatus);
+        boolean hasMore = false;
+        if (ticketIds == null) {
+            if (filter == null) {
+                throw new IllegalArgumentException("Ticket ids or a filter are required");
+            }
+            ticketIds = ticketRepository.findIdsForStatusChange(filter, fromStatuses, TicketBatch.MAX_ITEMS + 1);
+            hasMore = ticketIds.size() > TicketBatch.MAX_ITEMS;
+            if (hasMore) {
+                ticketIds = ticketIds.subList(0, TicketBatch.MAX_ITEMS);
+            }
+        } else if (ticketIds.size() > TicketBatch.MAX_ITEMS) {
+            throw new IllegalArgumentException("At most " + TicketBatch.MAX_ITEMS + " tickets per bulk update");
+        }
+        if (ticketIds.isEmpty()) {
+            return new TicketBulkStatusResult(0, 0, 0, false);
+        }
+
+        List<String> matchedIds = new ArrayList<>();
+        for (Ticket header : ticketRepository.findStatusHeaders(ticketIds)) {
+            if (header.getCommentCount() == null || header.getEventCount() == null) {
+                loadForUpdate(header.getId());
+            }
+            matchedIds.add(header.getId());
+        }
+
+        LocalDateTime changedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<TicketEvent> followUpEvents = new ArrayList<>();
+        if (newStatus.isTerminal()) {
             TicketEvent closedEvent = new TicketEvent(
                     TicketEventType.CLOSED,
                     "Ticket " + newStatus.name().toLowerCase(),
                     performedBy
             );
-            ticket.addEvent(closedEvent);
-        }
-        
-        return ticketRepository.save(ticket);
-    }
-
-    public List<Ticket> findTickets(TicketStatus status, Priority priority, String customerExternalId, 
-                                    LocalDateTime fromDate, LocalDateTime toDate) {
-                                        
-        if (customerExternalId != null && !customerExternalId.isBlank()) {
-            if (status != null && priority != null) {
-                return ticketRepository.findByCustomerExternalIdAndStatusAndPriority(customerExternalId, status, priority);
-            } else if (status != null) {
-                return ticketRepository.findByCustomerExternalIdAndStatus(customerExternalId, status);
-            } else if (priority != null) {
-                return ticketRepository.findByCustomerExternalIdAndPriority(customerExternalId, priority);
+            closedEvent.setTimestamp(changedAt);
+            followUpEvents.add(closedEvent);
+        }
+
+        long changed = matchedIds.isEmpty() ? 0 : ticketRepository.changeStatuses(matchedIds, fromStatuses, newStatus,
+                performedBy, changedAt, followUpEvents);
+        if (changed > 0) {
+            Map<String, Integer> openTicketDeltas = new HashMap<>();
+            Map<Integer, List<String>> ticketIdsByDelta = new HashMap<>();
+            Map<Integer, List<String>> parkedIdsByDelta = new HashMap<>();
+            try (Stream<Ticket> tickets = ticketRepository.streamStatusChanges(matchedIds, newStatus, performedBy,
+                    changedAt, TicketPagination.STREAM_BATCH_SIZE)) {
+                List<Ticket> histories = new ArrayList<>();
+                tickets.forEach(ticket -> {
+                    recordBulkStatusChange(ticket, newStatus, performedBy, changedAt, openTicketDeltas,
+                            ticketIdsByDelta, parkedIdsByDelta).ifPresent(histories::add);
+                    if (histories.size() == TicketPagination.STREAM_BATCH_SIZE) {
+                        ticketRepository.appendPendingHistory(histories);
+                        histories.clear();
+                    }
+                });
+                if (!histories.isEmpty()) {
+                    ticketRepository.appendPendingHistory(histories);
+                }
+            }
+            parkedIdsByDelta.forEach((delta, parkedIds) -> {
+                ticketRepository.recordSyncFailure(parkedIds, delta);
+                parkedIds.forEach(ticketCache::invalidate);
+            });
+            syncOpenTicketCounts(openTicketDeltas, ticketIdsByDelta);
+        }
+        return new TicketBulkStatusResult(matchedIds.size(), changed, matchedIds.size() - changed, hasMore);
+    }
+
+    private Optional<Ticket> recordBulkStatusChange(Ticket ticket, TicketStatus newStatus, String performedBy,
+                                                    LocalDateTime changedAt, Map<String, Integer> openTicketDeltas,
+                                                    Map<Integer, List<String>> ticketIdsByDelta,
+                                                    Map<Integer, List<String>> parkedIdsByDelta) {
+
+        List<TicketEvent> events = ticket.getEvents();
+        int first = -1;
+        for (int i = events.size() - 1; i >= 0; i--) {
+            TicketEvent event = events.get(i);
+            if (event.getEventType() == TicketEventType.STATUS_CHANGED && event.getToStatus() == newStatus
+                    && Objects.equals(performedBy, event.getPerformedBy()) && changedAt.equals(event.getTimestamp())) {
+                first = i;
+                break;
+            }
+        }
+        if (first < 0) {
+            ticketCache.invalidate(ticket.getId());
+            log.warn("Bulk status change to {} at {} not found in events of ticket {}, skipping follow-up",
+                    newStatus, changedAt, ticket.getId());
+            return Optional.empty();
+        }
+        int last = Math.min(events.size(), first + (newStatus.isTerminal() ? 2 : 1));
+        List<TicketEvent> appended = new ArrayList<>(events.subList(first, last));
+        ticketCache.invalidate(ticket.getId());
+
+        TicketEvent statusEvent = appended.get(0);
+        TicketStatus fromStatus = statusEvent.getFromStatus();
+        int openTicketDelta = TicketStatus.openTicketDelta(fromStatus, newStatus);
+        if (openTicketDelta != 0 && isCreationUnsettled(ticket)) {
+            parkedIdsByDelta.computeIfAbsent(openTicketDelta, delta -> new ArrayList<>()).add(ticket.getId());
+        } else if (openTicketDelta != 0) {
+            openTicketDeltas.merge(ticket.getCustomerExternalId(), openTicketDelta, Integer::sum);
+            ticketIdsByDelta.computeIfAbsent(openTicketDelta, delta -> new ArrayList<>()).add(ticket.getId());
+        }
+        ticketCounterService.recordTransition(ticket.getPriority(), fromStatus, newStatus);
+        if (newStatus.isResolved() && !fromStatus.isResolved()) {
+            ticketRollupService.recordResolved(ticket.getPriority(), changedAt);
+            if (ticket.getCreatedAt() != null && ticket.getResolvedAt() != null) {
+                ticketSlaService.recordResolution(ticket.getPriority(),
+                        Duration.between(ticket.getCreatedAt(), ticket.getResolvedAt()));
+            }
+        }
+        ticket.setStatus(newStatus);
+        ticketFeedService.publish(TicketFeedEvent.of(ticket, statusEvent));
+
+        return Optional.of(Ticket.builder()
+                .id(ticket.getId())
+                .commentCount(0)
+                .eventCount(ticket.getEventCount() - (events.size() - last))
+                .pendingEvents(appended)
+                .build());
+    }
+
+    private void syncOpenTicketCount(Ticket ticket, int openTicketDelta) {
+
+        String customerExternalId = ticket.getCustomerExternalId();
+        if (isCreationUnsettled(ticket)) {
+            ticketRepository.recordSyncFailure(List.of(ticket.getId()), openTicketDelta);
+            ticketCache.invalidate(ticket.getId());
+            return;
+        }
+        try {
+            if (openTicketDelta > 0) {
+                customerService.incrementOpenTicketCount(customerExternalId);
             } else {
-                return ticketRepository.findByCustomerExternalId(customerExternalId);
+                customerService.decrementOpenTicketCount(customerExternalId);
+            }
+        } catch (Exception e) {
+            log.error("Failed to apply open ticket delta {} for customer: {} in ticket: {}",
+                    openTicketDelta, customerExternalId, ticket.getId(), e);
+            ticketRepository.recordSyncFailure(List.of(ticket.getId()), openTicketDelta);
+            ticketCache.invalidate(ticket.getId());
+            if (ticket.getSyncStatus() != SyncStatus.PENDING) {
+                ticket.setSyncStatus(SyncStatus.FAILED);
             }
         }
-        
-        if (status != null && priority != null) {
-            List<Ticket> allTickets = ticketRepository.findAll();
-            return allTickets.stream()
-                    .filter(t -> t.getStatus() == status && t.getPriority() == priority)
-                    .filter(t -> fromDate == null || !t.getCreatedAt().isBefore(fromDate))
-                    .filter(t -> toDate == null || !t.getCreatedAt().isAfter(toDate))
-                    .collect(Collectors.toList());
-                    
-        } else if (status != null) {
-            List<Ticket> tickets = ticketRepository.findByStatus(status);
-            return filterByDateRange(tickets, fromDate, toDate);
-        } else if (priority != null) {
-            List<Ticket> tickets = ticketRepository.findByPriority(priority);
-            return filterByDateRange(tickets, fromDate, toDate);
+    }
+
+    /**
+     * A ticket whose creation increment has not been confirmed yet cannot have its transition delta applied
+     * to MySQL directly, or a close could land before the +1 it offsets. Such deltas are parked in
+     * {@code pendingOpenTicketDelta} and applied by recovery after the creation increment.
+     */
+    private static boolean isCreationUnsettled(Ticket ticket) {
+        return ticket.getSyncStatus() == SyncStatus.PENDING || ticket.getSyncStatus() == SyncStatus.FAILED;
+    }
+
+    private void syncOpenTicketCounts(Map<String, Integer> openTicketDeltas,
+                                      Map<Integer, List<String>> ticketIdsByDelta) {
+
+        openTicketDeltas.values().removeIf(delta -> delta == 0);
+        if (openTicketDeltas.isEmpty()) {
+            return;
         }
-        
-        List<Ticket> allTickets = ticketRepository.findAll();
-        return filterByDateRange(allTickets, fromDate, toDate);
+        try {
+            customerService.incrementOpenTicketCounts(openTicketDeltas);
+        } catch (Exception e) {
+            log.error("Failed to apply open ticket deltas for {} customers in bulk status change",
+                    openTicketDeltas.size(), e);
+            ticketIdsByDelta.forEach((delta, ticketIds) -> {
+                ticketRepository.recordSyncFailure(ticketIds, delta);
+                ticketIds.forEach(ticketCache::invalidate);
+            });
+        }
+    }
+
+    public TicketPage<Ticket> findTicketPage(TicketFilter filter, TicketSortField sort, String cursor, Integer limit) {
+
+        TicketSortField sortField = sort != null ? sort : TicketSortField.CREATED_AT;
+        TicketPageCursor after = decodeCursor(cursor, sortField);
+        int pageSize = resolvePageSize(limit);
+
+        List<Ticket> tickets = ticketRepository.findPage(filter, sortField, after, pageSize + 1);
+        return toPage(tickets, pageSize, ticket -> TicketPageCursor.after(sortField, ticket.getPriority(),
+                ticket.getCreatedAt(), ticket.getId()));
     }
 
-    public List<Ticket> findTicketsByCustomer(String customerExternalId, TicketStatus status, Priority priority) {
+    public TicketPage<TicketSummary> findTicketSummaryPage(TicketFilter filter, TicketSortField sort, String cursor,
+                                                           Integer limit) {
 
-        if (status != null && priority != null) {
-            return ticketRepository.findByCustomerExternalIdAndStatusAndPriority(customerExternalId, status, priority);
-        } else if (status != null) {
-            return ticketRepository.findByCustomerExternalIdAndStatus(customerExternalId, status);
-        } else if (priority != null) {
-            return ticketRepository.findByCustomerExternalIdAndPriority(customerExternalId, priority);
-        } else {
-            return ticketRepository.findByCustomerExternalId(customerExternalId);
+        TicketSortField sortField = sort != null ? sort : TicketSortField.CREATED_AT;
+        TicketPageCursor after = decodeCursor(cursor, sortField);
+        int pageSize = resolvePageSize(limit);
+
+        List<TicketSummary> summaries = ticketRepository.findSummaryPage(filter, sortField, after, pageSize + 1);
+        return toPage(summaries, pageSize, summary -> TicketPageCursor.after(sortField, summary.getPriority(),
+                summary.getCreatedAt(), summary.getId()));
+    }
+
+    public TicketChanges findChanges(String customerExternalId, String since, Integer limit) {
+
+        TicketChangeWatermark after = since != null && !since.isBlank() ? TicketChangeWatermark.decode(since) : null;
+        int pageSize = resolvePageSize(limit);
+        LocalDateTime until = LocalDateTime.now().minus(changeSettleWindow);
+
+        List<TicketSummary> changed = ticketRepository.findChangedSince(customerExternalId, after, until, pageSize + 1);
+        boolean hasMore = changed.size() > pageSize;
+        List<TicketSummary> items = hasMore ? changed.subList(0, pageSize) : changed;
+
+        String watermark = since;
+        if (!items.isEmpty()) {
+            TicketSummary last = items.get(items.size() - 1);
+            watermark = new TicketChangeWatermark(last.getUpdatedAt(), last.getId()).encode();
+        } else if (after == null) {
+            watermark = new TicketChangeWatermark(until, "").encode();
         }
+        return new TicketChanges(items, watermark, hasMore);
     }
 
-    private List<Ticket> filterByDateRange(List<Ticket> tickets, LocalDateTime fromDate, LocalDateTime toDate) {
+    public TicketPage<Ticket> searchTickets(String text, TicketFilter filter, String cursor, Integer limit) {
 
-        if (fromDate == null && toDate == null) {
-            return tickets;
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text is required");
         }
-        
-        List<Ticket> filtered = new ArrayList<>();
-        for (Ticket ticket : tickets) {
-            LocalDateTime createdAt = ticket.getCreatedAt();
-            if (fromDate != null && createdAt.isBefore(fromDate)) {
-                continue;
+        TicketSearchCursor after = cursor != null && !cursor.isBlank() ? TicketSearchCursor.decode(cursor) : null;
+        int pageSize = resolvePageSize(limit);
+
+        TicketSearchResult result = ticketRepository.searchPage(text.trim(), filter, after, pageSize + 1);
+        List<TicketSearchHit> hits = result.getHits();
+        List<TicketSearchHit> items = hits.size() > pageSize ? hits.subList(0, pageSize) : hits;
+        String nextCursor = hits.size() > pageSize ? TicketSearchCursor.after(items.get(pageSize - 1)).encode()
+                : result.getResumeAfter() != null ? result.getResumeAfter().encode() : null;
+        return new TicketPage<>(items.stream().map(TicketSearchHit::getTicket).toList(), nextCursor);
+    }
+
+    public Optional<Ticket> findHistoryHeader(String ticketId) {
+        return Optional.ofNullable(ticketRepository.findHistoryHeader(ticketId));
+    }
+
+    public TicketPage<TicketComment> findComments(Ticket header, String cursor, Integer limit, boolean newestFirst) {
+        if (header.getCommentCount() == null) {
+            return findEmbeddedHistoryPage(header.getId(), Ticket::getComments, cursor, limit, newestFirst);
+        }
+        return findHistoryPage(header.getCommentCount(), cursor, limit, newestFirst,
+                (from, to) -> ticketRepository.findComments(header.getId(), from, to));
+    }
+
+    public TicketPage<TicketEvent> findEvents(Ticket header, String cursor, Integer limit, boolean newestFirst) {
+        if (header.getEventCount() == null) {
+            return findEmbeddedHistoryPage(header.getId(), Ticket::getEvents, cursor, limit, newestFirst);
+        }
+        return findHistoryPage(header.getEventCount(), cursor, limit, newestFirst,
+                (from, to) -> ticketRepository.findEvents(header.getId(), from, to));
+    }
+
+    public Stream<Ticket> streamTickets(TicketFilter filter) {
+        return ticketRepository.streamByFilter(filter, TicketPagination.STREAM_BATCH_SIZE);
+    }
+
+    private Optional<Ticket> findInHotOrArchive(String id) {
+        Optional<Ticket> ticket = ticketRepository.findById(id);
+        return ticket.isPresent() ? ticket : ticketRepository.findArchivedById(id);
+    }
+
+    private Ticket loadForUpdate(String ticketId) {
+
+        Optional<Ticket> hot = ticketRepository.findById(ticketId);
+        if (hot.isEmpty() && ticketRepository.findArchivedById(ticketId).isPresent()) {
+            throw new TicketArchivedException(ticketId);
+        }
+        Ticket ticket = hot.orElseThrow(() -> new IllegalArgumentException("Ticket not found: " + ticketId));
+        if (ticket.getCommentCount() == null || ticket.getEventCount() == null) {
+            migrateHistory(ticket);
+            return ticketRepository.findById(ticketId)
+                    .orElseThrow(() -> new IllegalArgumentException("Ticket not found: " + ticketId));
+        }
+        return ticket;
+    }
+
+    private <T> TicketPage<T> findEmbeddedHistoryPage(String ticketId, Function<Ticket, List<T>> history,
+                                                      String cursor, Integer limit, boolean newestFirst) {
+
+        List<T> entries = findById(ticketId).map(history).orElse(List.of());
+        return findHistoryPage(entries.size(), cursor, limit, newestFirst,
+                (from, to) -> entries.subList(from - 1, to));
+    }
+
+    private <T> TicketPage<T> findHistoryPage(int total, String cursor, Integer limit, boolean newestFirst,
+                                              BiFunction<Integer, Integer, List<T>> range) {
+
+        int pageSize = resolvePageSize(limit);
+        int start = cursor != null && !cursor.isBlank() ? decodeSequence(cursor) : (newestFirst ? total : 1);
+
+        if (newestFirst) {
+            int to = Math.min(start, total);
+            int from = Math.max(1, to - pageSize + 1);
+            if (to < from) {
+                return new TicketPage<>(List.of(), null);
             }
-            if (toDate != null && createdAt.isAfter(toDate)) {
-                continue;
+            List<T> entries = new ArrayList<>(range.apply(from, to));
+            Collections.reverse(entries);
+            return new TicketPage<>(entries, from > 1 ? String.valueOf(from - 1) : null);
+        }
+
+        int to = Math.min(total, start + pageSize - 1);
+        if (to < start) {
+            return new TicketPage<>(List.of(), null);
+        }
+        return new TicketPage<>(range.apply(start, to), to < total ? String.valueOf(to + 1) : null);
+    }
+
+    private int decodeSequence(String cursor) {
+        try {
+            int sequence = Integer.parseInt(cursor);
+            if (sequence < 1) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
             }
-            filtered.add(ticket);
+            return sequence;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
         }
-        return filtered;
     }
-}
 
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return TicketPagination.DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + limit);
+        }
+        return Math.min(limit, TicketPagination.MAX_PAGE_SIZE);
+    }
+
+    private TicketPageCursor decodeCursor(String cursor, TicketSortField sort) {
+        return cursor != null && !cursor.isBlank() ? TicketPageCursor.decode(cursor, sort) : null;
+    }
+
+    private <T> TicketPage<T> toPage(List<T> results, int pageSize, Function<T, TicketPageCursor> cursorOf) {
+
+        if (results.size() <= pageSize) {
+            return new TicketPage<>(results, null);
+        }
+
+        List<T> items = results.subList(0, pageSize);
+        return new TicketPage<>(items, cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+}
@@ -0,0 +1,103 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketSlaReport;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketSlaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketSlaService implements ITicketSlaService {
+
+    private static final long MAX_TRACKED_MILLIS = TimeUnit.DAYS.toMillis(365);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final TicketRepository ticketRepository;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final Map<Priority, Recorder> recorders = newRecorders();
+    private final Map<Priority, Histogram> totals = newHistograms();
+
+    private final Histogram interval = new Histogram(MAX_TRACKED_MILLIS, SIGNIFICANT_DIGITS);
+
+    private volatile boolean seeded;
+
+    public void recordResolution(Priority priority, Duration resolutionTime) {
+        long millis = Math.min(Math.max(resolutionTime.toMillis(), 0), MAX_TRACKED_MILLIS);
+        recorders.get(priority).recordValue(millis);
+    }
+
+    public void seed() {
+        long seededCount = 0;
+        try (Stream<Ticket> tickets = ticketRepository.streamResolvedBefore(startedAt, SEED_BATCH_SIZE)) {
+            Iterator<Ticket> iterator = tickets.iterator();
+            while (iterator.hasNext()) {
+                Ticket ticket = iterator.next();
+                if (ticket.getPriority() != null && ticket.getCreatedAt() != null) {
+                    recordResolution(ticket.getPriority(), Duration.between(ticket.getCreatedAt(), ticket.getResolvedAt()));
+                    seededCount++;
+                }
+            }
+        }
+        seeded = true;
+        log.info("Seeded resolution time histograms from {} resolved tickets", seededCount);
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public synchronized TicketSlaReport getReport() {
+        Map<Priority, TicketSlaReport.ResolutionTime> resolutionTime = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            recorders.get(priority).getIntervalHistogramInto(interval);
+            Histogram total = totals.get(priority);
+            total.add(interval);
+
+            resolutionTime.put(priority, TicketSlaReport.ResolutionTime.builder()
+                    .count(total.getTotalCount())
+                    .p50Millis(total.getValueAtPercentile(50))
+                    .p90Millis(total.getValueAtPercentile(90))
+                    .p99Millis(total.getValueAtPercentile(99))
+                    .maxMillis(total.getMaxValue())
+                    .meanMillis(total.getTotalCount() > 0 ? total.getMean() : 0)
+                    .build());
+        }
+
+        return TicketSlaReport.builder()
+                .resolutionTime(resolutionTime)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static Map<Priority, Recorder> newRecorders() {
+        Map<Priority, Recorder> recorders = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            recorders.put(priority, new Recorder(MAX_TRACKED_MILLIS, SIGNIFICANT_DIGITS));
+        }
+        return recorders;
+    }
+
+    private static Map<Priority, Histogram> newHistograms() {
+        Map<Priority, Histogram> histograms = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            histograms.put(priority, new Histogram(MAX_TRACKED_MILLIS, SIGNIFICANT_DIGITS));
+        }
+        return histograms;
+    }
+}
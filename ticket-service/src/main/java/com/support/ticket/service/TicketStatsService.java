@@ -0,0 +1,90 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketStats;
+import com.support.ticket.model.enums.ReadConsistency;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketStatsService implements ITicketStatsService {
+
+    private static final int MAX_CACHED_FILTERS = 1000;
+
+    private final TicketRepository ticketRepository;
+    private final ConcurrentMap<TicketFilter, CachedStats> cache = new ConcurrentHashMap<>();
+
+    @Value("${ticket.stats.cache-ttl:5s}")
+    private Duration cacheTtl;
+
+    @Override
+    public TicketStats getStats(TicketFilter filter) {
+        while (true) {
+            CachedStats cached = cache.get(filter);
+            if (cached != null && !cached.isExpired()) {
+                return join(cached.result);
+            }
+
+            CachedStats loading = new CachedStats();
+            boolean claimed = cached == null
+                    ? cache.putIfAbsent(filter, loading) == null
+                    : cache.replace(filter, cached, loading);
+            if (claimed) {
+                evictExpired();
+                return join(load(filter, loading));
+            }
+        }
+    }
+
+    private CompletableFuture<TicketStats> load(TicketFilter filter, CachedStats entry) {
+        try {
+            TicketStats stats = TicketStats.fromCounts(ticketRepository.countByStatusAndPriority(filter, ReadConsistency.STALE_OK));
+            entry.expiresAt = System.nanoTime() + cacheTtl.toNanos();
+            entry.result.complete(stats);
+        } catch (RuntimeException e) {
+            log.error("Failed to aggregate ticket stats for filter {}: {}", filter, e.getMessage());
+            cache.remove(filter, entry);
+            entry.result.completeExceptionally(e);
+        }
+        return entry.result;
+    }
+
+    private void evictExpired() {
+        if (cache.size() > MAX_CACHED_FILTERS) {
+            cache.values().removeIf(CachedStats::isExpired);
+        }
+    }
+
+    private static TicketStats join(CompletableFuture<TicketStats> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class CachedStats {
+
+        private final CompletableFuture<TicketStats> result = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        private boolean isExpired() {
+            return result.isDone() && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.support.ticket.service.interfaces;
+
+public interface ITicketCountBuffer {
+
+    void add(String customerExternalId, String ticketId);
+
+    int flush();
+}
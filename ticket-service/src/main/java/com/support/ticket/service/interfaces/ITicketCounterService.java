@@ -0,0 +1,18 @@
+package com.support.ticket.service.interfaces;
+
+import com.support.ticket.model.TicketStats;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketStatus;
+
+public interface ITicketCounterService {
+
+    void recordCreated(TicketStatus status, Priority priority);
+
+    void recordTransition(Priority priority, TicketStatus fromStatus, TicketStatus toStatus);
+
+    boolean isSeeded();
+
+    TicketStats getCounts();
+
+    void checkDrift();
+}
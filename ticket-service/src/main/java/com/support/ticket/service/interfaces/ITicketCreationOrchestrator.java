@@ -1,11 +1,16 @@
 package com.support.ticket.service.interfaces;
 
 import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBatchItemResult;
+
+import java.util.List;
 
 public interface ITicketCreationOrchestrator {
 
     Ticket createTicket(Ticket ticket, String idempotencyKey);
 
+    List<TicketBatchItemResult> createTickets(List<Ticket> tickets);
+
     void recoverTicket(Ticket ticket);
 }
 
@@ -0,0 +1,14 @@
+package com.support.ticket.service.interfaces;
+
+import com.support.ticket.model.TicketFeedEvent;
+import com.support.ticket.model.TicketFilter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ITicketFeedService {
+
+    void publish(TicketFeedEvent event);
+
+    SseEmitter subscribe(TicketFilter filter);
+
+    void sendHeartbeats();
+}
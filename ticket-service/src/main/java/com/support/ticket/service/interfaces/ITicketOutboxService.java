@@ -0,0 +1,6 @@
+package com.support.ticket.service.interfaces;
+
+public interface ITicketOutboxService {
+
+    int drainOutbox();
+}
@@ -0,0 +1,16 @@
+package com.support.ticket.service.interfaces;
+
+import com.support.ticket.model.TicketHistogram;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.RollupGranularity;
+
+import java.time.LocalDateTime;
+
+public interface ITicketRollupService {
+
+    void recordCreated(Priority priority, LocalDateTime createdAt);
+
+    void recordResolved(Priority priority, LocalDateTime resolvedAt);
+
+    TicketHistogram getHistogram(RollupGranularity granularity, LocalDateTime fromDate, LocalDateTime toDate);
+}
@@ -1,12 +1,22 @@
 package com.support.ticket.service.interfaces;
 
 import com.support.ticket.model.Ticket;
-import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.TicketBulkStatusResult;
+import com.support.ticket.model.TicketCacheStats;
+import com.support.ticket.model.TicketChanges;
+import com.support.ticket.model.TicketComment;
+import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketPage;
+import com.support.ticket.model.TicketSummary;
+import com.support.ticket.model.enums.TicketSortField;
 import com.support.ticket.model.enums.TicketStatus;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ITicketService {
 
@@ -14,15 +24,50 @@ public interface ITicketService {
 
     Optional<Ticket> findByIdempotencyKey(String idempotencyKey);
 
+    Map<String, Ticket> findByIdempotencyKeys(Collection<String> idempotencyKeys);
+
+    Map<Integer, String> insertAll(List<Ticket> tickets);
+
+    void saveAll(List<Ticket> tickets);
+
+    boolean migrateHistory(Ticket ticket);
+
+    Optional<Ticket> markRecovered(String ticketId, int appliedDelta, TicketEvent event);
+
+    boolean markCustomerSynced(String ticketId);
+
+    boolean markCustomerSyncFailed(String ticketId);
+
     Optional<Ticket> findById(String id);
 
+    Optional<Ticket> findVersionHeader(String id);
+
+    TicketCacheStats getCacheStats();
+
     Ticket addComment(String ticketId, String commentContent, String authorExternalId);
 
     Ticket updateStatus(String ticketId, TicketStatus newStatus, String performedBy);
 
-    List<Ticket> findTickets(TicketStatus status, Priority priority, String customerExternalId,
-                             LocalDateTime fromDate, LocalDateTime toDate);
+    Ticket updateStatus(String ticketId, TicketStatus newStatus, TicketStatus expectedStatus, String performedBy);
+
+    TicketBulkStatusResult updateStatuses(List<String> ticketIds, TicketFilter filter, TicketStatus newStatus,
+                                          String performedBy);
+
+    TicketPage<Ticket> findTicketPage(TicketFilter filter, TicketSortField sort, String cursor, Integer limit);
+
+    TicketPage<TicketSummary> findTicketSummaryPage(TicketFilter filter, TicketSortField sort, String cursor,
+                                                    Integer limit);
+
+    TicketChanges findChanges(String customerExternalId, String since, Integer limit);
+
+    TicketPage<Ticket> searchTickets(String text, TicketFilter filter, String cursor, Integer limit);
+
+    Optional<Ticket> findHistoryHeader(String ticketId);
+
+    TicketPage<TicketComment> findComments(Ticket header, String cursor, Integer limit, boolean newestFirst);
+
+    TicketPage<TicketEvent> findEvents(Ticket header, String cursor, Integer limit, boolean newestFirst);
 
-    List<Ticket> findTicketsByCustomer(String customerExternalId, TicketStatus status, Priority priority);
+    Stream<Ticket> streamTickets(TicketFilter filter);
 }
 
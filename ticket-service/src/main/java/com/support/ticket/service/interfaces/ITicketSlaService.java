@@ -0,0 +1,17 @@
+package com.support.ticket.service.interfaces;
+
+import com.support.ticket.model.TicketSlaReport;
+import com.support.ticket.model.enums.Priority;
+
+import java.time.Duration;
+
+public interface ITicketSlaService {
+
+    void recordResolution(Priority priority, Duration resolutionTime);
+
+    void seed();
+
+    boolean isSeeded();
+
+    TicketSlaReport getReport();
+}
@@ -0,0 +1,9 @@
+package com.support.ticket.service.interfaces;
+
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketStats;
+
+public interface ITicketStatsService {
+
+    TicketStats getStats(TicketFilter filter);
+}
@@ -2,15 +2,32 @@ package com.support.ticket.controller;
 
 import com.support.ticket.mapper.TicketMapper;
 import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBatchItemResult;
+import com.support.ticket.model.TicketBulkStatusResult;
+import com.support.ticket.model.TicketChanges;
+import com.support.ticket.model.TicketComment;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketPage;
+import com.support.ticket.model.TicketSummary;
+import com.support.ticket.model.dto.TicketBatchItemRequestDTO;
+import com.support.ticket.model.dto.TicketBatchItemResponseDTO;
+import com.support.ticket.model.dto.TicketBatchRequestDTO;
+import com.support.ticket.model.dto.TicketBulkStatusResponseDTO;
 import com.support.ticket.model.dto.TicketRequestDTO;
 import com.support.ticket.model.dto.TicketResponseDTO;
+import com.support.ticket.model.dto.TicketSummaryDTO;
+import com.support.ticket.model.dto.TicketTombstoneDTO;
 import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketBatchItemStatus;
+import com.support.ticket.model.enums.TicketSortField;
+import com.support.ticket.model.enums.SyncStatus;
 import com.support.ticket.model.enums.TicketStatus;
 import com.support.ticket.service.interfaces.ITicketCreationOrchestrator;
 import com.support.ticket.service.interfaces.ITicketService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.security.core.Authentication;
@@ -19,14 +36,24 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -53,9 +80,10 @@ class TicketControllerTest {
         ticketCreationOrchestrator = mock(ITicketCreationOrchestrator.class);
         ticketService = mock(ITicketService.class);
         ticketMapper = mock(TicketMapper.class);
-        ticketController = new TicketController(ticketCreationOrchestrator, ticketService, ticketMapper);
-        
-        objectMapper = new ObjectMapper();
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        ticketController = new TicketController(ticketCreationOrchestrator, ticketService, ticketMapper, objectMapper);
+        ReflectionTestUtils.setField(ticketController, "streamTimeout", Duration.ofMinutes(10));
+
         mockMvc = MockMvcBuilders.standaloneSetup(ticketController)
                 .setMessageConverters(new MappingJackson2HttpMessageConverter())
                 .addFilter((request, response, chain) -> {
@@ -163,6 +191,97 @@ class TicketControllerTest {
         }
     }
 
+    @Test
+    void createTicket_PendingCustomerSync_Returns202() throws Exception {
+        ticket.setSyncStatus(SyncStatus.PENDING);
+        when(ticketMapper.toEntity(any(TicketRequestDTO.class))).thenReturn(ticket);
+        when(ticketCreationOrchestrator.createTicket(any(Ticket.class), anyString())).thenReturn(ticket);
+        when(ticketMapper.toDTO(any(Ticket.class))).thenReturn(responseDTO);
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("customer123", "CUSTOMER"));
+        try {
+            mockMvc.perform(post("/api/tickets")
+                            .header("Idempotency-Key", "test-key-123")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDTO)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.id").value("ticket123"));
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void createTickets_Batch_ReturnsPerItemResultsAndCounts() throws Exception {
+        TicketBatchRequestDTO batch = TicketBatchRequestDTO.builder()
+                .tickets(List.of(
+                        TicketBatchItemRequestDTO.builder().idempotencyKey("batch-1").ticket(requestDTO).build(),
+                        TicketBatchItemRequestDTO.builder().idempotencyKey("batch-2").ticket(requestDTO).build()))
+                .build();
+        when(ticketMapper.toEntity(any(TicketRequestDTO.class))).thenAnswer(invocation -> Ticket.builder()
+                .customerExternalId("customer123").title("Test Ticket").description("Test Description").build());
+        when(ticketCreationOrchestrator.createTickets(anyList())).thenReturn(List.of(
+                TicketBatchItemResult.of(0, TicketBatchItemStatus.CREATED, ticket),
+                TicketBatchItemResult.error(1, TicketBatchItemStatus.REJECTED, "Customer does not exist: customer123")));
+        when(ticketMapper.toBatchItemDTO(any(TicketBatchItemResult.class))).thenAnswer(invocation -> {
+            TicketBatchItemResult result = invocation.getArgument(0);
+            return TicketBatchItemResponseDTO.builder()
+                    .index(result.getIndex()).status(result.getStatus()).error(result.getError()).build();
+        });
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("agent1", "AGENT"));
+        try {
+            mockMvc.perform(post("/api/tickets/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batch)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created").value(1))
+                    .andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                    .andExpect(jsonPath("$.results[1].error").value("Customer does not exist: customer123"));
+
+            verify(ticketCreationOrchestrator).createTickets(argThat(tickets -> tickets.size() == 2
+                    && "batch-1".equals(tickets.get(0).getIdempotencyKey())
+                    && "batch-2".equals(tickets.get(1).getIdempotencyKey())));
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void createTickets_CustomerBatchForOtherCustomer_Returns403() throws Exception {
+        TicketBatchRequestDTO batch = TicketBatchRequestDTO.builder()
+                .tickets(List.of(TicketBatchItemRequestDTO.builder().ticket(requestDTO).build()))
+                .build();
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("customer999", "CUSTOMER"));
+        try {
+            mockMvc.perform(post("/api/tickets/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batch)))
+                    .andExpect(status().isForbidden());
+
+            verify(ticketCreationOrchestrator, never()).createTickets(anyList());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void createTickets_EmptyBatch_Returns400() throws Exception {
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("agent1", "AGENT"));
+        try {
+            mockMvc.perform(post("/api/tickets/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"tickets\":[]}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(ticketCreationOrchestrator, never()).createTickets(anyList());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
     @Test
     void createTicket_Idempotency_ReturnsExistingTicket() throws Exception {
         when(ticketMapper.toEntity(any(TicketRequestDTO.class))).thenReturn(ticket);
@@ -211,6 +330,83 @@ class TicketControllerTest {
         }
     }
 
+    @Test
+    void getTicketById_ReturnsETag() throws Exception {
+        ticket.setVersion(3L);
+        ticket.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        when(ticketService.findById("ticket123")).thenReturn(Optional.of(ticket));
+        when(ticketMapper.toDTO(any(Ticket.class))).thenReturn(responseDTO);
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("customer123", "CUSTOMER"));
+
+        try {
+            mockMvc.perform(get("/api/tickets/ticket123"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + ticket.entityTag() + "\""));
+
+            verify(ticketService, never()).findVersionHeader(anyString());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getTicketById_MatchingIfNoneMatch_Returns304WithoutLoadingTicket() throws Exception {
+        ticket.setVersion(3L);
+        ticket.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        when(ticketService.findVersionHeader("ticket123")).thenReturn(Optional.of(ticket));
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("customer123", "CUSTOMER"));
+
+        try {
+            mockMvc.perform(get("/api/tickets/ticket123")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + ticket.entityTag() + "\""))
+                    .andExpect(status().isNotModified());
+
+            verify(ticketService, never()).findById(anyString());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getTicketById_StaleIfNoneMatch_Returns200WithNewETag() throws Exception {
+        ticket.setVersion(4L);
+        ticket.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        when(ticketService.findVersionHeader("ticket123")).thenReturn(Optional.of(ticket));
+        when(ticketService.findById("ticket123")).thenReturn(Optional.of(ticket));
+        when(ticketMapper.toDTO(any(Ticket.class))).thenReturn(responseDTO);
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("agent456", "AGENT"));
+
+        try {
+            mockMvc.perform(get("/api/tickets/ticket123")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"3-0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + ticket.entityTag() + "\""));
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getTicketById_IfNoneMatchOnOtherCustomersTicket_Returns403() throws Exception {
+        ticket.setVersion(3L);
+        when(ticketService.findVersionHeader("ticket123")).thenReturn(Optional.of(ticket));
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("otherCustomer", "CUSTOMER"));
+
+        try {
+            mockMvc.perform(get("/api/tickets/ticket123")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + ticket.entityTag() + "\""))
+                    .andExpect(status().isForbidden());
+
+            verify(ticketService, never()).findById(anyString());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
     @Test
     void addComment_Success_Returns200() throws Exception {
         when(ticketService.findById("ticket123")).thenReturn(Optional.of(ticket));
@@ -234,7 +430,7 @@ class TicketControllerTest {
 
     @Test
     void updateStatus_Success_Returns200() throws Exception {
-        when(ticketService.updateStatus("ticket123", TicketStatus.IN_PROGRESS, "agent456"))
+        when(ticketService.updateStatus("ticket123", TicketStatus.IN_PROGRESS, null, "agent456"))
                 .thenReturn(ticket);
         when(ticketMapper.toDTO(any(Ticket.class))).thenReturn(responseDTO);
 
@@ -247,10 +443,389 @@ class TicketControllerTest {
                             .content("\"IN_PROGRESS\""))
                     .andExpect(status().isOk());
 
-            verify(ticketService).updateStatus("ticket123", TicketStatus.IN_PROGRESS, "agent456");
+            verify(ticketService).updateStatus("ticket123", TicketStatus.IN_PROGRESS, null, "agent456");
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void updateStatuses_ByIds_ReturnsCounts() throws Exception {
+        TicketBulkStatusResult result = new TicketBulkStatusResult(3, 2, 1, false);
+        when(ticketService.updateStatuses(List.of("t1", "t2", "t3"), null, TicketStatus.CLOSED, "agent456"))
+                .thenReturn(result);
+        when(ticketMapper.toBulkStatusDTO(result)).thenReturn(TicketBulkStatusResponseDTO.builder()
+                .matched(3).changed(2).skipped(1).build());
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("agent456", "AGENT"));
+        try {
+            mockMvc.perform(put("/api/tickets/status")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ticketIds\":[\"t1\",\"t2\",\"t3\"],\"status\":\"CLOSED\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.matched").value(3))
+                    .andExpect(jsonPath("$.changed").value(2))
+                    .andExpect(jsonPath("$.skipped").value(1));
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void updateStatuses_ByFilter_PassesFilterToService() throws Exception {
+        when(ticketService.updateStatuses(eq(null), any(TicketFilter.class), eq(TicketStatus.CLOSED), eq("agent456")))
+                .thenReturn(new TicketBulkStatusResult(0, 0, 0, false));
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("agent456", "AGENT"));
+        try {
+            mockMvc.perform(put("/api/tickets/status")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"filter\":{\"customerExternalId\":\"customer123\",\"status\":\"OPEN\"},\"status\":\"CLOSED\"}"))
+                    .andExpect(status().isOk());
+
+            verify(ticketService).updateStatuses(isNull(), argThat(filter -> "customer123".equals(filter.getCustomerExternalId())
+                    && filter.getStatus() == TicketStatus.OPEN), eq(TicketStatus.CLOSED), eq("agent456"));
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void updateStatuses_BothIdsAndFilter_Returns400() throws Exception {
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("agent456", "AGENT"));
+        try {
+            mockMvc.perform(put("/api/tickets/status")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ticketIds\":[\"t1\"],\"filter\":{},\"status\":\"CLOSED\"}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(ticketService, never()).updateStatuses(any(), any(), any(), anyString());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void updateStatus_WithExpectedStatus_PassesExpectedStatusToService() throws Exception {
+        when(ticketService.updateStatus("ticket123", TicketStatus.RESOLVED, TicketStatus.IN_PROGRESS, "agent456"))
+                .thenReturn(ticket);
+        when(ticketMapper.toDTO(any(Ticket.class))).thenReturn(responseDTO);
+
+        Authentication auth = createMockAuthentication("agent456", "AGENT");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(put("/api/tickets/ticket123/status")
+                            .param("expectedStatus", "IN_PROGRESS")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("\"RESOLVED\""))
+                    .andExpect(status().isOk());
+
+            verify(ticketService).updateStatus("ticket123", TicketStatus.RESOLVED, TicketStatus.IN_PROGRESS, "agent456");
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getTickets_ReturnsPageWithNextCursor() throws Exception {
+        when(ticketService.findTicketPage(any(TicketFilter.class), eq(TicketSortField.PRIORITY), eq("abc"), eq(20)))
+                .thenReturn(new TicketPage<>(List.of(ticket), "next-cursor"));
+        when(ticketMapper.toDTO(any(Ticket.class))).thenReturn(responseDTO);
+
+        Authentication auth = createMockAuthentication("agent456", "AGENT");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(get("/api/tickets")
+                            .param("status", "OPEN")
+                            .param("sort", "PRIORITY")
+                            .param("cursor", "abc")
+                            .param("limit", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.items[0].id").value("ticket123"))
+                    .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+
+            verify(ticketService).findTicketPage(argThat(f -> f.getStatus() == TicketStatus.OPEN && !f.isIncludeArchived()),
+                    eq(TicketSortField.PRIORITY), eq("abc"), eq(20));
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getTickets_IncludeArchived_PassesFlagInFilter() throws Exception {
+        when(ticketService.findTicketPage(any(TicketFilter.class), any(), any(), any()))
+                .thenReturn(new TicketPage<>(List.of(), null));
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("agent456", "AGENT"));
+
+        try {
+            mockMvc.perform(get("/api/tickets").param("includeArchived", "true"))
+                    .andExpect(status().isOk());
+
+            verify(ticketService).findTicketPage(argThat(TicketFilter::isIncludeArchived), any(), any(), any());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getTickets_SummaryView_ReturnsSummaries() throws Exception {
+        TicketSummary summary = TicketSummary.builder().id("ticket123").title("Test Ticket").commentCount(3).build();
+        TicketSummaryDTO summaryDTO = TicketSummaryDTO.builder().id("ticket123").title("Test Ticket").commentCount(3).build();
+
+        when(ticketService.findTicketSummaryPage(any(TicketFilter.class), any(), any(), any()))
+                .thenReturn(new TicketPage<>(List.of(summary), null));
+        when(ticketMapper.toSummaryDTO(summary)).thenReturn(summaryDTO);
+
+        Authentication auth = createMockAuthentication("agent456", "AGENT");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(get("/api/tickets").param("view", "summary"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value("ticket123"))
+                    .andExpect(jsonPath("$.items[0].commentCount").value(3))
+                    .andExpect(jsonPath("$.items[0].comments").doesNotExist());
+
+            verify(ticketService, never()).findTicketPage(any(), any(), any(), any());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getTickets_UnknownView_Returns400() throws Exception {
+        Authentication auth = createMockAuthentication("agent456", "AGENT");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(get("/api/tickets").param("view", "compact"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(ticketService);
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getOwnTickets_InvalidCursor_Returns400() throws Exception {
+        when(ticketService.findTicketPage(any(TicketFilter.class), any(), eq("bogus"), any()))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        Authentication auth = createMockAuthentication("customer123", "CUSTOMER");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(get("/api/tickets/me").param("cursor", "bogus"))
+                    .andExpect(status().isBadRequest());
+
+            verify(ticketService).findTicketPage(argThat(f -> "customer123".equals(f.getCustomerExternalId())),
+                    any(), eq("bogus"), any());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void streamTickets_NdjsonAccept_WritesOneTicketPerLine() throws Exception {
+        Ticket ticket2 = Ticket.builder().id("ticket456").customerExternalId("customer123").build();
+        TicketResponseDTO responseDTO2 = TicketResponseDTO.builder().id("ticket456").customerExternalId("customer123").build();
+
+        when(ticketService.streamTickets(any(TicketFilter.class))).thenReturn(Stream.of(ticket, ticket2));
+        when(ticketMapper.toDTO(ticket)).thenReturn(responseDTO);
+        when(ticketMapper.toDTO(ticket2)).thenReturn(responseDTO2);
+
+        Authentication auth = createMockAuthentication("agent456", "AGENT");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            MvcResult result = mockMvc.perform(get("/api/tickets")
+                            .param("priority", "HIGH")
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(10).toMillis());
+
+            String body = mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andReturn().getResponse().getContentAsString();
+
+            String[] lines = body.split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[0]).get("id").asText()).isEqualTo("ticket123");
+            assertThat(objectMapper.readTree(lines[1]).get("id").asText()).isEqualTo("ticket456");
+            assertThat(body).endsWith("\n");
+            verify(ticketService).streamTickets(argThat(f -> f.getPriority() == Priority.HIGH));
+            verify(ticketService, never()).findTicketPage(any(), any(), any(), any());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getComments_NewestFirst_ReturnsPageFromHistory() throws Exception {
+        Ticket header = Ticket.builder().id("ticket123").customerExternalId("customer123").commentCount(3).build();
+        TicketPage<TicketComment> page = new TicketPage<>(
+                List.of(new TicketComment("third", "agent456"), new TicketComment("second", "agent456")), "1");
+
+        when(ticketService.findHistoryHeader("ticket123")).thenReturn(Optional.of(header));
+        when(ticketService.findComments(header, null, 2, true)).thenReturn(page);
+
+        Authentication auth = createMockAuthentication("customer123", "CUSTOMER");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(get("/api/tickets/ticket123/comments")
+                            .param("limit", "2")
+                            .param("order", "newest"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].content").value("third"))
+                    .andExpect(jsonPath("$.items[1].content").value("second"))
+                    .andExpect(jsonPath("$.nextCursor").value("1"));
+
+            verify(ticketService, never()).findById(anyString());
         } finally {
             AUTHENTICATION_HOLDER.remove();
         }
     }
 
+    @Test
+    void getEvents_OtherCustomersTicket_Returns403() throws Exception {
+        Ticket header = Ticket.builder().id("ticket123").customerExternalId("someone-else").eventCount(5).build();
+        when(ticketService.findHistoryHeader("ticket123")).thenReturn(Optional.of(header));
+
+        Authentication auth = createMockAuthentication("customer123", "CUSTOMER");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(get("/api/tickets/ticket123/events"))
+                    .andExpect(status().isForbidden());
+
+            verify(ticketService, never()).findEvents(any(), any(), any(), anyBoolean());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getEvents_UnknownOrder_Returns400() throws Exception {
+        Ticket header = Ticket.builder().id("ticket123").customerExternalId("customer123").eventCount(5).build();
+        when(ticketService.findHistoryHeader("ticket123")).thenReturn(Optional.of(header));
+
+        Authentication auth = createMockAuthentication("agent456", "AGENT");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(get("/api/tickets/ticket123/events").param("order", "sideways"))
+                    .andExpect(status().isBadRequest());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void searchTickets_ReturnsPageOfMatches() throws Exception {
+        when(ticketService.searchTickets(eq("printer"), any(TicketFilter.class), isNull(), eq(20)))
+                .thenReturn(new TicketPage<>(List.of(ticket), "next-cursor"));
+        when(ticketMapper.toDTO(ticket)).thenReturn(responseDTO);
+
+        Authentication auth = createMockAuthentication("agent456", "AGENT");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(get("/api/tickets/search")
+                            .param("q", "printer")
+                            .param("status", "OPEN")
+                            .param("limit", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value("ticket123"))
+                    .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+
+            verify(ticketService).searchTickets(eq("printer"), argThat(f -> f.getStatus() == TicketStatus.OPEN),
+                    isNull(), eq(20));
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void searchTickets_BlankQuery_Returns400() throws Exception {
+        when(ticketService.searchTickets(eq(" "), any(TicketFilter.class), any(), any()))
+                .thenThrow(new IllegalArgumentException("Search text is required"));
+
+        Authentication auth = createMockAuthentication("agent456", "AGENT");
+        AUTHENTICATION_HOLDER.set(auth);
+
+        try {
+            mockMvc.perform(get("/api/tickets/search").param("q", " "))
+                    .andExpect(status().isBadRequest());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getChanges_SplitsTerminalTicketsIntoTombstones() throws Exception {
+        TicketSummary open = TicketSummary.builder().id("t1").status(TicketStatus.OPEN).build();
+        TicketSummary closed = TicketSummary.builder().id("t2").status(TicketStatus.CLOSED).build();
+        when(ticketService.findChanges(isNull(), eq("wm1"), isNull()))
+                .thenReturn(new TicketChanges(List.of(open, closed), "wm2", true));
+        when(ticketMapper.toSummaryDTO(open))
+                .thenReturn(TicketSummaryDTO.builder().id("t1").status(TicketStatus.OPEN).build());
+        when(ticketMapper.toTombstoneDTO(closed))
+                .thenReturn(TicketTombstoneDTO.builder().id("t2").status(TicketStatus.CLOSED).build());
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("agent456", "AGENT"));
+
+        try {
+            mockMvc.perform(get("/api/tickets/changes").param("since", "wm1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changed.length()").value(1))
+                    .andExpect(jsonPath("$.changed[0].id").value("t1"))
+                    .andExpect(jsonPath("$.tombstones.length()").value(1))
+                    .andExpect(jsonPath("$.tombstones[0].id").value("t2"))
+                    .andExpect(jsonPath("$.watermark").value("wm2"))
+                    .andExpect(jsonPath("$.hasMore").value(true));
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getChanges_Customer_ScopedToOwnTickets() throws Exception {
+        when(ticketService.findChanges(eq("customer123"), isNull(), isNull()))
+                .thenReturn(new TicketChanges(List.of(), "wm1", false));
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("customer123", "CUSTOMER"));
+
+        try {
+            mockMvc.perform(get("/api/tickets/changes").param("customerExternalId", "otherCustomer"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.watermark").value("wm1"));
+
+            verify(ticketService).findChanges(eq("customer123"), isNull(), isNull());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
+
+    @Test
+    void getChanges_InvalidWatermark_Returns400() throws Exception {
+        when(ticketService.findChanges(any(), eq("bogus"), any()))
+                .thenThrow(new IllegalArgumentException("Invalid watermark"));
+
+        AUTHENTICATION_HOLDER.set(createMockAuthentication("agent456", "AGENT"));
+
+        try {
+            mockMvc.perform(get("/api/tickets/changes").param("since", "bogus"))
+                    .andExpect(status().isBadRequest());
+        } finally {
+            AUTHENTICATION_HOLDER.remove();
+        }
+    }
 }
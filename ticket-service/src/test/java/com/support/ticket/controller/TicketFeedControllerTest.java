@@ -0,0 +1,50 @@
+package com.support.ticket.controller;
+
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.service.interfaces.ITicketFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class TicketFeedControllerTest {
+
+    private MockMvc mockMvc;
+    private ITicketFeedService ticketFeedService;
+
+    @BeforeEach
+    void setUp() {
+        ticketFeedService = mock(ITicketFeedService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TicketFeedController(ticketFeedService)).build();
+    }
+
+    @Test
+    void subscribe_StartsEventStreamWithRequestedFilter() throws Exception {
+        when(ticketFeedService.subscribe(any(TicketFilter.class))).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/tickets/feed")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .param("customerExternalId", "customer123")
+                        .param("status", "OPEN")
+                        .param("priority", "HIGH"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        ArgumentCaptor<TicketFilter> filterCaptor = ArgumentCaptor.forClass(TicketFilter.class);
+        verify(ticketFeedService).subscribe(filterCaptor.capture());
+        assertThat(filterCaptor.getValue().getCustomerExternalId()).isEqualTo("customer123");
+        assertThat(filterCaptor.getValue().getStatus()).isEqualTo(TicketStatus.OPEN);
+        assertThat(filterCaptor.getValue().getPriority()).isEqualTo(Priority.HIGH);
+    }
+}
@@ -0,0 +1,175 @@
+package com.support.ticket.controller;
+
+import com.support.ticket.model.TicketCacheStats;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketHistogram;
+import com.support.ticket.model.TicketSlaReport;
+import com.support.ticket.model.TicketStats;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.RollupGranularity;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.service.interfaces.ITicketCounterService;
+import com.support.ticket.service.interfaces.ITicketRollupService;
+import com.support.ticket.service.interfaces.ITicketService;
+import com.support.ticket.service.interfaces.ITicketSlaService;
+import com.support.ticket.service.interfaces.ITicketStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class TicketStatsControllerTest {
+
+    private MockMvc mockMvc;
+    private ITicketStatsService ticketStatsService;
+    private ITicketCounterService ticketCounterService;
+    private ITicketRollupService ticketRollupService;
+    private ITicketSlaService ticketSlaService;
+    private ITicketService ticketService;
+
+    @BeforeEach
+    void setUp() {
+        ticketStatsService = mock(ITicketStatsService.class);
+        ticketCounterService = mock(ITicketCounterService.class);
+        ticketRollupService = mock(ITicketRollupService.class);
+        ticketSlaService = mock(ITicketSlaService.class);
+        ticketService = mock(ITicketService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TicketStatsController(ticketStatsService, ticketCounterService,
+                        ticketRollupService, ticketSlaService, ticketService))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    void getStats_WithScope_ReturnsStatsForFilter() throws Exception {
+        TicketStats stats = TicketStats.builder()
+                .total(4)
+                .byStatus(Map.of(TicketStatus.OPEN, 4L))
+                .build();
+        when(ticketStatsService.getStats(any(TicketFilter.class))).thenReturn(stats);
+
+        mockMvc.perform(get("/api/tickets/stats")
+                        .param("customerExternalId", "customer123")
+                        .param("fromDate", "2024-01-01T00:00:00")
+                        .param("toDate", "2024-02-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(4))
+                .andExpect(jsonPath("$.byStatus.OPEN").value(4));
+
+        ArgumentCaptor<TicketFilter> filterCaptor = ArgumentCaptor.forClass(TicketFilter.class);
+        verify(ticketStatsService).getStats(filterCaptor.capture());
+        assertThat(filterCaptor.getValue().getCustomerExternalId()).isEqualTo("customer123");
+        assertThat(filterCaptor.getValue().getFromDate()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(filterCaptor.getValue().getToDate()).isEqualTo(LocalDateTime.of(2024, 2, 1, 0, 0));
+        assertThat(filterCaptor.getValue().getStatus()).isNull();
+    }
+
+    @Test
+    void getStats_InvertedDateRange_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tickets/stats")
+                        .param("fromDate", "2024-02-01T00:00:00")
+                        .param("toDate", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(ticketStatsService);
+    }
+
+    @Test
+    void getLiveCounts_Seeded_ReturnsCounters() throws Exception {
+        when(ticketCounterService.isSeeded()).thenReturn(true);
+        when(ticketCounterService.getCounts()).thenReturn(TicketStats.builder().total(12).build());
+
+        mockMvc.perform(get("/api/tickets/stats/live"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(12));
+
+        verifyNoInteractions(ticketStatsService);
+    }
+
+    @Test
+    void getLiveCounts_NotSeeded_ReturnsServiceUnavailable() throws Exception {
+        when(ticketCounterService.isSeeded()).thenReturn(false);
+
+        mockMvc.perform(get("/api/tickets/stats/live"))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(ticketCounterService, never()).getCounts();
+    }
+
+    @Test
+    void getHistogram_ValidRange_ReturnsBuckets() throws Exception {
+        LocalDateTime fromDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime toDate = LocalDateTime.of(2024, 1, 2, 0, 0);
+        when(ticketRollupService.getHistogram(RollupGranularity.HOUR, fromDate, toDate)).thenReturn(
+                TicketHistogram.builder()
+                        .granularity(RollupGranularity.HOUR)
+                        .buckets(List.of(TicketHistogram.Bucket.builder().bucketStart(fromDate).build()))
+                        .build());
+
+        mockMvc.perform(get("/api/tickets/stats/histogram")
+                        .param("granularity", "HOUR")
+                        .param("fromDate", "2024-01-01T00:00:00")
+                        .param("toDate", "2024-01-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("HOUR"))
+                .andExpect(jsonPath("$.buckets.length()").value(1));
+    }
+
+    @Test
+    void getHistogram_RangeRejected_ReturnsBadRequest() throws Exception {
+        when(ticketRollupService.getHistogram(any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("Range exceeds 2400 hour buckets"));
+
+        mockMvc.perform(get("/api/tickets/stats/histogram")
+                        .param("granularity", "HOUR")
+                        .param("fromDate", "2020-01-01T00:00:00")
+                        .param("toDate", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getSlaReport_Seeded_ReturnsPercentiles() throws Exception {
+        when(ticketSlaService.isSeeded()).thenReturn(true);
+        when(ticketSlaService.getReport()).thenReturn(TicketSlaReport.builder()
+                .resolutionTime(Map.of(Priority.HIGH, TicketSlaReport.ResolutionTime.builder()
+                        .count(10).p50Millis(60000).p90Millis(120000).p99Millis(300000).build()))
+                .build());
+
+        mockMvc.perform(get("/api/tickets/stats/sla"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resolutionTime.HIGH.count").value(10))
+                .andExpect(jsonPath("$.resolutionTime.HIGH.p90Millis").value(120000));
+    }
+
+    @Test
+    void getSlaReport_NotSeeded_ReturnsServiceUnavailable() throws Exception {
+        when(ticketSlaService.isSeeded()).thenReturn(false);
+
+        mockMvc.perform(get("/api/tickets/stats/sla"))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(ticketSlaService, never()).getReport();
+    }
+
+    @Test
+    void getCacheStats_ReturnsCounters() throws Exception {
+        when(ticketService.getCacheStats()).thenReturn(TicketCacheStats.builder().hits(7).misses(3).build());
+
+        mockMvc.perform(get("/api/tickets/stats/cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(7))
+                .andExpect(jsonPath("$.misses").value(3));
+    }
+}
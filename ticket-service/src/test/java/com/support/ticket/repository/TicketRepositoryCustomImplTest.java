@@ -0,0 +1,1088 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.constants.TicketArchive;
+import com.support.ticket.constants.TicketEventDescriptions;
+import com.support.ticket.constants.TicketHistory;
+import com.support.ticket.constants.TicketPagination;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketChangeWatermark;
+import com.support.ticket.model.TicketComment;
+import com.support.ticket.model.TicketCommentBucket;
+import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.TicketEventBucket;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketPageCursor;
+import com.support.ticket.model.TicketRollup;
+import com.support.ticket.model.TicketSearchCursor;
+import com.support.ticket.model.TicketSearchHit;
+import com.support.ticket.model.TicketSearchResult;
+import com.support.ticket.model.TicketStatusPriorityCount;
+import com.support.ticket.model.TicketSummary;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.ReadConsistency;
+import com.support.ticket.model.enums.RollupGranularity;
+import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketSearchMatch;
+import com.support.ticket.model.enums.TicketSortField;
+import com.support.ticket.model.enums.TicketStatus;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketRepositoryCustomImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private TicketRepositoryCustomImpl ticketRepositoryCustom;
+
+    @Test
+    void countByStatusAndPriority_GroupsMatchedHotAndArchivedTicketsInSingleAggregation() {
+        TicketFilter filter = TicketFilter.builder().customerExternalId("customer123").build();
+        Document openHigh = new Document("_id", new Document("status", "OPEN").append("priority", "HIGH"))
+                .append("count", 3);
+        Document closedLow = new Document("_id", new Document("status", "CLOSED").append("priority", "LOW"))
+                .append("count", 7L);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Ticket.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(openHigh, closedLow), new Document()));
+
+        List<TicketStatusPriorityCount> counts = ticketRepositoryCustom.countByStatusAndPriority(filter, ReadConsistency.PRIMARY);
+
+        assertThat(counts).extracting(TicketStatusPriorityCount::getStatus, TicketStatusPriorityCount::getPriority,
+                        TicketStatusPriorityCount::getCount)
+                .containsExactly(tuple(TicketStatus.OPEN, Priority.HIGH, 3L), tuple(TicketStatus.CLOSED, Priority.LOW, 7L));
+
+        ArgumentCaptor<Aggregation> aggregationCaptor = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregationCaptor.capture(), eq(Ticket.class), eq(Document.class));
+        List<Document> pipeline = aggregationCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertThat(pipeline).hasSize(3);
+        assertThat(pipeline.get(0).get("$match", Document.class).get("customerExternalId")).isEqualTo("customer123");
+        Document unionWith = pipeline.get(1).get("$unionWith", Document.class);
+        assertThat(unionWith).containsEntry("coll", TicketArchive.COLLECTION);
+        assertThat(unionWith.getList("pipeline", Document.class).get(0).get("$match", Document.class))
+                .containsEntry("customerExternalId", "customer123");
+        Document group = pipeline.get(2).get("$group", Document.class);
+        assertThat(group.get("_id", Document.class))
+                .containsEntry("status", "$status")
+                .containsEntry("priority", "$priority");
+        assertThat(group.get("count", Document.class)).containsEntry("$sum", 1);
+    }
+
+    @Test
+    void incrementRollups_UpsertsHourAndDayBucketsInOneBulkWrite() {
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketRollup.class)).thenReturn(bulkOperations);
+
+        ticketRepositoryCustom.incrementRollups("created", Priority.HIGH, LocalDateTime.of(2024, 3, 1, 10, 45, 12));
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).upsert(queryCaptor.capture(), updateCaptor.capture());
+        verify(bulkOperations).execute();
+
+        assertThat(queryCaptor.getAllValues()).extracting(Query::getQueryObject)
+                .extracting(query -> query.get("granularity"), query -> query.get("bucketStart"))
+                .containsExactly(
+                        tuple(RollupGranularity.HOUR, LocalDateTime.of(2024, 3, 1, 10, 0)),
+                        tuple(RollupGranularity.DAY, LocalDateTime.of(2024, 3, 1, 0, 0)));
+        assertThat(updateCaptor.getAllValues()).allSatisfy(update ->
+                assertThat(update.getUpdateObject().get("$inc", Document.class)).containsEntry("created.HIGH", 1));
+    }
+
+    @Test
+    void findPage_IncludeArchived_MergesHotAndArchivedPagesInSortOrder() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        Ticket hotNewest = Ticket.builder().id("t3").createdAt(createdAt.plusMinutes(3)).build();
+        Ticket hotOldest = Ticket.builder().id("t1").createdAt(createdAt.plusMinutes(1)).build();
+        Ticket archivedNewest = Ticket.builder().id("t2").createdAt(createdAt.plusMinutes(2)).build();
+        Ticket archivedOldest = Ticket.builder().id("t0").createdAt(createdAt).build();
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of(hotNewest, hotOldest));
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class), eq(TicketArchive.COLLECTION)))
+                .thenReturn(List.of(archivedNewest, archivedOldest));
+
+        List<Ticket> page = ticketRepositoryCustom.findPage(TicketFilter.builder().includeArchived(true).build(),
+                TicketSortField.CREATED_AT, null, 3);
+
+        assertThat(page).containsExactly(hotNewest, archivedNewest, hotOldest);
+    }
+
+    @Test
+    void findPage_WithoutIncludeArchived_QueriesHotCollectionOnly() {
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of());
+
+        ticketRepositoryCustom.findPage(new TicketFilter(), TicketSortField.CREATED_AT, null, 10);
+
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Ticket.class), eq(TicketArchive.COLLECTION));
+    }
+
+    @Test
+    void pageOrder_Priority_OrdersByPriorityThenNewestFirst() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        TicketSummary urgentOld = TicketSummary.builder().id("a").priority(Priority.URGENT).createdAt(createdAt).build();
+        TicketSummary lowNew = TicketSummary.builder().id("b").priority(Priority.LOW)
+                .createdAt(createdAt.plusDays(1)).build();
+        TicketSummary urgentNew = TicketSummary.builder().id("c").priority(Priority.URGENT)
+                .createdAt(createdAt.plusHours(1)).build();
+
+        List<TicketSummary> sorted = new ArrayList<>(List.of(lowNew, urgentOld, urgentNew));
+        sorted.sort(TicketRepositoryCustomImpl.pageOrder(TicketSortField.PRIORITY, TicketSummary::getPriority,
+                TicketSummary::getCreatedAt, TicketSummary::getId));
+
+        assertThat(sorted).containsExactly(urgentNew, urgentOld, lowNew);
+    }
+
+    @Test
+    void findVersionHeader_NotInHotCollection_FallsBackToArchive() {
+        Ticket archived = Ticket.builder().id("ticket123").version(4L).build();
+        when(mongoTemplate.findOne(any(Query.class), eq(Ticket.class))).thenReturn(null);
+        when(mongoTemplate.findOne(any(Query.class), eq(Ticket.class), eq(TicketArchive.COLLECTION)))
+                .thenReturn(archived);
+
+        assertThat(ticketRepositoryCustom.findVersionHeader("ticket123")).isSameAs(archived);
+    }
+
+    @Test
+    void findArchivable_MatchesTerminalTicketsClosedBeforeCutoff() {
+        LocalDateTime closedBefore = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        ticketRepositoryCustom.findArchivable(closedBefore, 500);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Ticket.class));
+        Document queryObject = queryCaptor.getValue().getQueryObject();
+        assertThat(queryObject.get("status", Document.class).getList("$in", Object.class))
+                .containsExactlyInAnyOrder(TicketStatus.CLOSED, TicketStatus.CANCELLED);
+        List<Document> closedCriteria = queryObject.getList("$or", Document.class);
+        assertThat(closedCriteria.get(0).get("statusChangedAt", Document.class)).containsEntry("$lt", closedBefore);
+        assertThat(closedCriteria.get(1).get("updatedAt", Document.class)).containsEntry("$lt", closedBefore);
+        assertThat(queryCaptor.getValue().getLimit()).isEqualTo(500);
+    }
+
+    @Test
+    void archive_VersionMismatch_RemovesArchiveCopyOfChangedTicket() {
+        BulkOperations copies = mock(BulkOperations.class);
+        BulkOperations removals = mock(BulkOperations.class);
+        BulkWriteResult removed = mock(BulkWriteResult.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class, TicketArchive.COLLECTION))
+                .thenReturn(copies);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class)).thenReturn(removals);
+        when(removals.execute()).thenReturn(removed);
+        when(removed.getDeletedCount()).thenReturn(1);
+        Ticket first = Ticket.builder().id("t1").version(3L).build();
+        Ticket second = Ticket.builder().id("t2").version(5L).build();
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of(Ticket.builder().id("t2").build()));
+
+        long archived = ticketRepositoryCustom.archive(List.of(first, second));
+
+        assertThat(archived).isEqualTo(1);
+        verify(copies).replaceOne(any(Query.class), eq(first), argThat(FindAndReplaceOptions::isUpsert));
+        verify(copies).replaceOne(any(Query.class), eq(second), argThat(FindAndReplaceOptions::isUpsert));
+        ArgumentCaptor<Query> removeCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(removals, times(2)).remove(removeCaptor.capture());
+        assertThat(removeCaptor.getAllValues().get(1).getQueryObject())
+                .containsEntry("id", "t2")
+                .containsEntry("version", 5L);
+
+        InOrder inOrder = inOrder(copies, removals);
+        inOrder.verify(copies).execute();
+        inOrder.verify(removals).execute();
+
+        ArgumentCaptor<Query> leftovers = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(leftovers.capture(), eq(TicketArchive.COLLECTION));
+        assertThat(leftovers.getValue().getQueryObject().get("id", Document.class).get("$in"))
+                .asInstanceOf(InstanceOfAssertFactories.collection(String.class))
+                .containsExactly("t2");
+    }
+
+    @Test
+    void archive_AllVersionsMatch_KeepsArchiveCopies() {
+        BulkOperations copies = mock(BulkOperations.class);
+        BulkOperations removals = mock(BulkOperations.class);
+        BulkWriteResult removed = mock(BulkWriteResult.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class, TicketArchive.COLLECTION))
+                .thenReturn(copies);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class)).thenReturn(removals);
+        when(removals.execute()).thenReturn(removed);
+        when(removed.getDeletedCount()).thenReturn(1);
+
+        long archived = ticketRepositoryCustom.archive(List.of(Ticket.builder().id("t1").version(3L).build()));
+
+        assertThat(archived).isEqualTo(1);
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Ticket.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), anyString());
+    }
+
+    @Test
+    void insertAll_UnorderedBulkInsertReportsFailedIndexes() {
+        BulkOperations inserts = mock(BulkOperations.class);
+        BulkOperationException failure = mock(BulkOperationException.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class)).thenReturn(inserts);
+        when(inserts.execute()).thenThrow(failure);
+        when(failure.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1)));
+        Ticket first = Ticket.builder().customerExternalId("customer123").build();
+        Ticket second = Ticket.builder().customerExternalId("customer123").build();
+
+        Map<Integer, String> failures = ticketRepositoryCustom.insertAll(List.of(first, second));
+
+        assertThat(failures).containsExactly(entry(1, "E11000 duplicate key"));
+        assertThat(first.getId()).isNotNull().isNotEqualTo(second.getId());
+        verify(inserts).insert(first);
+        verify(inserts).insert(second);
+        verify(inserts, times(1)).execute();
+    }
+
+    @Test
+    void appendPendingHistory_UpsertsAllTicketsBucketsInOneBulk() {
+        BulkOperations comments = mock(BulkOperations.class);
+        BulkOperations events = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketCommentBucket.class)).thenReturn(comments);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketEventBucket.class)).thenReturn(events);
+        Ticket first = Ticket.builder().id("t1").build();
+        Ticket second = Ticket.builder().id("t2").build();
+        first.addEvent(new TicketEvent(TicketEventType.CREATED, "Ticket created", "customer123"));
+        second.addEvent(new TicketEvent(TicketEventType.CREATED, "Ticket created", "customer123"));
+
+        ticketRepositoryCustom.appendPendingHistory(List.of(first, second));
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(events, times(2)).upsert(queryCaptor.capture(), any(Update.class));
+        assertThat(queryCaptor.getAllValues()).extracting(query -> query.getQueryObject().get("ticketId"))
+                .containsExactly("t1", "t2");
+        verify(events, times(1)).execute();
+        verify(comments, never()).execute();
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), any(Class.class));
+    }
+
+    @Test
+    void migrateHistory_GuardsOnLegacyShapeAndVersionThenAppendsBuckets() {
+        BulkOperations comments = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketCommentBucket.class)).thenReturn(comments);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketEventBucket.class))
+                .thenReturn(mock(BulkOperations.class));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Ticket.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        Ticket ticket = Ticket.builder().id("t1").build();
+        ticket.setComments(new ArrayList<>(List.of(new TicketComment("legacy", "customer123"))));
+        ticket.normalizeHistory();
+
+        boolean migrated = ticketRepositoryCustom.migrateHistory(ticket, 4L);
+
+        assertThat(migrated).isTrue();
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(Ticket.class));
+        Document query = queryCaptor.getValue().getQueryObject();
+        assertThat(query.get("commentCount", Document.class)).containsEntry("$exists", false);
+        assertThat(query.get("version")).isEqualTo(4L);
+        assertThat(updateCaptor.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("commentCount", 1).containsEntry("eventCount", 0);
+        verify(comments).upsert(any(Query.class), any(Update.class));
+        verify(comments).execute();
+    }
+
+    @Test
+    void migrateHistory_GuardMiss_WritesNoBuckets() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Ticket.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        Ticket ticket = Ticket.builder().id("t1").build();
+        ticket.setComments(new ArrayList<>(List.of(new TicketComment("legacy", "customer123"))));
+        ticket.normalizeHistory();
+
+        boolean migrated = ticketRepositoryCustom.migrateHistory(ticket, null);
+
+        assertThat(migrated).isFalse();
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), any(Class.class));
+    }
+
+    @Test
+    void findRollups_QueriesTruncatedRangeInBucketOrder() {
+        ticketRepositoryCustom.findRollups(RollupGranularity.DAY,
+                LocalDateTime.of(2024, 1, 1, 15, 0), LocalDateTime.of(2024, 3, 31, 8, 0));
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(TicketRollup.class));
+        Document queryObject = queryCaptor.getValue().getQueryObject();
+        assertThat(queryObject.get("granularity")).isEqualTo(RollupGranularity.DAY);
+        assertThat(queryObject.get("bucketStart", Document.class))
+                .containsEntry("$gte", LocalDateTime.of(2024, 1, 1, 0, 0))
+                .containsEntry("$lte", LocalDateTime.of(2024, 3, 31, 0, 0));
+        assertThat(queryCaptor.getValue().getSortObject()).containsEntry("bucketStart", 1);
+    }
+
+    @Test
+    void buildCriteria_AllFilters_BuildsSingleMongoQuery() {
+        LocalDateTime fromDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime toDate = LocalDateTime.of(2024, 12, 31, 23, 59);
+        TicketFilter filter = TicketFilter.builder()
+                .status(TicketStatus.OPEN)
+                .priority(Priority.HIGH)
+                .customerExternalId("customer123")
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .build();
+
+        Document queryObject = TicketRepositoryCustomImpl.buildCriteria(filter).getCriteriaObject();
+
+        assertThat(queryObject.get("customerExternalId")).isEqualTo("customer123");
+        assertThat(queryObject.get("status")).isEqualTo(TicketStatus.OPEN);
+        assertThat(queryObject.get("priority")).isEqualTo(Priority.HIGH);
+        Document createdAt = (Document) queryObject.get("createdAt");
+        assertThat(createdAt.get("$gte")).isEqualTo(fromDate);
+        assertThat(createdAt.get("$lte")).isEqualTo(toDate);
+    }
+
+    @Test
+    void buildCriteria_NoFilters_BuildsEmptyQuery() {
+        assertThat(TicketRepositoryCustomImpl.buildCriteria(new TicketFilter()).getCriteriaObject()).isEmpty();
+    }
+
+    @Test
+    void buildCriteria_BlankCustomerAndOpenEndedRange_SkipsBlankFilter() {
+        LocalDateTime fromDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        TicketFilter filter = TicketFilter.builder()
+                .customerExternalId(" ")
+                .fromDate(fromDate)
+                .build();
+
+        Document queryObject = TicketRepositoryCustomImpl.buildCriteria(filter).getCriteriaObject();
+
+        assertThat(queryObject).doesNotContainKey("customerExternalId");
+        assertThat(((Document) queryObject.get("createdAt")).get("$gte")).isEqualTo(fromDate);
+        assertThat((Document) queryObject.get("createdAt")).doesNotContainKey("$lte");
+    }
+
+    @Test
+    void findPage_PrioritySortWithCursor_AddsKeysetCriteriaSortAndLimit() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        TicketPageCursor after = new TicketPageCursor(TicketSortField.PRIORITY, 2, createdAt, "65f000000000000000000001");
+        TicketFilter filter = TicketFilter.builder().status(TicketStatus.OPEN).build();
+
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of());
+
+        ticketRepositoryCustom.findPage(filter, TicketSortField.PRIORITY, after, 51);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Ticket.class));
+        Query query = queryCaptor.getValue();
+        assertThat(query.getLimit()).isEqualTo(51);
+        assertThat(query.getSortObject().keySet()).containsExactly("priorityRank", "createdAt", "id");
+        assertThat(query.getSortObject().values()).containsOnly(-1);
+        assertThat(query.getQueryObject().get("status")).isEqualTo(TicketStatus.OPEN);
+        assertThat(query.getQueryObject().getList("$and", Document.class).get(0)).containsKey("$or");
+    }
+
+    @Test
+    void findPage_UnfilteredWithCursor_AddsKeysetCriteria() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        TicketPageCursor after = new TicketPageCursor(TicketSortField.CREATED_AT, 0, createdAt, "65f000000000000000000001");
+
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of());
+
+        ticketRepositoryCustom.findPage(new TicketFilter(), TicketSortField.CREATED_AT, after, 10);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Ticket.class));
+        assertThat(queryCaptor.getValue().getQueryObject().getList("$and", Document.class).get(0)).containsKey("$or");
+    }
+
+    @Test
+    void findPage_FirstPage_HasNoKeysetCriteria() {
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of());
+
+        ticketRepositoryCustom.findPage(new TicketFilter(), TicketSortField.CREATED_AT, null, 10);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Ticket.class));
+        assertThat(queryCaptor.getValue().getQueryObject()).isEmpty();
+        assertThat(queryCaptor.getValue().getSortObject().keySet()).containsExactly("createdAt", "id");
+    }
+
+    @Test
+    void streamByFilter_UsesCursorWithBatchSize() {
+        TicketFilter filter = TicketFilter.builder().customerExternalId("customer123").build();
+        when(mongoTemplate.stream(any(Query.class), eq(Ticket.class))).thenReturn(Stream.empty());
+
+        ticketRepositoryCustom.streamByFilter(filter, 500);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(queryCaptor.capture(), eq(Ticket.class));
+        Query query = queryCaptor.getValue();
+        assertThat(query.getMeta().getCursorBatchSize()).isEqualTo(500);
+        assertThat(query.getQueryObject().get("customerExternalId")).isEqualTo("customer123");
+        assertThat(query.getSortObject().keySet()).containsExactly("createdAt", "id");
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Ticket.class));
+    }
+
+    @Test
+    void findSummaryPage_ProjectsScalarFieldsAndStoredCountersOnly() {
+        when(mongoTemplate.getCollectionName(Ticket.class)).thenReturn("tickets");
+        when(mongoTemplate.find(any(Query.class), eq(TicketSummary.class), eq("tickets"))).thenReturn(List.of());
+
+        ticketRepositoryCustom.findSummaryPage(new TicketFilter(), TicketSortField.CREATED_AT, null, 10);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(TicketSummary.class), eq("tickets"));
+        Document fields = queryCaptor.getValue().getFieldsObject();
+        assertThat(fields).containsKeys("title", "status", "priority", "createdAt", "commentCount", "eventCount");
+        assertThat(fields).doesNotContainKeys("comments", "events", "description");
+        assertThat(queryCaptor.getValue().getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void findChangedSince_WithWatermark_ReadsAscendingKeysetUpToBoundAsSummaries() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        LocalDateTime until = updatedAt.plusHours(1);
+        TicketChangeWatermark after = new TicketChangeWatermark(updatedAt, "65f000000000000000000001");
+        when(mongoTemplate.getCollectionName(Ticket.class)).thenReturn("tickets");
+        when(mongoTemplate.find(any(Query.class), eq(TicketSummary.class), eq("tickets"))).thenReturn(List.of());
+
+        ticketRepositoryCustom.findChangedSince("customer123", after, until, 51);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(TicketSummary.class), eq("tickets"));
+        Query query = queryCaptor.getValue();
+        Document queryObject = query.getQueryObject();
+        assertThat(queryObject).containsEntry("customerExternalId", "customer123");
+        assertThat(queryObject.get("updatedAt", Document.class)).containsEntry("$lte", until);
+        List<Document> keyset = queryObject.getList("$or", Document.class);
+        assertThat(keyset.get(0).get("updatedAt", Document.class)).containsEntry("$gt", updatedAt);
+        assertThat(keyset.get(1)).containsEntry("updatedAt", updatedAt);
+        assertThat(keyset.get(1).get("id", Document.class)).containsEntry("$gt", after.getId());
+        assertThat(query.getSortObject()).containsExactly(entry("updatedAt", 1), entry("id", 1));
+        assertThat(query.getLimit()).isEqualTo(51);
+        assertThat(query.getFieldsObject()).containsKeys("status", "updatedAt")
+                .doesNotContainKeys("comments", "events", "description");
+    }
+
+    @Test
+    void findChangedSince_FirstSync_HasNoKeysetOrCustomerCriteria() {
+        LocalDateTime until = LocalDateTime.of(2024, 5, 1, 10, 0);
+        when(mongoTemplate.getCollectionName(Ticket.class)).thenReturn("tickets");
+        when(mongoTemplate.find(any(Query.class), eq(TicketSummary.class), eq("tickets"))).thenReturn(List.of());
+
+        ticketRepositoryCustom.findChangedSince(null, null, until, 51);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(TicketSummary.class), eq("tickets"));
+        assertThat(queryCaptor.getValue().getQueryObject()).containsOnlyKeys("updatedAt");
+    }
+
+    @Test
+    void appendEvents_SpanningBucketBoundary_UpsertsEachBucketOnce() {
+        List<TicketEvent> events = List.of(
+                new TicketEvent(TicketEventType.STATUS_CHANGED, "first", "agent"),
+                new TicketEvent(TicketEventType.STATUS_CHANGED, "second", "agent"),
+                new TicketEvent(TicketEventType.CLOSED, "third", "agent"));
+
+        ticketRepositoryCustom.appendEvents("ticket123", 99, events);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).upsert(queryCaptor.capture(), updateCaptor.capture(), eq(TicketEventBucket.class));
+
+        assertThat(queryCaptor.getAllValues())
+                .extracting(query -> query.getQueryObject().get("bucket"))
+                .containsExactly(0, 1);
+        assertThat(queryCaptor.getAllValues())
+                .extracting(query -> query.getQueryObject().get("ticketId"))
+                .containsOnly("ticket123");
+        assertThat(updateCaptor.getAllValues())
+                .extracting(update -> update.getUpdateObject().get("$inc", Document.class).get("count"))
+                .containsExactly(2, 1);
+        assertThat(events).extracting(TicketEvent::getSeq).containsExactly(99, 100, 101);
+    }
+
+    @Test
+    void appendComments_EmptyList_WritesNothing() {
+        ticketRepositoryCustom.appendComments("ticket123", 1, List.of());
+
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(TicketCommentBucket.class));
+    }
+
+    @Test
+    void addComment_SingleFindAndModifyWithBoundedPushAndCounters() {
+        TicketComment comment = new TicketComment("hello", "agent");
+        TicketEvent event = new TicketEvent(TicketEventType.COMMENT_ADDED, "Comment added: hello", "agent");
+
+        ticketRepositoryCustom.addComment("ticket123", comment, event);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(queryCaptor.capture(), updateCaptor.capture(), optionsCaptor.capture(),
+                eq(Ticket.class));
+
+        assertThat(queryCaptor.getValue().getQueryObject().get("id")).isEqualTo("ticket123");
+        assertThat(optionsCaptor.getValue().isReturnNew()).isTrue();
+
+        Document update = updateCaptor.getValue().getUpdateObject();
+        Update.Modifiers commentsPush = (Update.Modifiers) update.get("$push", Document.class).get("comments");
+        assertThat(commentsPush.getModifiers())
+                .extracting(Update.Modifier::getKey, Update.Modifier::getValue)
+                .contains(tuple("$slice", -TicketHistory.RECENT_ENTRIES));
+        assertThat(update.get("$push", Document.class)).containsKey("events");
+        assertThat(update.get("$inc", Document.class)).containsEntry("commentCount", 1).containsEntry("eventCount", 1)
+                .containsEntry("version", 1);
+        assertThat(update.get("$currentDate", Document.class)).containsKey("updatedAt");
+    }
+
+    @Test
+    void changeStatus_MatchesOnlyAllowedFromStatusesAndAppendsInPipeline() {
+        ticketRepositoryCustom.changeStatus("ticket123", List.of(TicketStatus.OPEN, TicketStatus.IN_PROGRESS),
+                TicketStatus.RESOLVED, "agent", List.of());
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).findAndModify(queryCaptor.capture(), updateCaptor.capture(),
+                any(FindAndModifyOptions.class), eq(Ticket.class));
+
+        Document statusCriteria = queryCaptor.getValue().getQueryObject().get("status", Document.class);
+        assertThat(statusCriteria.getList("$in", Object.class)).containsExactly(TicketStatus.OPEN, TicketStatus.IN_PROGRESS);
+
+        List<Document> pipeline = updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        Document set = pipeline.get(0).get("$set", Document.class);
+        assertThat(set).containsEntry("status", "RESOLVED").containsEntry("updatedAt", "$$NOW");
+        assertThat(set).containsKeys("events", "eventCount", "version");
+
+        Document concatArrays = (Document) set.get("events", Document.class).getList("$slice", Object.class).get(0);
+        List<?> newEvents = (List<?>) concatArrays.getList("$concatArrays", Object.class).get(1);
+        assertThat((Document) newEvents.get(0))
+                .containsEntry("fromStatus", "$status")
+                .containsEntry("toStatus", "RESOLVED");
+
+        assertThat(set).containsEntry("statusChangedAt", "$$NOW");
+        assertThat(set.get("resolvedAt", Document.class)).containsKey("$cond");
+        assertThat(set).containsKeys("timeInStatusMillis.OPEN", "timeInStatusMillis.IN_PROGRESS")
+                .doesNotContainKey("timeInStatusMillis.RESOLVED");
+        List<Object> openDuration = set.get("timeInStatusMillis.OPEN", Document.class).getList("$cond", Object.class);
+        assertThat(openDuration.get(0)).isEqualTo(new Document("$eq", List.of("$status", "OPEN")));
+        assertThat(openDuration.get(2)).isEqualTo("$timeInStatusMillis.OPEN");
+    }
+
+    @Test
+    void changeStatus_ToUnresolvedStatus_ClearsResolvedAt() {
+        ticketRepositoryCustom.changeStatus("ticket123", List.of(TicketStatus.RESOLVED), TicketStatus.OPEN, "agent",
+                List.of());
+
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), updateCaptor.capture(),
+                any(FindAndModifyOptions.class), eq(Ticket.class));
+
+        Document set = updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(0).get("$set", Document.class);
+        assertThat(set).containsEntry("resolvedAt", "$$REMOVE").containsKey("timeInStatusMillis.RESOLVED");
+    }
+
+    @Test
+    void changeStatuses_UpdatesAllSelectedTicketsInOneUpdateManyWithFixedTimestamp() {
+        LocalDateTime changedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        Date changedAtDate = new Date();
+        MongoConverter converter = mock(MongoConverter.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(converter.convertToMongoType(changedAt)).thenReturn(changedAtDate);
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(Ticket.class)))
+                .thenReturn(UpdateResult.acknowledged(3, 2L, null));
+
+        long changed = ticketRepositoryCustom.changeStatuses(List.of("t1", "t2", "t3"),
+                List.of(TicketStatus.OPEN, TicketStatus.IN_PROGRESS), TicketStatus.RESOLVED, "agent", changedAt, List.of());
+
+        assertThat(changed).isEqualTo(2);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(Ticket.class));
+        Document queryObject = queryCaptor.getValue().getQueryObject();
+        assertThat(queryObject.get("id", Document.class).getList("$in", Object.class)).containsExactly("t1", "t2", "t3");
+        assertThat(queryObject.get("status", Document.class).getList("$in", Object.class))
+                .containsExactly(TicketStatus.OPEN, TicketStatus.IN_PROGRESS);
+        assertThat(queryObject).containsKeys("commentCount", "eventCount");
+
+        Document set = updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(0).get("$set", Document.class);
+        Document now = new Document("$literal", changedAtDate);
+        assertThat(set).containsEntry("status", "RESOLVED")
+                .containsEntry("statusChangedAt", now)
+                .containsEntry("updatedAt", now);
+        Document concatArrays = (Document) set.get("events", Document.class).getList("$slice", Object.class).get(0);
+        List<?> newEvents = (List<?>) concatArrays.getList("$concatArrays", Object.class).get(1);
+        assertThat((Document) newEvents.get(0))
+                .containsEntry("fromStatus", "$status")
+                .containsEntry("timestamp", now);
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(AggregationUpdate.class),
+                any(FindAndModifyOptions.class), eq(Ticket.class));
+    }
+
+    @Test
+    void streamStatusChanges_MatchesTheBulkStatusEventById() {
+        LocalDateTime changedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        when(mongoTemplate.stream(any(Query.class), eq(Ticket.class))).thenReturn(Stream.empty());
+
+        ticketRepositoryCustom.streamStatusChanges(List.of("t1", "t2"), TicketStatus.CLOSED, "agent", changedAt, 500);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(queryCaptor.capture(), eq(Ticket.class));
+        Document elemMatch = queryCaptor.getValue().getQueryObject().get("events", Document.class)
+                .get("$elemMatch", Document.class);
+        assertThat(elemMatch)
+                .containsEntry("eventType", TicketEventType.STATUS_CHANGED)
+                .containsEntry("toStatus", TicketStatus.CLOSED)
+                .containsEntry("performedBy", "agent")
+                .containsEntry("timestamp", changedAt);
+        assertThat(queryCaptor.getValue().getFieldsObject()).containsKeys("events", "eventCount", "priority")
+                .doesNotContainKeys("comments", "description");
+    }
+
+    @Test
+    void claimOutbox_ClaimsAvailableEntriesAndReadsBackOnlyThisClaim() {
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+        LocalDateTime leaseUntil = now.plusSeconds(30);
+        Ticket claimed = Ticket.builder().id("t1").customerExternalId("customer123").build();
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class)))
+                .thenReturn(List.of(Ticket.builder().id("t1").build(), Ticket.builder().id("t2").build()))
+                .thenReturn(List.of(claimed));
+
+        List<Ticket> result = ticketRepositoryCustom.claimOutbox("claim-1", now, leaseUntil, 500);
+
+        assertThat(result).containsExactly(claimed);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queryCaptor.capture(), eq(Ticket.class));
+        Query candidates = queryCaptor.getAllValues().get(0);
+        assertThat(candidates.getQueryObject().get("outbox.availableAt", Document.class)).containsEntry("$lte", now);
+        assertThat(candidates.getLimit()).isEqualTo(500);
+        assertThat(queryCaptor.getAllValues().get(1).getQueryObject()).containsEntry("outbox.claimToken", "claim-1");
+
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(Ticket.class));
+        assertThat(queryCaptor.getValue().getQueryObject().get("outbox.availableAt", Document.class))
+                .containsEntry("$lte", now);
+        Document update = updateCaptor.getValue().getUpdateObject();
+        assertThat(update.get("$set", Document.class))
+                .containsEntry("outbox.claimToken", "claim-1")
+                .containsEntry("outbox.availableAt", leaseUntil);
+        assertThat(update.get("$inc", Document.class)).containsEntry("outbox.attempts", 1);
+    }
+
+    @Test
+    void claimOutbox_NothingAvailable_SkipsClaimUpdate() {
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of());
+
+        List<Ticket> result = ticketRepositoryCustom.claimOutbox("claim-1", LocalDateTime.now(),
+                LocalDateTime.now().plusSeconds(30), 500);
+
+        assertThat(result).isEmpty();
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(Ticket.class));
+    }
+
+    @Test
+    void ackOutbox_MarksClaimedTicketsSyncedAndRemovesOutboxInOneUpdateMany() {
+        LocalDateTime ackedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        Date ackedAtDate = new Date();
+        MongoConverter converter = mock(MongoConverter.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(converter.convertToMongoType(ackedAt)).thenReturn(ackedAtDate);
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(Ticket.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        long acked = ticketRepositoryCustom.ackOutbox(List.of("t1", "t2"), "claim-1", ackedAt);
+
+        assertThat(acked).isEqualTo(2);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(Ticket.class));
+        assertThat(queryCaptor.getValue().getQueryObject()).containsEntry("outbox.claimToken", "claim-1");
+
+        List<Document> pipeline = updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        Document set = pipeline.get(0).get("$set", Document.class);
+        assertThat(set).containsEntry("updatedAt", new Document("$literal", ackedAtDate));
+        assertThat(set.get("syncStatus", Document.class).getList("$cond", Object.class))
+                .containsSequence("SYNCED", "FAILED");
+        Document concatArrays = (Document) set.get("events", Document.class).getList("$slice", Object.class).get(0);
+        List<?> newEvents = (List<?>) concatArrays.getList("$concatArrays", Object.class).get(1);
+        assertThat((Document) newEvents.get(0)).containsEntry("performedBy", "$customerExternalId");
+        assertThat(pipeline.get(1)).containsEntry("$unset", "outbox");
+    }
+
+    @Test
+    void markSynced_OnlyTouchesPendingTicketsWithoutOutbox() {
+        LocalDateTime syncedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        MongoConverter converter = mock(MongoConverter.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(converter.convertToMongoType(syncedAt)).thenReturn(new Date());
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(Ticket.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        long synced = ticketRepositoryCustom.markSynced(List.of("t1"), syncedAt);
+
+        assertThat(synced).isEqualTo(1);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), any(AggregationUpdate.class), eq(Ticket.class));
+        Document queryObject = queryCaptor.getValue().getQueryObject();
+        assertThat(queryObject).containsEntry("syncStatus", SyncStatus.PENDING);
+        assertThat(queryObject.get("outbox", Document.class)).containsEntry("$exists", false);
+    }
+
+    @Test
+    void recordSyncFailure_AccumulatesDeltaAndKeepsPendingTicketsPending() {
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(Ticket.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        long recorded = ticketRepositoryCustom.recordSyncFailure(List.of("t1", "t2"), -1);
+
+        assertThat(recorded).isEqualTo(2);
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), updateCaptor.capture(), eq(Ticket.class));
+        Document set = updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(0).get("$set", Document.class);
+        assertThat(set.get("pendingOpenTicketDelta", Document.class).getList("$add", Object.class)).endsWith(-1);
+        assertThat(set.get("syncStatus", Document.class).getList("$cond", Object.class))
+                .containsSequence("PENDING", "FAILED");
+    }
+
+    @Test
+    void markRecovered_SubtractsAppliedDeltaAndSettlesOnlyAtZero() {
+        TicketEvent recovered = new TicketEvent(TicketEventType.STATUS_CHANGED,
+                TicketEventDescriptions.TICKET_COUNT_DECREMENTED_RECOVERED, "customer123");
+        MongoConverter converter = mock(MongoConverter.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(converter.convertToMongoType(recovered)).thenReturn(new Document("description",
+                TicketEventDescriptions.TICKET_COUNT_DECREMENTED_RECOVERED));
+        Ticket updated = Ticket.builder().id("t1").eventCount(4).build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(AggregationUpdate.class),
+                any(FindAndModifyOptions.class), eq(Ticket.class))).thenReturn(updated);
+
+        Ticket result = ticketRepositoryCustom.markRecovered("t1", -1, recovered);
+
+        assertThat(result).isSameAs(updated);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).findAndModify(queryCaptor.capture(), updateCaptor.capture(),
+                any(FindAndModifyOptions.class), eq(Ticket.class));
+        assertThat(queryCaptor.getValue().getQueryObject().get("outbox", Document.class))
+                .containsEntry("$exists", false);
+
+        List<Document> pipeline = updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        Document remaining = pipeline.get(0).get("$set", Document.class);
+        assertThat(remaining.get("pendingOpenTicketDelta", Document.class).getList("$subtract", Object.class))
+                .endsWith(-1);
+        Document set = pipeline.get(1).get("$set", Document.class);
+        assertThat(set.get("syncStatus", Document.class).getList("$cond", Object.class))
+                .containsSequence("SYNCED", "FAILED");
+        assertThat(set.get("pendingOpenTicketDelta", Document.class).getList("$cond", Object.class))
+                .contains("$$REMOVE");
+        assertThat(set).containsKeys("events", "eventCount");
+    }
+
+    @Test
+    void appendSyncHistory_AppendsTheSyncEventAtItsSequence() {
+        LocalDateTime syncedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        TicketEvent synced = new TicketEvent(TicketEventType.STATUS_CHANGED,
+                TicketEventDescriptions.TICKET_COUNT_INCREMENTED, "customer123");
+        synced.setTimestamp(syncedAt);
+        TicketEvent later = new TicketEvent(TicketEventType.COMMENT_ADDED, "Comment added", "agent");
+        Ticket ticket = Ticket.builder().id("t1").eventCount(7)
+                .events(new ArrayList<>(List.of(synced, later))).build();
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of(ticket));
+        BulkOperations events = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketCommentBucket.class))
+                .thenReturn(mock(BulkOperations.class));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketEventBucket.class)).thenReturn(events);
+
+        ticketRepositoryCustom.appendSyncHistory(List.of("t1"), syncedAt);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Ticket.class));
+        assertThat(queryCaptor.getValue().getQueryObject().get("events", Document.class)
+                .get("$elemMatch", Document.class)).containsEntry("timestamp", syncedAt);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(events).upsert(queryCaptor.capture(), updateCaptor.capture());
+        assertThat(queryCaptor.getValue().getQueryObject()).containsEntry("ticketId", "t1")
+                .containsEntry("bucket", TicketRepositoryCustomImpl.bucketOf(6));
+        assertThat(updateCaptor.getValue().getUpdateObject().get("$inc", Document.class)).containsEntry("count", 1);
+        verify(events).execute();
+    }
+
+    @Test
+    void appendSyncHistory_SyncEventMissingFromEmbeddedEvents_SkipsTicket() {
+        LocalDateTime syncedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        TicketEvent created = new TicketEvent(TicketEventType.CREATED, "Ticket created", "customer123");
+        Ticket ticket = Ticket.builder().id("t1").eventCount(7).events(new ArrayList<>(List.of(created))).build();
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of(ticket));
+        BulkOperations events = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketCommentBucket.class))
+                .thenReturn(mock(BulkOperations.class));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TicketEventBucket.class)).thenReturn(events);
+
+        ticketRepositoryCustom.appendSyncHistory(List.of("t1"), syncedAt);
+
+        verify(events, never()).upsert(any(Query.class), any(Update.class));
+        verify(events, never()).execute();
+    }
+
+    @Test
+    void streamResolvedBefore_ProjectsOnlyResolutionFields() {
+        LocalDateTime before = LocalDateTime.of(2024, 6, 1, 0, 0);
+        when(mongoTemplate.stream(any(Query.class), eq(Ticket.class))).thenReturn(Stream.empty());
+
+        ticketRepositoryCustom.streamResolvedBefore(before, 500);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(queryCaptor.capture(), eq(Ticket.class));
+        assertThat(queryCaptor.getValue().getQueryObject().get("resolvedAt", Document.class)).containsEntry("$lt", before);
+        assertThat(queryCaptor.getValue().getFieldsObject()).containsOnlyKeys("priority", "createdAt", "resolvedAt");
+    }
+
+    @Test
+    void findComments_AcrossBuckets_ReadsOnlyCoveringBucketsAndSlicesRange() {
+        List<TicketComment> firstBucketEntries = new ArrayList<>();
+        List<TicketComment> secondBucketEntries = new ArrayList<>();
+        for (int i = 1; i <= TicketHistory.BUCKET_SIZE; i++) {
+            firstBucketEntries.add(new TicketComment("comment " + i, "agent"));
+            secondBucketEntries.add(new TicketComment("comment " + (TicketHistory.BUCKET_SIZE + i), "agent"));
+        }
+        when(mongoTemplate.find(any(Query.class), eq(TicketCommentBucket.class))).thenReturn(List.of(
+                TicketCommentBucket.builder().ticketId("ticket123").bucket(0).entries(firstBucketEntries).build(),
+                TicketCommentBucket.builder().ticketId("ticket123").bucket(1).entries(secondBucketEntries).build()));
+
+        List<TicketComment> comments = ticketRepositoryCustom.findComments("ticket123", 99, 102);
+
+        assertThat(comments).extracting(TicketComment::getContent)
+                .containsExactly("comment 99", "comment 100", "comment 101", "comment 102");
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(TicketCommentBucket.class));
+        Document bucketRange = queryCaptor.getValue().getQueryObject().get("bucket", Document.class);
+        assertThat(bucketRange).containsEntry("$gte", 0).containsEntry("$lte", 1);
+        assertThat(queryCaptor.getValue().getSortObject()).containsEntry("bucket", 1);
+    }
+
+    @Test
+    void findComments_OutOfOrderPushesAndGap_ReturnsEntriesInSequenceOrder() {
+        List<TicketComment> entries = new ArrayList<>();
+        for (int seq : new int[]{2, 1, 5, 4}) {
+            TicketComment comment = new TicketComment("comment " + seq, "agent");
+            comment.setSeq(seq);
+            entries.add(comment);
+        }
+        when(mongoTemplate.find(any(Query.class), eq(TicketCommentBucket.class))).thenReturn(List.of(
+                TicketCommentBucket.builder().ticketId("ticket123").bucket(0).entries(entries).build()));
+
+        List<TicketComment> comments = ticketRepositoryCustom.findComments("ticket123", 1, 4);
+
+        assertThat(comments).extracting(TicketComment::getContent)
+                .containsExactly("comment 1", "comment 2", "comment 4");
+    }
+
+    @Test
+    void findVersionHeader_ProjectsOwnerAndVersionFieldsOnly() {
+        ticketRepositoryCustom.findVersionHeader("ticket123");
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(queryCaptor.capture(), eq(Ticket.class));
+        assertThat(queryCaptor.getValue().getQueryObject().get("id")).isEqualTo("ticket123");
+        assertThat(queryCaptor.getValue().getFieldsObject())
+                .containsOnlyKeys("customerExternalId", "version", "updatedAt");
+    }
+
+    @Test
+    void findHistoryHeader_ProjectsOwnerAndCountersOnly() {
+        ticketRepositoryCustom.findHistoryHeader("ticket123");
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(queryCaptor.capture(), eq(Ticket.class));
+        assertThat(queryCaptor.getValue().getFieldsObject())
+                .containsKeys("customerExternalId", "commentCount", "eventCount")
+                .doesNotContainKeys("comments", "events");
+    }
+
+    @Test
+    void searchPage_FullTicketTier_OrdersByScoreAndSkipsCommentMatches() {
+        ObjectId first = new ObjectId();
+        ObjectId second = new ObjectId();
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Ticket.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(new Document("_id", first).append("score", 2.5),
+                        new Document("_id", second).append("score", 1.5)), new Document()));
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of(
+                Ticket.builder().id(second.toHexString()).build(), Ticket.builder().id(first.toHexString()).build()));
+
+        List<TicketSearchHit> hits = ticketRepositoryCustom.searchPage("printer jam",
+                TicketFilter.builder().status(TicketStatus.OPEN).build(), null, 2).getHits();
+
+        assertThat(hits).extracting(hit -> hit.getTicket().getId(), TicketSearchHit::getMatch, TicketSearchHit::getScore)
+                .containsExactly(tuple(first.toHexString(), TicketSearchMatch.TICKET, 2.5),
+                        tuple(second.toHexString(), TicketSearchMatch.TICKET, 1.5));
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(Ticket.class), eq(Document.class));
+        List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertThat(pipeline.get(0).get("$match", Document.class).get("$text", Document.class).get("$search"))
+                .isEqualTo("printer jam");
+        assertThat(pipeline.get(1).get("$match", Document.class).get("status")).isEqualTo(TicketStatus.OPEN);
+        assertThat(pipeline.get(3).get("$sort", Document.class).keySet()).containsExactly("score", "_id");
+        assertThat(pipeline.get(4).get("$limit")).isEqualTo(2L);
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq(TicketCommentBucket.class),
+                eq(Document.class));
+    }
+
+    @Test
+    void searchPage_ShortTicketTier_FillsFromFilteredCommentOnlyMatches() {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Ticket.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(new Document("_id", "t1").append("score", 3.0)),
+                        new Document()));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(TicketCommentBucket.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(new Document("_id", "t1").append("score", 2.0),
+                        new Document("_id", "t2").append("score", 1.5),
+                        new Document("_id", "t3").append("score", 1.0)), new Document()));
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class)))
+                .thenReturn(List.of(Ticket.builder().id("t1").build()))
+                .thenReturn(List.of(Ticket.builder().id("t1").build(), Ticket.builder().id("t2").build()))
+                .thenReturn(List.of(Ticket.builder().id("t1").build()));
+
+        TicketSearchResult result = ticketRepositoryCustom.searchPage("printer jam",
+                TicketFilter.builder().status(TicketStatus.OPEN).build(), null, 3);
+        List<TicketSearchHit> hits = result.getHits();
+
+        assertThat(hits).extracting(hit -> hit.getTicket().getId(), TicketSearchHit::getMatch)
+                .containsExactly(tuple("t1", TicketSearchMatch.TICKET), tuple("t2", TicketSearchMatch.COMMENT));
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(3)).find(queries.capture(), eq(Ticket.class));
+        Query eligible = queries.getAllValues().get(1);
+        assertThat(eligible.getQueryObject().get("status")).isEqualTo(TicketStatus.OPEN);
+        assertThat(eligible.getQueryObject().get("id", Document.class).get("$in"))
+                .asInstanceOf(InstanceOfAssertFactories.collection(String.class))
+                .containsExactly("t1", "t2", "t3");
+        Query ticketMatches = queries.getAllValues().get(2);
+        assertThat(ticketMatches.getQueryObject()).containsKey("$text");
+        assertThat(ticketMatches.getFieldsObject()).containsOnlyKeys("id");
+        assertThat(result.getResumeAfter()).isNull();
+    }
+
+    @Test
+    void searchPage_CommentTierHitsCandidateCap_GroupsOnceAndResumesAfterLastScanned() {
+        List<Document> candidates = new ArrayList<>();
+        for (int i = 0; i < TicketPagination.SEARCH_MAX_CANDIDATES; i++) {
+            candidates.add(new Document("_id", "c" + i).append("score", 1.0));
+        }
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(TicketCommentBucket.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(candidates, new Document()));
+        when(mongoTemplate.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of());
+
+        TicketSearchResult result = ticketRepositoryCustom.searchPage("printer jam", new TicketFilter(),
+                new TicketSearchCursor(TicketSearchMatch.COMMENT, 1.5, "t2"), 11);
+
+        assertThat(result.getHits()).isEmpty();
+        assertThat(result.getResumeAfter()).isEqualTo(new TicketSearchCursor(TicketSearchMatch.COMMENT, 1.0,
+                "c" + (TicketPagination.SEARCH_MAX_CANDIDATES - 1)));
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(TicketCommentBucket.class), eq(Document.class));
+        List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertThat(pipeline.get(4).get("$limit")).isEqualTo((long) TicketPagination.SEARCH_MAX_CANDIDATES);
+        int batches = TicketPagination.SEARCH_MAX_CANDIDATES / TicketPagination.SEARCH_BATCH_SIZE;
+        verify(mongoTemplate, times(batches * 2)).find(any(Query.class), eq(Ticket.class));
+    }
+
+    @Test
+    void searchPage_CommentCursor_ResumesCommentTierAfterKeyset() {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(TicketCommentBucket.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        TicketSearchResult result = ticketRepositoryCustom.searchPage("printer jam", new TicketFilter(),
+                new TicketSearchCursor(TicketSearchMatch.COMMENT, 1.5, "t2"), 11);
+
+        assertThat(result.getHits()).isEmpty();
+        assertThat(result.getResumeAfter()).isNull();
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq(Ticket.class), eq(Document.class));
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(TicketCommentBucket.class), eq(Document.class));
+        List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertThat(pipeline.get(1).get("$group", Document.class).get("_id")).isEqualTo("$ticketId");
+        assertThat(pipeline.get(2).get("$match", Document.class).getList("$or", Document.class))
+                .containsExactly(new Document("score", new Document("$lt", 1.5)),
+                        new Document("score", 1.5).append("_id", new Document("$lt", "t2")));
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Ticket.class));
+    }
+
+    @Test
+    void findPage_ReadsFromSecondaryTemplate() {
+        MongoTemplate primary = mock(MongoTemplate.class);
+        MongoTemplate secondary = mock(MongoTemplate.class);
+        TicketRepositoryCustomImpl repository = new TicketRepositoryCustomImpl(primary, secondary);
+        when(secondary.find(any(Query.class), eq(Ticket.class))).thenReturn(List.of());
+
+        repository.findPage(new TicketFilter(), TicketSortField.CREATED_AT, null, 10);
+
+        verify(secondary).find(any(Query.class), eq(Ticket.class));
+        verify(primary, never()).find(any(Query.class), eq(Ticket.class));
+    }
+
+    @Test
+    void countByStatusAndPriority_RoutesByReadConsistency() {
+        MongoTemplate primary = mock(MongoTemplate.class);
+        MongoTemplate secondary = mock(MongoTemplate.class);
+        TicketRepositoryCustomImpl repository = new TicketRepositoryCustomImpl(primary, secondary);
+        AggregationResults<Document> empty = new AggregationResults<>(List.of(), new Document());
+        when(primary.aggregate(any(Aggregation.class), eq(Ticket.class), eq(Document.class))).thenReturn(empty);
+        when(secondary.aggregate(any(Aggregation.class), eq(Ticket.class), eq(Document.class))).thenReturn(empty);
+
+        repository.countByStatusAndPriority(new TicketFilter(), ReadConsistency.STALE_OK);
+        verify(secondary).aggregate(any(Aggregation.class), eq(Ticket.class), eq(Document.class));
+        verify(primary, never()).aggregate(any(Aggregation.class), eq(Ticket.class), eq(Document.class));
+
+        repository.countByStatusAndPriority(new TicketFilter(), ReadConsistency.PRIMARY);
+        verify(primary).aggregate(any(Aggregation.class), eq(Ticket.class), eq(Document.class));
+    }
+
+    @Test
+    void findChangedSince_StaysOnPrimaryTemplate() {
+        MongoTemplate primary = mock(MongoTemplate.class);
+        MongoTemplate secondary = mock(MongoTemplate.class);
+        TicketRepositoryCustomImpl repository = new TicketRepositoryCustomImpl(primary, secondary);
+        when(primary.getCollectionName(Ticket.class)).thenReturn("tickets");
+        when(primary.find(any(Query.class), eq(TicketSummary.class), eq("tickets"))).thenReturn(List.of());
+
+        repository.findChangedSince(null, null, LocalDateTime.of(2024, 5, 1, 10, 0), 10);
+
+        verify(primary).find(any(Query.class), eq(TicketSummary.class), eq("tickets"));
+        verify(secondary, never()).find(any(Query.class), eq(TicketSummary.class), any(String.class));
+    }
+}
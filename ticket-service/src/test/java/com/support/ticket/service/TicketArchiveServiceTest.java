@@ -0,0 +1,88 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketArchiveServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketCache ticketCache;
+
+    @InjectMocks
+    private TicketArchiveService ticketArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ticketArchiveService, "enabled", true);
+        ReflectionTestUtils.setField(ticketArchiveService, "closedFor", Duration.ofDays(90));
+        ReflectionTestUtils.setField(ticketArchiveService, "batchSize", 2);
+        ReflectionTestUtils.setField(ticketArchiveService, "maxBatchesPerRun", 5);
+        ReflectionTestUtils.setField(ticketArchiveService, "batchPause", Duration.ZERO);
+    }
+
+    @Test
+    void archiveClosedTickets_MovesBatchesUntilShortBatch() {
+        List<Ticket> fullBatch = List.of(ticket("t1"), ticket("t2"));
+        List<Ticket> lastBatch = List.of(ticket("t3"));
+        when(ticketRepository.findArchivable(any(LocalDateTime.class), eq(2)))
+                .thenReturn(fullBatch)
+                .thenReturn(lastBatch);
+        when(ticketRepository.archive(fullBatch)).thenReturn(2L);
+        when(ticketRepository.archive(lastBatch)).thenReturn(1L);
+
+        LocalDateTime before = LocalDateTime.now();
+        long archived = ticketArchiveService.archiveClosedTickets();
+
+        assertThat(archived).isEqualTo(3);
+        ArgumentCaptor<LocalDateTime> cutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(ticketRepository, times(2)).findArchivable(cutoffCaptor.capture(), eq(2));
+        assertThat(cutoffCaptor.getValue()).isBetween(before.minusDays(90), LocalDateTime.now().minusDays(90));
+        verify(ticketCache).invalidate("t1");
+        verify(ticketCache).invalidate("t2");
+        verify(ticketCache).invalidate("t3");
+    }
+
+    @Test
+    void archiveClosedTickets_StopsAfterMaxBatchesPerRun() {
+        when(ticketRepository.findArchivable(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(ticket("t1"), ticket("t2")));
+        when(ticketRepository.archive(anyList())).thenReturn(2L);
+
+        assertThat(ticketArchiveService.archiveClosedTickets()).isEqualTo(10);
+        verify(ticketRepository, times(5)).archive(anyList());
+    }
+
+    @Test
+    void archiveClosedTickets_Disabled_DoesNothing() {
+        ReflectionTestUtils.setField(ticketArchiveService, "enabled", false);
+
+        assertThat(ticketArchiveService.archiveClosedTickets()).isZero();
+        verifyNoInteractions(ticketRepository, ticketCache);
+    }
+
+    private static Ticket ticket(String id) {
+        return Ticket.builder().id(id).version(1L).build();
+    }
+}
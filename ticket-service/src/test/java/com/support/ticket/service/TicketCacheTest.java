@@ -0,0 +1,201 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketComment;
+import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.enums.TicketEventType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketCacheTest {
+
+    @Test
+    void get_SecondRead_IsHit() {
+        TicketCache cache = new TicketCache(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Optional<Ticket>> loader = id -> {
+            loads.incrementAndGet();
+            return Optional.of(ticket(id, 0));
+        };
+
+        Ticket first = cache.get("t1", loader).orElseThrow();
+        Ticket second = cache.get("t1", loader).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats().getHits()).isEqualTo(1);
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+        assertThat(cache.getStats().getWeight()).isEqualTo(1);
+    }
+
+    @Test
+    void get_MissingTicket_IsNotCached() {
+        TicketCache cache = new TicketCache(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("missing", id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get("missing", id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    void get_ExpiredEntry_IsReloaded() {
+        TicketCache cache = new TicketCache(100, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Optional<Ticket>> loader = id -> {
+            loads.incrementAndGet();
+            return Optional.of(ticket(id, 0));
+        };
+
+        cache.get("t1", loader);
+        cache.get("t1", loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void peek_ReturnsOnlyLoadedEntriesWithoutCountingLookups() {
+        TicketCache cache = new TicketCache(100, Duration.ofMinutes(1));
+
+        assertThat(cache.peek("t1")).isEmpty();
+        Ticket loaded = cache.get("t1", id -> Optional.of(ticket(id, 0))).orElseThrow();
+
+        assertThat(cache.peek("t1")).containsSame(loaded);
+        assertThat(cache.getStats().getHits()).isZero();
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_RemovesEntryAndWeight() {
+        TicketCache cache = new TicketCache(100, Duration.ofMinutes(1));
+        cache.get("t1", id -> Optional.of(ticket(id, 4)));
+
+        cache.invalidate("t1");
+
+        assertThat(cache.getStats().getSize()).isZero();
+        assertThat(cache.getStats().getWeight()).isZero();
+        assertThat(cache.getStats().getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void get_OverWeight_EvictsLeastRecentlyUsed() {
+        TicketCache cache = new TicketCache(10, Duration.ofMinutes(1));
+        cache.get("small-1", id -> Optional.of(ticket(id, 0)));
+        cache.get("small-2", id -> Optional.of(ticket(id, 0)));
+        cache.get("small-1", id -> Optional.of(ticket(id, 0)));
+
+        cache.get("large", id -> Optional.of(ticket(id, 8)));
+
+        AtomicInteger reloads = new AtomicInteger();
+        cache.get("small-1", id -> {
+            reloads.incrementAndGet();
+            return Optional.of(ticket(id, 0));
+        });
+        assertThat(reloads).hasValue(0);
+        assertThat(cache.getStats().getEvictions()).isEqualTo(1);
+        assertThat(cache.getStats().getWeight()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void get_TicketHeavierThanCache_IsNotCached() {
+        TicketCache cache = new TicketCache(5, Duration.ofMinutes(1));
+        cache.get("small", id -> Optional.of(ticket(id, 0)));
+
+        Optional<Ticket> giant = cache.get("giant", id -> Optional.of(ticket(id, 20)));
+
+        assertThat(giant).isPresent();
+        assertThat(cache.getStats().getSize()).isEqualTo(1);
+        assertThat(cache.getStats().getEvictions()).isZero();
+    }
+
+    @Test
+    void get_InvalidatedWhileLoading_DoesNotCacheStaleValue() {
+        TicketCache cache = new TicketCache(100, Duration.ofMinutes(1));
+
+        cache.get("t1", id -> {
+            cache.invalidate(id);
+            return Optional.of(ticket(id, 0));
+        });
+
+        assertThat(cache.getStats().getSize()).isZero();
+        assertThat(cache.getStats().getWeight()).isZero();
+    }
+
+    @Test
+    void get_LoaderFails_PropagatesAndDoesNotCache() {
+        TicketCache cache = new TicketCache(100, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> cache.get("t1", id -> {
+            throw new IllegalStateException("Mongo unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("t1", id -> Optional.of(ticket(id, 0)))).isPresent();
+    }
+
+    @Test
+    void get_ConcurrentMisses_ShareSingleLoad() throws Exception {
+        TicketCache cache = new TicketCache(100, Duration.ofMinutes(1));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Optional<Ticket>> loader = id -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(ticket(id, 0));
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<Ticket>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get("t1", loader)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Optional<Ticket>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    private static Ticket ticket(String id, int historyEntries) {
+        List<TicketComment> comments = new ArrayList<>();
+        List<TicketEvent> events = new ArrayList<>();
+        for (int i = 0; i < historyEntries; i++) {
+            if (i % 2 == 0) {
+                comments.add(new TicketComment("comment " + i, "agent"));
+            } else {
+                events.add(new TicketEvent(TicketEventType.COMMENT_ADDED, "event " + i, "agent"));
+            }
+        }
+        return Ticket.builder().id(id).title("t").description("d").comments(comments).events(events).build();
+    }
+}
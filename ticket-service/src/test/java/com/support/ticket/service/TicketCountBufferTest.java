@@ -0,0 +1,132 @@
+package com.support.ticket.service;
+
+import com.support.customer.service.interfaces.ICustomerService;
+import com.support.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketCountBufferTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private ICustomerService customerService;
+
+    @Mock
+    private TicketCache ticketCache;
+
+    @InjectMocks
+    private TicketCountBuffer ticketCountBuffer;
+
+    @Test
+    void flush_AppliesBufferedTicketsInOneBatchedIncrement() {
+        ticketCountBuffer.add("customer1", "t1");
+        ticketCountBuffer.add("customer1", "t2");
+        ticketCountBuffer.add("customer2", "t3");
+        when(ticketRepository.markSynced(anyCollection(), any(LocalDateTime.class))).thenReturn(3L);
+
+        int flushed = ticketCountBuffer.flush();
+
+        assertThat(flushed).isEqualTo(3);
+        verify(customerService).incrementOpenTicketCountsForTickets(
+                Map.of("t1", "customer1", "t2", "customer1", "t3", "customer2"));
+        ArgumentCaptor<LocalDateTime> syncedAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(ticketRepository).markSynced(eq(List.of("t1", "t2", "t3")), syncedAtCaptor.capture());
+        verify(ticketRepository).appendSyncHistory(List.of("t1", "t2", "t3"), syncedAtCaptor.getValue());
+        verify(ticketCache).invalidate("t2");
+
+        assertThat(ticketCountBuffer.flush()).isZero();
+        verify(customerService, times(1)).incrementOpenTicketCountsForTickets(any());
+    }
+
+    @Test
+    void flush_MarkSyncedFails_LeavesTicketsPendingForLedgerCheckedRecovery() {
+        ticketCountBuffer.add("customer1", "t1");
+        when(ticketRepository.markSynced(anyCollection(), any(LocalDateTime.class)))
+                .thenThrow(new RuntimeException("Mongo down"));
+
+        assertThatThrownBy(() -> ticketCountBuffer.flush()).hasMessage("Mongo down");
+
+        verify(customerService).incrementOpenTicketCountsForTickets(Map.of("t1", "customer1"));
+        verify(ticketRepository, never()).markSyncFailed(anyCollection());
+        assertThat(ticketCountBuffer.flush()).isZero();
+    }
+
+    @Test
+    void flush_IncrementFails_MarksBufferedTicketsForRecovery() {
+        ticketCountBuffer.add("customer1", "t1");
+        doThrow(new RuntimeException("MySQL down")).when(customerService).incrementOpenTicketCountsForTickets(any());
+
+        int flushed = ticketCountBuffer.flush();
+
+        assertThat(flushed).isZero();
+        verify(ticketRepository).markSyncFailed(List.of("t1"));
+        verify(ticketRepository, never()).markSynced(anyCollection(), any(LocalDateTime.class));
+
+        assertThat(ticketCountBuffer.flush()).isZero();
+        verify(customerService, times(1)).incrementOpenTicketCountsForTickets(any());
+    }
+
+    @Test
+    void flush_ConcurrentAdds_NoDeltaLostAcrossFlushes() throws Exception {
+        List<String> flushedIncrements = new ArrayList<>();
+        List<String> flushedTickets = new ArrayList<>();
+        doAnswer(invocation -> {
+            Map<String, String> customerByTicketId = invocation.getArgument(0);
+            flushedIncrements.addAll(customerByTicketId.keySet());
+            return customerByTicketId.size();
+        }).when(customerService).incrementOpenTicketCountsForTickets(any());
+        when(ticketRepository.markSynced(anyCollection(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            flushedTickets.addAll(ids);
+            return 0L;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                int offset = writer * 500;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        ticketCountBuffer.add("customer1", "t" + (offset + i));
+                    }
+                }));
+            }
+            while (writers.stream().anyMatch(future -> !future.isDone())) {
+                ticketCountBuffer.flush();
+            }
+            for (Future<?> future : writers) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        ticketCountBuffer.flush();
+
+        assertThat(flushedIncrements).hasSize(2000).doesNotHaveDuplicates();
+        assertThat(flushedTickets).hasSize(2000).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,90 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketStats;
+import com.support.ticket.model.TicketStatusPriorityCount;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.ReadConsistency;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketCounterServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @InjectMocks
+    private TicketCounterService ticketCounterService;
+
+    @Test
+    void checkDrift_FirstRun_SeedsCountersFromStoredCounts() {
+        when(ticketRepository.countByStatusAndPriority(any(TicketFilter.class), eq(ReadConsistency.PRIMARY))).thenReturn(List.of(
+                new TicketStatusPriorityCount(TicketStatus.OPEN, Priority.HIGH, 4),
+                new TicketStatusPriorityCount(TicketStatus.CLOSED, Priority.LOW, 6)));
+
+        assertThat(ticketCounterService.isSeeded()).isFalse();
+        ticketCounterService.checkDrift();
+
+        TicketStats counts = ticketCounterService.getCounts();
+        assertThat(ticketCounterService.isSeeded()).isTrue();
+        assertThat(counts.getTotal()).isEqualTo(10);
+        assertThat(counts.getByStatusAndPriority().get(TicketStatus.OPEN).get(Priority.HIGH)).isEqualTo(4);
+        assertThat(counts.getByStatusAndPriority().get(TicketStatus.CLOSED).get(Priority.LOW)).isEqualTo(6);
+    }
+
+    @Test
+    void recordCreatedAndTransition_MoveCountsBetweenCells() {
+        ticketCounterService.recordCreated(TicketStatus.OPEN, Priority.HIGH);
+        ticketCounterService.recordCreated(TicketStatus.OPEN, Priority.HIGH);
+        ticketCounterService.recordTransition(Priority.HIGH, TicketStatus.OPEN, TicketStatus.RESOLVED);
+        ticketCounterService.recordTransition(Priority.HIGH, TicketStatus.RESOLVED, TicketStatus.RESOLVED);
+
+        TicketStats counts = ticketCounterService.getCounts();
+        assertThat(counts.getTotal()).isEqualTo(2);
+        assertThat(counts.getByStatus().get(TicketStatus.OPEN)).isEqualTo(1);
+        assertThat(counts.getByStatus().get(TicketStatus.RESOLVED)).isEqualTo(1);
+        assertThat(counts.getByPriority().get(Priority.HIGH)).isEqualTo(2);
+    }
+
+    @Test
+    void checkDrift_AfterSeed_CorrectsOnlyConfirmedDrift() {
+        List<TicketStatusPriorityCount> stored = List.of(new TicketStatusPriorityCount(TicketStatus.OPEN, Priority.LOW, 3));
+        when(ticketRepository.countByStatusAndPriority(any(TicketFilter.class), eq(ReadConsistency.PRIMARY))).thenReturn(stored);
+        ticketCounterService.checkDrift();
+
+        ticketCounterService.recordCreated(TicketStatus.OPEN, Priority.LOW);
+        ticketCounterService.checkDrift();
+        assertThat(ticketCounterService.getCounts().getTotal()).isEqualTo(4);
+
+        ticketCounterService.checkDrift();
+        assertThat(ticketCounterService.getCounts().getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void checkDrift_TransientDifference_IsNotCorrected() {
+        when(ticketRepository.countByStatusAndPriority(any(TicketFilter.class), eq(ReadConsistency.PRIMARY)))
+                .thenReturn(List.of(new TicketStatusPriorityCount(TicketStatus.OPEN, Priority.LOW, 3)))
+                .thenReturn(List.of(new TicketStatusPriorityCount(TicketStatus.OPEN, Priority.LOW, 4)))
+                .thenReturn(List.of(new TicketStatusPriorityCount(TicketStatus.OPEN, Priority.LOW, 4)));
+        ticketCounterService.checkDrift();
+
+        ticketCounterService.checkDrift();
+        ticketCounterService.recordCreated(TicketStatus.OPEN, Priority.LOW);
+        ticketCounterService.checkDrift();
+
+        assertThat(ticketCounterService.getCounts().getTotal()).isEqualTo(4);
+    }
+}
@@ -1,26 +1,41 @@
 package com.support.ticket.service;
 
 import com.support.customer.service.interfaces.ICustomerService;
+import com.support.ticket.constants.TicketEventDescriptions;
 import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBatchItemResult;
 import com.support.ticket.model.TicketEvent;
 import com.support.ticket.model.enums.SyncStatus;
+import com.support.ticket.model.enums.TicketBatchItemStatus;
 import com.support.ticket.model.enums.TicketEventType;
 import com.support.ticket.model.enums.TicketStatus;
 import com.support.ticket.model.enums.Priority;
+import com.support.ticket.service.interfaces.ITicketCountBuffer;
+import com.support.ticket.service.interfaces.ITicketCounterService;
+import com.support.ticket.service.interfaces.ITicketFeedService;
+import com.support.ticket.service.interfaces.ITicketRollupService;
 import com.support.ticket.service.interfaces.ITicketService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +47,18 @@ class TicketCreationOrchestratorTest {
     @Mock
     private ICustomerService customerService;
 
+    @Mock
+    private ITicketCounterService ticketCounterService;
+
+    @Mock
+    private ITicketRollupService ticketRollupService;
+
+    @Mock
+    private ITicketFeedService ticketFeedService;
+
+    @Mock
+    private ITicketCountBuffer ticketCountBuffer;
+
     @InjectMocks
     private TicketCreationOrchestrator orchestrator;
 
@@ -56,12 +83,14 @@ class TicketCreationOrchestratorTest {
     void createTicket_Success() {
         when(ticketService.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.empty());
         when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
+        List<SyncStatus> savedStatuses = new ArrayList<>();
         when(ticketService.save(any(Ticket.class))).thenAnswer(invocation -> {
             Ticket saved = invocation.getArgument(0);
             saved.setId("ticket123");
+            savedStatuses.add(saved.getSyncStatus());
             return saved;
         });
-        doNothing().when(customerService).incrementOpenTicketCount(customerExternalId);
+        when(ticketService.markCustomerSynced("ticket123")).thenReturn(true);
 
         Ticket result = orchestrator.createTicket(ticket, idempotencyKey);
 
@@ -71,8 +100,16 @@ class TicketCreationOrchestratorTest {
         assertThat(result.getEvents().get(0).getEventType()).isEqualTo(TicketEventType.CREATED);
         verify(ticketService).findByIdempotencyKey(idempotencyKey);
         verify(customerService).existsByExternalId(customerExternalId);
-        verify(customerService).incrementOpenTicketCount(customerExternalId);
-        verify(ticketService, atLeast(2)).save(any(Ticket.class));
+        InOrder inOrder = inOrder(ticketService, customerService);
+        inOrder.verify(ticketService).save(ticket);
+        inOrder.verify(customerService).incrementOpenTicketCountsForTickets(Map.of("ticket123", customerExternalId));
+        inOrder.verify(ticketService).markCustomerSynced("ticket123");
+        assertThat(savedStatuses).containsExactly(SyncStatus.PENDING);
+        verify(customerService, never()).incrementOpenTicketCount(anyString());
+        verify(ticketCounterService).recordCreated(TicketStatus.OPEN, Priority.MEDIUM);
+        verify(ticketRollupService).recordCreated(Priority.MEDIUM, result.getCreatedAt());
+        verify(ticketFeedService).publish(argThat(event -> event.getEventType() == TicketEventType.CREATED
+                && customerExternalId.equals(event.getCustomerExternalId())));
     }
 
     @Test
@@ -116,7 +153,7 @@ class TicketCreationOrchestratorTest {
             saved.setId("ticket123");
             return saved;
         });
-        doNothing().when(customerService).incrementOpenTicketCount(customerExternalId);
+        when(ticketService.markCustomerSynced("ticket123")).thenReturn(true);
 
         Ticket result = orchestrator.createTicket(ticket, null);
 
@@ -135,14 +172,34 @@ class TicketCreationOrchestratorTest {
             return saved;
         });
         doThrow(new RuntimeException("MySQL connection failed"))
-                .when(customerService).incrementOpenTicketCount(customerExternalId);
+                .when(customerService).incrementOpenTicketCountsForTickets(Map.of("ticket123", customerExternalId));
 
         assertThatThrownBy(() -> orchestrator.createTicket(ticket, idempotencyKey))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Failed to complete ticket creation");
 
-        verify(ticketService, atLeastOnce()).save(argThat(t -> 
-            t.getSyncStatus() == SyncStatus.FAILED));
+        verify(ticketService).markCustomerSyncFailed("ticket123");
+        verify(ticketService, never()).markCustomerSynced(anyString());
+        verify(ticketService, times(1)).save(any(Ticket.class));
+        assertThat(ticket.getSyncStatus()).isEqualTo(SyncStatus.FAILED);
+    }
+
+    @Test
+    void createTicket_TicketSettledConcurrently_DoesNotOverwriteIt() {
+        when(ticketService.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.empty());
+        when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
+        when(ticketService.save(any(Ticket.class))).thenAnswer(invocation -> {
+            Ticket saved = invocation.getArgument(0);
+            saved.setId("ticket123");
+            return saved;
+        });
+        when(ticketService.markCustomerSynced("ticket123")).thenReturn(false);
+
+        Ticket result = orchestrator.createTicket(ticket, idempotencyKey);
+
+        assertThat(result.getSyncStatus()).isEqualTo(SyncStatus.PENDING);
+        assertThat(result.getEvents()).hasSize(1);
+        verify(ticketService, times(1)).save(any(Ticket.class));
     }
 
     @Test
@@ -154,15 +211,112 @@ class TicketCreationOrchestratorTest {
                 .build();
 
         when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
-        when(ticketService.save(any(Ticket.class))).thenReturn(failedTicket);
-        doNothing().when(customerService).incrementOpenTicketCount(customerExternalId);
+        when(ticketService.markRecovered(eq("ticket123"), eq(1), any(TicketEvent.class)))
+                .thenReturn(Optional.of(failedTicket));
 
         orchestrator.recoverTicket(failedTicket);
 
-        assertThat(failedTicket.getSyncStatus()).isEqualTo(SyncStatus.SYNCED);
         verify(customerService).existsByExternalId(customerExternalId);
-        verify(customerService).incrementOpenTicketCount(customerExternalId);
-        verify(ticketService).save(failedTicket);
+        verify(customerService).incrementOpenTicketCounts(Map.of(customerExternalId, 1));
+        verify(ticketService).markRecovered(eq("ticket123"), eq(1),
+                argThat(event -> TicketEventDescriptions.TICKET_COUNT_INCREMENTED_RECOVERED.equals(event.getDescription())));
+        verify(ticketService, never()).save(any(Ticket.class));
+    }
+
+    @Test
+    void recoverTicket_PendingCloseDelta_AppliesNetDecrement() {
+        Ticket failedTicket = Ticket.builder()
+                .id("ticket123")
+                .customerExternalId(customerExternalId)
+                .status(TicketStatus.CLOSED)
+                .syncStatus(SyncStatus.FAILED)
+                .pendingOpenTicketDelta(-1)
+                .build();
+
+        when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
+        when(ticketService.markRecovered(eq("ticket123"), eq(-1), any(TicketEvent.class)))
+                .thenReturn(Optional.of(failedTicket));
+
+        orchestrator.recoverTicket(failedTicket);
+
+        verify(customerService).incrementOpenTicketCounts(Map.of(customerExternalId, -1));
+        verify(ticketService).markRecovered(eq("ticket123"), eq(-1),
+                argThat(event -> TicketEventDescriptions.TICKET_COUNT_DECREMENTED_RECOVERED.equals(event.getDescription())));
+    }
+
+    @Test
+    void recoverTicket_CreationAndCloseBothUnapplied_SettlesWithoutCustomerUpdate() {
+        Ticket failedTicket = Ticket.builder()
+                .id("ticket123")
+                .customerExternalId(customerExternalId)
+                .status(TicketStatus.CANCELLED)
+                .syncStatus(SyncStatus.FAILED)
+                .pendingOpenTicketDelta(0)
+                .build();
+
+        when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
+        when(ticketService.markRecovered("ticket123", 0, null)).thenReturn(Optional.of(failedTicket));
+
+        orchestrator.recoverTicket(failedTicket);
+
+        verify(customerService, never()).incrementOpenTicketCounts(any());
+        verify(ticketService).markRecovered("ticket123", 0, null);
+    }
+
+    @Test
+    void recoverTicket_StalePending_AppliesCreationPlusPendingTransitions() {
+        Ticket pendingTicket = Ticket.builder()
+                .id("ticket123")
+                .customerExternalId(customerExternalId)
+                .syncStatus(SyncStatus.PENDING)
+                .build();
+
+        when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
+        when(ticketService.markRecovered(eq("ticket123"), eq(1), any(TicketEvent.class)))
+                .thenReturn(Optional.of(pendingTicket));
+
+        orchestrator.recoverTicket(pendingTicket);
+
+        verify(customerService).incrementOpenTicketCountsForTickets(Map.of("ticket123", customerExternalId));
+        verify(customerService, never()).incrementOpenTicketCounts(any());
+    }
+
+    @Test
+    void recoverTicket_StalePendingWithClose_SettlesCreationThroughLedgerThenAppliesTransition() {
+        Ticket pendingTicket = Ticket.builder()
+                .id("ticket123")
+                .customerExternalId(customerExternalId)
+                .status(TicketStatus.CLOSED)
+                .syncStatus(SyncStatus.PENDING)
+                .pendingOpenTicketDelta(-1)
+                .build();
+
+        when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
+        when(ticketService.markRecovered("ticket123", 0, null)).thenReturn(Optional.of(pendingTicket));
+
+        orchestrator.recoverTicket(pendingTicket);
+
+        InOrder inOrder = inOrder(customerService);
+        inOrder.verify(customerService).incrementOpenTicketCountsForTickets(Map.of("ticket123", customerExternalId));
+        inOrder.verify(customerService).incrementOpenTicketCounts(Map.of(customerExternalId, -1));
+        verify(ticketService).markRecovered("ticket123", 0, null);
+    }
+
+    @Test
+    void recoverTicket_IncrementFails_LeavesTicketForNextRun() {
+        Ticket failedTicket = Ticket.builder()
+                .id("ticket123")
+                .customerExternalId(customerExternalId)
+                .syncStatus(SyncStatus.FAILED)
+                .build();
+
+        when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
+        doThrow(new RuntimeException("MySQL down")).when(customerService).incrementOpenTicketCounts(any());
+
+        orchestrator.recoverTicket(failedTicket);
+
+        verify(ticketService, never()).markRecovered(anyString(), anyInt(), any());
+        verify(ticketService, never()).save(any(Ticket.class));
     }
 
     @Test
@@ -181,5 +335,185 @@ class TicketCreationOrchestratorTest {
         verify(customerService, never()).incrementOpenTicketCount(anyString());
         verify(ticketService, never()).save(any(Ticket.class));
     }
-}
 
+    @Test
+    void createTickets_GroupsLookupsAndIncrementsAndReportsPerItem() {
+        Ticket existing = Ticket.builder().id("existing1").idempotencyKey("key-4").customerExternalId(customerExternalId).build();
+        List<Ticket> tickets = List.of(
+                batchTicket("key-1", customerExternalId),
+                batchTicket("key-2", customerExternalId),
+                batchTicket("key-3", "unknown-customer"),
+                batchTicket("key-4", customerExternalId),
+                batchTicket("key-1", customerExternalId));
+        when(ticketService.findByIdempotencyKeys(any())).thenReturn(Map.of("key-4", existing));
+        when(customerService.findExistingExternalIds(any())).thenReturn(Set.of(customerExternalId));
+        when(ticketService.insertAll(any())).thenAnswer(invocation -> {
+            List<Ticket> inserted = invocation.getArgument(0);
+            for (int i = 0; i < inserted.size(); i++) {
+                inserted.get(i).setId("batch" + i);
+            }
+            return Map.of();
+        });
+
+        List<TicketBatchItemResult> results = orchestrator.createTickets(tickets);
+
+        assertThat(results).extracting(TicketBatchItemResult::getStatus).containsExactly(
+                TicketBatchItemStatus.CREATED, TicketBatchItemStatus.CREATED, TicketBatchItemStatus.REJECTED,
+                TicketBatchItemStatus.DUPLICATE, TicketBatchItemStatus.DUPLICATE);
+        assertThat(results.get(2).getError()).contains("unknown-customer");
+        assertThat(results.get(3).getTicket()).isSameAs(existing);
+        assertThat(results.get(4).getTicket()).isSameAs(results.get(0).getTicket());
+        assertThat(results.get(0).getTicket().getSyncStatus()).isEqualTo(SyncStatus.SYNCED);
+        assertThat(results.get(0).getTicket().getEvents()).extracting(TicketEvent::getEventType)
+                .containsExactly(TicketEventType.CREATED, TicketEventType.STATUS_CHANGED);
+
+        verify(ticketService, times(1)).findByIdempotencyKeys(any());
+        verify(customerService, times(1)).findExistingExternalIds(Set.of(customerExternalId, "unknown-customer"));
+        verify(ticketService).insertAll(argThat(inserted -> inserted.size() == 2));
+        verify(customerService).incrementOpenTicketCountsForTickets(
+                Map.of("batch0", customerExternalId, "batch1", customerExternalId));
+        verify(customerService, never()).incrementOpenTicketCounts(any());
+        verify(ticketService).saveAll(argThat(saved -> saved.size() == 2));
+        verify(ticketCounterService, times(2)).recordCreated(TicketStatus.OPEN, Priority.MEDIUM);
+        verify(ticketFeedService, times(2)).publish(any());
+        verify(customerService, never()).existsByExternalId(anyString());
+        verify(customerService, never()).incrementOpenTicketCount(anyString());
+        verify(ticketService, never()).save(any(Ticket.class));
+    }
+
+    @Test
+    void createTickets_IncrementFails_LeavesCreatedTicketsForRecovery() {
+        List<Ticket> tickets = List.of(batchTicket("key-1", customerExternalId));
+        when(ticketService.findByIdempotencyKeys(any())).thenReturn(Map.of());
+        when(customerService.findExistingExternalIds(any())).thenReturn(Set.of(customerExternalId));
+        when(ticketService.insertAll(any())).thenAnswer(invocation -> {
+            List<Ticket> inserted = invocation.getArgument(0);
+            for (int i = 0; i < inserted.size(); i++) {
+                inserted.get(i).setId("batch" + i);
+            }
+            return Map.of();
+        });
+        doThrow(new RuntimeException("MySQL down")).when(customerService).incrementOpenTicketCountsForTickets(any());
+
+        List<TicketBatchItemResult> results = orchestrator.createTickets(tickets);
+
+        assertThat(results.get(0).getStatus()).isEqualTo(TicketBatchItemStatus.CREATED);
+        assertThat(results.get(0).getTicket().getSyncStatus()).isEqualTo(SyncStatus.FAILED);
+        verify(ticketService).saveAll(List.of(tickets.get(0)));
+    }
+
+    @Test
+    void createTickets_InsertFailures_ReportRacedDuplicatesAndFailures() {
+        Ticket raced = Ticket.builder().id("raced1").idempotencyKey("key-1").customerExternalId(customerExternalId).build();
+        List<Ticket> tickets = List.of(
+                batchTicket("key-1", customerExternalId),
+                batchTicket("key-2", customerExternalId),
+                batchTicket("key-3", customerExternalId));
+        when(ticketService.findByIdempotencyKeys(any())).thenReturn(Map.of()).thenReturn(Map.of("key-1", raced));
+        when(customerService.findExistingExternalIds(any())).thenReturn(Set.of(customerExternalId));
+        when(ticketService.insertAll(any())).thenAnswer(invocation -> {
+            List<Ticket> inserted = invocation.getArgument(0);
+            inserted.get(2).setId("batch2");
+            return Map.of(0, "E11000 duplicate key", 1, "write failed");
+        });
+
+        List<TicketBatchItemResult> results = orchestrator.createTickets(tickets);
+
+        assertThat(results).extracting(TicketBatchItemResult::getStatus).containsExactly(
+                TicketBatchItemStatus.DUPLICATE, TicketBatchItemStatus.FAILED, TicketBatchItemStatus.CREATED);
+        assertThat(results.get(0).getTicket()).isSameAs(raced);
+        assertThat(results.get(1).getError()).isEqualTo("write failed");
+        verify(customerService).incrementOpenTicketCountsForTickets(Map.of("batch2", customerExternalId));
+    }
+
+    @Test
+    void createTicket_OutboxEnabled_SavesOutboxEntryAndSkipsIncrement() {
+        ReflectionTestUtils.setField(orchestrator, "outboxEnabled", true);
+        when(ticketService.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.empty());
+        when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
+        when(ticketService.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Ticket result = orchestrator.createTicket(ticket, idempotencyKey);
+
+        assertThat(result.getSyncStatus()).isEqualTo(SyncStatus.PENDING);
+        assertThat(result.getOutbox().getOpenTicketDelta()).isEqualTo(1);
+        assertThat(result.getOutbox().getAvailableAt()).isNotNull();
+        assertThat(result.getEvents()).extracting(TicketEvent::getEventType).containsExactly(TicketEventType.CREATED);
+        verify(ticketService, times(1)).save(ticket);
+        verify(ticketCounterService).recordCreated(TicketStatus.OPEN, Priority.MEDIUM);
+        verify(customerService, never()).incrementOpenTicketCount(anyString());
+    }
+
+    @Test
+    void createTickets_OutboxEnabled_InsertsOutboxEntriesWithoutSync() {
+        ReflectionTestUtils.setField(orchestrator, "outboxEnabled", true);
+        List<Ticket> tickets = List.of(batchTicket("key-1", customerExternalId), batchTicket("key-2", customerExternalId));
+        when(ticketService.findByIdempotencyKeys(any())).thenReturn(Map.of());
+        when(customerService.findExistingExternalIds(any())).thenReturn(Set.of(customerExternalId));
+        when(ticketService.insertAll(any())).thenReturn(Map.of());
+
+        List<TicketBatchItemResult> results = orchestrator.createTickets(tickets);
+
+        assertThat(results).extracting(TicketBatchItemResult::getStatus)
+                .containsExactly(TicketBatchItemStatus.CREATED, TicketBatchItemStatus.CREATED);
+        assertThat(tickets).allSatisfy(created -> {
+            assertThat(created.getSyncStatus()).isEqualTo(SyncStatus.PENDING);
+            assertThat(created.getOutbox().getOpenTicketDelta()).isEqualTo(1);
+        });
+        verify(customerService, never()).incrementOpenTicketCountsForTickets(any());
+        verify(ticketService, never()).saveAll(any());
+    }
+
+    @Test
+    void createTicket_CountBufferEnabled_BuffersIncrementAndLeavesTicketPending() {
+        ReflectionTestUtils.setField(orchestrator, "countBufferEnabled", true);
+        when(ticketService.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.empty());
+        when(customerService.existsByExternalId(customerExternalId)).thenReturn(true);
+        when(ticketService.save(any(Ticket.class))).thenAnswer(invocation -> {
+            Ticket saved = invocation.getArgument(0);
+            saved.setId("ticket123");
+            return saved;
+        });
+
+        Ticket result = orchestrator.createTicket(ticket, idempotencyKey);
+
+        assertThat(result.getSyncStatus()).isEqualTo(SyncStatus.PENDING);
+        assertThat(result.getOutbox()).isNull();
+        verify(ticketCountBuffer).add(customerExternalId, "ticket123");
+        verify(ticketService, times(1)).save(ticket);
+        verify(customerService, never()).incrementOpenTicketCount(anyString());
+    }
+
+    @Test
+    void createTickets_CountBufferEnabled_BuffersEachCreatedTicket() {
+        ReflectionTestUtils.setField(orchestrator, "countBufferEnabled", true);
+        List<Ticket> tickets = List.of(batchTicket("key-1", customerExternalId), batchTicket("key-2", customerExternalId));
+        when(ticketService.findByIdempotencyKeys(any())).thenReturn(Map.of());
+        when(customerService.findExistingExternalIds(any())).thenReturn(Set.of(customerExternalId));
+        when(ticketService.insertAll(any())).thenAnswer(invocation -> {
+            List<Ticket> inserted = invocation.getArgument(0);
+            for (int i = 0; i < inserted.size(); i++) {
+                inserted.get(i).setId("batch" + i);
+            }
+            return Map.of();
+        });
+
+        orchestrator.createTickets(tickets);
+
+        verify(ticketCountBuffer).add(customerExternalId, "batch0");
+        verify(ticketCountBuffer).add(customerExternalId, "batch1");
+        verify(customerService, never()).incrementOpenTicketCountsForTickets(any());
+        verify(ticketService, never()).saveAll(any());
+    }
+
+    private static Ticket batchTicket(String idempotencyKey, String customerExternalId) {
+        return Ticket.builder()
+                .customerExternalId(customerExternalId)
+                .title("Batch Ticket")
+                .description("Created in a batch")
+                .status(TicketStatus.OPEN)
+                .priority(Priority.MEDIUM)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+}
@@ -0,0 +1,193 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.TicketFeedEvent;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.exception.TicketFeedFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketFeedServiceTest {
+
+    private final TicketFeedService feedService = new TicketFeedService(4, 2, 1, Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        feedService.shutdown();
+    }
+
+    @Test
+    void publish_DeliversOnlyToSubscribersWhoseFilterMatches() throws Exception {
+        RecordingEmitter highPriority = new RecordingEmitter(1);
+        RecordingEmitter otherCustomer = new RecordingEmitter(0);
+        feedService.register(highPriority, TicketFilter.builder().priority(Priority.HIGH).build());
+        feedService.register(otherCustomer, TicketFilter.builder().customerExternalId("customer999").build());
+
+        TicketFeedEvent event = event(1, Priority.HIGH);
+        feedService.publish(event);
+        feedService.publish(event(2, Priority.LOW));
+
+        assertThat(highPriority.await()).isTrue();
+        assertThat(highPriority.payloads()).containsExactly(event);
+        assertThat(otherCustomer.payloads()).isEmpty();
+    }
+
+    @Test
+    void publish_SlowSubscriber_DoesNotBlockWriterAndDropsOldest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(6, release);
+        TicketFeedService.Subscriber subscriber = feedService.register(slow, new TicketFilter());
+
+        feedService.publish(event(0, Priority.MEDIUM));
+        awaitDrained(subscriber);
+
+        long started = System.nanoTime();
+        for (int i = 1; i < 10; i++) {
+            feedService.publish(event(i, Priority.MEDIUM));
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+
+        release.countDown();
+        assertThat(slow.await()).isTrue();
+        assertThat(subscriber.getDroppedTotal()).isEqualTo(5);
+        assertThat(subscriber.getBuffered()).isZero();
+        List<Object> received = slow.payloads();
+        assertThat(received.get(0)).isEqualTo(event(0, Priority.MEDIUM));
+        assertThat(received.get(1)).isEqualTo(5L);
+        assertThat(received.subList(2, 6)).containsExactly(event(6, Priority.MEDIUM), event(7, Priority.MEDIUM),
+                event(8, Priority.MEDIUM), event(9, Priority.MEDIUM));
+    }
+
+    @Test
+    void publish_FailedSend_RemovesSubscriber() throws Exception {
+        RecordingEmitter broken = new RecordingEmitter(1) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                super.send(builder);
+                throw new IOException("Broken pipe");
+            }
+        };
+        feedService.register(broken, new TicketFilter());
+
+        feedService.publish(event(1, Priority.LOW));
+
+        assertThat(broken.await()).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (feedService.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(feedService.subscriberCount()).isZero();
+    }
+
+    @Test
+    void sendHeartbeats_ReachesEverySubscriber() throws Exception {
+        RecordingEmitter filtered = new RecordingEmitter(1);
+        feedService.register(filtered, TicketFilter.builder().status(TicketStatus.CLOSED).build());
+
+        feedService.sendHeartbeats();
+
+        assertThat(filtered.await()).isTrue();
+    }
+
+    @Test
+    void register_AtSubscriberLimit_RejectsUntilOneLeaves() {
+        RecordingEmitter first = new RecordingEmitter(0);
+        feedService.register(first, new TicketFilter());
+        feedService.register(new RecordingEmitter(0), new TicketFilter());
+
+        assertThatThrownBy(() -> feedService.register(new RecordingEmitter(0), new TicketFilter()))
+                .isInstanceOf(TicketFeedFullException.class);
+        assertThat(feedService.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void publish_MoreSubscribersThanSendThreads_DeliversToEach() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter blocked = new RecordingEmitter(5, release);
+        RecordingEmitter other = new RecordingEmitter(1);
+        feedService.register(blocked, TicketFilter.builder().priority(Priority.HIGH).build());
+        feedService.register(other, TicketFilter.builder().priority(Priority.LOW).build());
+
+        for (int i = 0; i < 6; i++) {
+            feedService.publish(event(i, Priority.HIGH));
+        }
+        feedService.publish(event(9, Priority.LOW));
+        release.countDown();
+
+        assertThat(other.await()).isTrue();
+        assertThat(blocked.await()).isTrue();
+        assertThat(other.payloads()).containsExactly(event(9, Priority.LOW));
+    }
+
+    private static void awaitDrained(TicketFeedService.Subscriber subscriber) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscriber.getBuffered() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static TicketFeedEvent event(int sequence, Priority priority) {
+        return TicketFeedEvent.builder()
+                .eventType(TicketEventType.COMMENT_ADDED)
+                .ticketId("ticket" + sequence)
+                .customerExternalId("customer123")
+                .status(TicketStatus.OPEN)
+                .priority(priority)
+                .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received;
+        private final CountDownLatch release;
+
+        RecordingEmitter(int expected) {
+            this(expected, new CountDownLatch(0));
+        }
+
+        RecordingEmitter(int expected, CountDownLatch release) {
+            this.received = new CountDownLatch(expected);
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            sent.add(builder);
+            received.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return received.await(5, TimeUnit.SECONDS);
+        }
+
+        List<Object> payloads() {
+            return sent.stream()
+                    .flatMap(builder -> builder.build().stream())
+                    .map(DataWithMediaType::getData)
+                    .filter(data -> !(data instanceof String))
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.support.ticket.service;
+
+import com.support.customer.service.interfaces.ICustomerService;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketOutboxEntry;
+import com.support.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketOutboxServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private ICustomerService customerService;
+
+    @Mock
+    private TicketCache ticketCache;
+
+    private TicketOutboxService ticketOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        ticketOutboxService = new TicketOutboxService(ticketRepository, customerService, ticketCache,
+                2, 5, 3, Duration.ofSeconds(30), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketOutboxService.shutdown();
+    }
+
+    @Test
+    void drainOutbox_AppliesIncrementsThroughLedgerAndAcksClaimedEntries() {
+        List<Ticket> claimed = List.of(outboxTicket("t1", "customer1", 1), outboxTicket("t2", "customer1", 1));
+        when(ticketRepository.claimOutbox(anyString(), any(LocalDateTime.class), any(LocalDateTime.class), eq(2)))
+                .thenReturn(claimed)
+                .thenReturn(List.of());
+        when(ticketRepository.ackOutbox(anyCollection(), anyString(), any(LocalDateTime.class))).thenReturn(2L);
+
+        int drained = ticketOutboxService.drainOutbox();
+
+        assertThat(drained).isEqualTo(2);
+        verify(customerService).incrementOpenTicketCountsForTickets(Map.of("t1", "customer1", "t2", "customer1"));
+        verify(customerService, never()).incrementOpenTicketCounts(any());
+        ArgumentCaptor<String> claimCaptor = ArgumentCaptor.forClass(String.class);
+        verify(ticketRepository, times(2)).claimOutbox(claimCaptor.capture(), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(2));
+        verify(ticketRepository).ackOutbox(eq(List.of("t1", "t2")), eq(claimCaptor.getAllValues().get(0)),
+                any(LocalDateTime.class));
+        verify(ticketCache).invalidate("t1");
+        verify(ticketCache).invalidate("t2");
+        verify(ticketRepository).appendSyncHistory(eq(List.of("t1", "t2")), any(LocalDateTime.class));
+    }
+
+    @Test
+    void drainOutbox_IncrementFails_LeavesEntriesClaimedForRetry() {
+        when(ticketRepository.claimOutbox(anyString(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(outboxTicket("t1", "customer1", 1)));
+        doThrow(new RuntimeException("MySQL down")).when(customerService).incrementOpenTicketCountsForTickets(any());
+
+        int drained = ticketOutboxService.drainOutbox();
+
+        assertThat(drained).isZero();
+        verify(ticketRepository, never()).ackOutbox(anyCollection(), anyString(), any(LocalDateTime.class));
+        verify(ticketRepository, never()).failOutbox(anyCollection(), anyString());
+        verify(ticketRepository, never()).appendSyncHistory(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void drainOutbox_IncrementFailsAfterMaxAttempts_MarksTicketsFailed() {
+        Ticket exhausted = outboxTicket("t1", "customer1", 1);
+        exhausted.getOutbox().setAttempts(3);
+        when(ticketRepository.claimOutbox(anyString(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(exhausted, outboxTicket("t2", "customer1", 1)))
+                .thenReturn(List.of());
+        doThrow(new IllegalArgumentException("Customers not found")).when(customerService)
+                .incrementOpenTicketCountsForTickets(any());
+
+        ticketOutboxService.drainOutbox();
+
+        verify(ticketRepository).failOutbox(eq(List.of("t1")), anyString());
+        verify(ticketCache).invalidate("t1");
+        verify(ticketCache, never()).invalidate("t2");
+    }
+
+    private static Ticket outboxTicket(String id, String customerExternalId, int delta) {
+        return Ticket.builder()
+                .id(id)
+                .customerExternalId(customerExternalId)
+                .outbox(TicketOutboxEntry.builder().openTicketDelta(delta).attempts(1).build())
+                .build();
+    }
+}
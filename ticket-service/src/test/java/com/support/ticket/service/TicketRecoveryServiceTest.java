@@ -9,15 +9,21 @@ import com.support.ticket.repository.TicketRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +43,8 @@ class TicketRecoveryServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(recoveryService, "pendingTimeout", Duration.ofMinutes(5));
+
         failedTicket1 = Ticket.builder()
                 .id("ticket1")
                 .customerExternalId("customer1")
@@ -68,6 +76,28 @@ class TicketRecoveryServiceTest {
         verify(ticketCreationOrchestrator).recoverTicket(failedTicket2);
     }
 
+    @Test
+    void recoverFailedTickets_AlsoRecoversTicketsStuckPending() {
+        Ticket stuckTicket = Ticket.builder()
+                .id("ticket3")
+                .customerExternalId("customer3")
+                .syncStatus(SyncStatus.PENDING)
+                .build();
+        when(ticketRepository.findBySyncStatus(SyncStatus.FAILED)).thenReturn(List.of(failedTicket1));
+        when(ticketRepository.findBySyncStatusAndOutboxIsNullAndCreatedAtBefore(eq(SyncStatus.PENDING),
+                any(LocalDateTime.class))).thenReturn(List.of(stuckTicket));
+
+        LocalDateTime before = LocalDateTime.now();
+        recoveryService.recoverFailedTickets();
+
+        ArgumentCaptor<LocalDateTime> cutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(ticketRepository).findBySyncStatusAndOutboxIsNullAndCreatedAtBefore(eq(SyncStatus.PENDING),
+                cutoffCaptor.capture());
+        assertThat(cutoffCaptor.getValue()).isBetween(before.minusMinutes(5), LocalDateTime.now().minusMinutes(5));
+        verify(ticketCreationOrchestrator).recoverTicket(failedTicket1);
+        verify(ticketCreationOrchestrator).recoverTicket(stuckTicket);
+    }
+
     @Test
     void recoverFailedTickets_EmptyList_NoProcessing() {
         when(ticketRepository.findBySyncStatus(SyncStatus.FAILED)).thenReturn(Collections.emptyList());
@@ -0,0 +1,85 @@
+package com.support.ticket.service;
+
+import com.support.ticket.constants.TicketRollups;
+import com.support.ticket.model.TicketHistogram;
+import com.support.ticket.model.TicketRollup;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.RollupGranularity;
+import com.support.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketRollupServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @InjectMocks
+    private TicketRollupService ticketRollupService;
+
+    @Test
+    void getHistogram_FillsMissingBucketsWithZeros() {
+        LocalDateTime fromDate = LocalDateTime.of(2024, 1, 1, 9, 15);
+        LocalDateTime toDate = LocalDateTime.of(2024, 1, 1, 11, 45);
+        when(ticketRepository.findRollups(RollupGranularity.HOUR, fromDate, toDate)).thenReturn(List.of(
+                TicketRollup.builder()
+                        .granularity(RollupGranularity.HOUR)
+                        .bucketStart(LocalDateTime.of(2024, 1, 1, 10, 0))
+                        .created(Map.of(Priority.HIGH, 3L))
+                        .resolved(Map.of(Priority.LOW, 1L))
+                        .build()));
+
+        TicketHistogram histogram = ticketRollupService.getHistogram(RollupGranularity.HOUR, fromDate, toDate);
+
+        assertThat(histogram.getBuckets()).extracting(TicketHistogram.Bucket::getBucketStart).containsExactly(
+                LocalDateTime.of(2024, 1, 1, 9, 0),
+                LocalDateTime.of(2024, 1, 1, 10, 0),
+                LocalDateTime.of(2024, 1, 1, 11, 0));
+        assertThat(histogram.getBuckets().get(0).getCreated()).containsEntry(Priority.HIGH, 0L).hasSize(Priority.values().length);
+        assertThat(histogram.getBuckets().get(1).getCreated()).containsEntry(Priority.HIGH, 3L).containsEntry(Priority.LOW, 0L);
+        assertThat(histogram.getBuckets().get(1).getResolved()).containsEntry(Priority.LOW, 1L);
+    }
+
+    @Test
+    void getHistogram_RangeBeyondBucketLimit_Throws() {
+        LocalDateTime fromDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime toDate = fromDate.plusHours(TicketRollups.MAX_HISTOGRAM_BUCKETS);
+
+        assertThatThrownBy(() -> ticketRollupService.getHistogram(RollupGranularity.HOUR, fromDate, toDate))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> ticketRollupService.getHistogram(RollupGranularity.DAY, fromDate, toDate))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void getHistogram_InvertedRange_Throws() {
+        assertThatThrownBy(() -> ticketRollupService.getHistogram(RollupGranularity.DAY,
+                LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void recordCreated_RollupWriteFails_DoesNotPropagate() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 15);
+        doThrow(new IllegalStateException("Mongo unavailable"))
+                .when(ticketRepository).incrementRollups(any(), any(), any());
+
+        assertThatCode(() -> ticketRollupService.recordCreated(Priority.HIGH, createdAt)).doesNotThrowAnyException();
+        verify(ticketRepository).incrementRollups(TicketRollups.CREATED, Priority.HIGH, createdAt);
+    }
+}
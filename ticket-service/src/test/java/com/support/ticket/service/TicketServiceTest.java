@@ -1,28 +1,66 @@
 package com.support.ticket.service;
 
+import com.support.customer.service.interfaces.ICustomerService;
+import com.support.ticket.constants.TicketBatch;
+import com.support.ticket.constants.TicketHistory;
+import com.support.ticket.constants.TicketPagination;
+import com.support.ticket.exception.TicketArchivedException;
+import com.support.ticket.exception.TicketStatusConflictException;
 import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketBulkStatusResult;
+import com.support.ticket.model.TicketChangeWatermark;
+import com.support.ticket.model.TicketChanges;
 import com.support.ticket.model.TicketComment;
 import com.support.ticket.model.TicketEvent;
+import com.support.ticket.model.TicketFeedEvent;
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketPage;
+import com.support.ticket.model.TicketPageCursor;
+import com.support.ticket.model.TicketSearchCursor;
+import com.support.ticket.model.TicketSearchHit;
+import com.support.ticket.model.TicketSearchResult;
+import com.support.ticket.model.TicketSummary;
 import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.SyncStatus;
 import com.support.ticket.model.enums.TicketEventType;
+import com.support.ticket.model.enums.TicketSearchMatch;
+import com.support.ticket.model.enums.TicketSortField;
 import com.support.ticket.model.enums.TicketStatus;
 import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.service.interfaces.ITicketCounterService;
+import com.support.ticket.service.interfaces.ITicketFeedService;
+import com.support.ticket.service.interfaces.ITicketRollupService;
+import com.support.ticket.service.interfaces.ITicketSlaService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +69,39 @@ class TicketServiceTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Mock
+    private ITicketCounterService ticketCounterService;
+
+    @Mock
+    private ITicketRollupService ticketRollupService;
+
+    @Mock
+    private ITicketSlaService ticketSlaService;
+
+    @Mock
+    private ITicketFeedService ticketFeedService;
+
+    @Mock
+    private ICustomerService customerService;
+
+    @Captor
+    private ArgumentCaptor<List<TicketComment>> commentsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<TicketEvent>> eventsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<TicketEvent>> followUpCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Ticket>> historyCaptor;
+
+    @Captor
+    private ArgumentCaptor<Collection<TicketStatus>> fromCaptor;
+
+    @Spy
+    private TicketCache ticketCache = new TicketCache(100, Duration.ofMinutes(1));
+
     @InjectMocks
     private TicketService ticketService;
 
@@ -40,6 +111,7 @@ class TicketServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(ticketService, "changeSettleWindow", Duration.ofSeconds(2));
         ticketId = "ticket123";
         customerExternalId = "customer123";
         ticket = Ticket.builder()
@@ -57,8 +129,14 @@ class TicketServiceTest {
         String commentContent = "This is a comment";
         String authorExternalId = "agent456";
 
-        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
-        when(ticketRepository.save(any(Ticket.class))).thenReturn(ticket);
+        when(ticketRepository.addComment(eq(ticketId), any(TicketComment.class), any(TicketEvent.class)))
+                .thenAnswer(invocation -> {
+                    ticket.setComments(new ArrayList<>(List.of(invocation.getArgument(1, TicketComment.class))));
+                    ticket.setEvents(new ArrayList<>(List.of(invocation.getArgument(2, TicketEvent.class))));
+                    ticket.setCommentCount(1);
+                    ticket.setEventCount(1);
+                    return ticket;
+                });
 
         Ticket result = ticketService.addComment(ticketId, commentContent, authorExternalId);
 
@@ -66,8 +144,91 @@ class TicketServiceTest {
         assertThat(result.getComments().get(0).getContent()).isEqualTo(commentContent);
         assertThat(result.getEvents()).hasSize(1);
         assertThat(result.getEvents().get(0).getEventType()).isEqualTo(TicketEventType.COMMENT_ADDED);
-        verify(ticketRepository).findById(ticketId);
-        verify(ticketRepository).save(ticket);
+        verify(ticketRepository).appendComments(eq(ticketId), eq(1), anyList());
+        verify(ticketRepository).appendEvents(eq(ticketId), eq(1), anyList());
+        verify(ticketRepository, never()).findById(anyString());
+        verify(ticketRepository, never()).save(any(Ticket.class));
+        verify(ticketCache).invalidate(ticketId);
+
+        ArgumentCaptor<TicketFeedEvent> feedCaptor = ArgumentCaptor.forClass(TicketFeedEvent.class);
+        verify(ticketFeedService).publish(feedCaptor.capture());
+        assertThat(feedCaptor.getValue().getEventType()).isEqualTo(TicketEventType.COMMENT_ADDED);
+        assertThat(feedCaptor.getValue().getTicketId()).isEqualTo(ticketId);
+        assertThat(feedCaptor.getValue().getCustomerExternalId()).isEqualTo(customerExternalId);
+    }
+
+    @Test
+    void addComment_AppendsToBucketAtSequenceReturnedByAtomicUpdate() {
+        ticket.setCommentCount(251);
+        ticket.setEventCount(400);
+        when(ticketRepository.addComment(eq(ticketId), any(TicketComment.class), any(TicketEvent.class)))
+                .thenReturn(ticket);
+
+        ticketService.addComment(ticketId, "latest", "agent456");
+
+        verify(ticketRepository).appendComments(eq(ticketId), eq(251), commentsCaptor.capture());
+        assertThat(commentsCaptor.getValue()).extracting(TicketComment::getContent).containsExactly("latest");
+        verify(ticketRepository).appendEvents(eq(ticketId), eq(400), anyList());
+    }
+
+    @Test
+    void addComment_LegacyTicket_MigratesHistoryThenRetries() {
+        ticket.setComments(new ArrayList<>(List.of(new TicketComment("legacy", customerExternalId))));
+        ticket.setCommentCount(null);
+        ticket.setEventCount(null);
+        Ticket updated = Ticket.builder().id(ticketId).commentCount(2).eventCount(1).build();
+
+        when(ticketRepository.addComment(eq(ticketId), any(TicketComment.class), any(TicketEvent.class)))
+                .thenReturn(null, updated);
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
+        when(ticketRepository.migrateHistory(ticket, null)).thenReturn(true);
+
+        Ticket result = ticketService.addComment(ticketId, "new", "agent456");
+
+        assertThat(result).isSameAs(updated);
+        assertThat(ticket.getCommentCount()).isEqualTo(1);
+        verify(ticketRepository).migrateHistory(ticket, null);
+        verify(ticketRepository, never()).save(any(Ticket.class));
+        verify(ticketRepository).appendComments(eq(ticketId), eq(2), anyList());
+    }
+
+    @Test
+    void migrateHistory_LostRace_LeavesCacheAlone() {
+        ticket.setCommentCount(null);
+        ticket.setEventCount(null);
+        ticket.setVersion(3L);
+        when(ticketRepository.migrateHistory(ticket, 3L)).thenReturn(false);
+
+        boolean migrated = ticketService.migrateHistory(ticket);
+
+        assertThat(migrated).isFalse();
+        assertThat(ticket.getPendingComments()).isEmpty();
+        verify(ticketCache, never()).invalidate(ticketId);
+    }
+
+    @Test
+    void save_LegacyEmbeddedHistory_MovesAllEntriesIntoBuckets() {
+        List<TicketComment> legacyComments = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            legacyComments.add(new TicketComment("legacy " + i, customerExternalId));
+        }
+        ticket.setComments(legacyComments);
+        ticket.setCommentCount(null);
+        ticket.setEventCount(null);
+
+        when(ticketRepository.save(any(Ticket.class))).thenReturn(ticket);
+
+        Ticket result = ticketService.save(ticket);
+
+        assertThat(result.getCommentCount()).isEqualTo(15);
+        assertThat(result.getEventCount()).isZero();
+        assertThat(result.getComments()).hasSize(TicketHistory.RECENT_ENTRIES);
+        assertThat(result.getComments().get(0).getContent()).isEqualTo("legacy 5");
+        assertThat(result.getPendingComments()).isEmpty();
+
+        verify(ticketRepository).appendComments(eq(ticketId), eq(1), commentsCaptor.capture());
+        assertThat(commentsCaptor.getValue()).hasSize(15);
+        verify(ticketRepository, never()).appendEvents(anyString(), anyInt(), anyList());
     }
 
     @Test
@@ -80,6 +241,30 @@ class TicketServiceTest {
 
         verify(ticketRepository).findById(ticketId);
         verify(ticketRepository, never()).save(any(Ticket.class));
+        verify(ticketRepository, never()).appendComments(anyString(), anyInt(), anyList());
+    }
+
+    @Test
+    void addComment_ArchivedTicket_ThrowsTicketArchived() {
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.empty());
+        when(ticketRepository.findArchivedById(ticketId)).thenReturn(Optional.of(ticket));
+
+        assertThatThrownBy(() -> ticketService.addComment(ticketId, "comment", "author"))
+                .isInstanceOfSatisfying(TicketArchivedException.class,
+                        e -> assertThat(e.getTicketId()).isEqualTo(ticketId));
+
+        verify(ticketRepository, never()).appendComments(anyString(), anyInt(), anyList());
+    }
+
+    @Test
+    void updateStatus_ArchivedTicket_ThrowsTicketArchived() {
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.empty());
+        when(ticketRepository.findArchivedById(ticketId)).thenReturn(Optional.of(ticket));
+
+        assertThatThrownBy(() -> ticketService.updateStatus(ticketId, TicketStatus.IN_PROGRESS, "agent456"))
+                .isInstanceOf(TicketArchivedException.class);
+
+        verify(ticketRepository, never()).appendEvents(anyString(), anyInt(), anyList());
     }
 
     @Test
@@ -87,16 +272,191 @@ class TicketServiceTest {
         TicketStatus newStatus = TicketStatus.IN_PROGRESS;
         String performedBy = "agent456";
 
-        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
-        when(ticketRepository.save(any(Ticket.class))).thenReturn(ticket);
+        when(ticketRepository.changeStatus(eq(ticketId), anyCollection(), eq(newStatus), eq(performedBy), anyList()))
+                .thenAnswer(invocation -> {
+                    ticket.setStatus(newStatus);
+                    TicketEvent statusEvent = new TicketEvent(TicketEventType.STATUS_CHANGED,
+                            "Status changed from OPEN to IN_PROGRESS", performedBy);
+                    statusEvent.setFromStatus(TicketStatus.OPEN);
+                    statusEvent.setToStatus(newStatus);
+                    ticket.setEvents(new ArrayList<>(List.of(statusEvent)));
+                    ticket.setEventCount(1);
+                    return ticket;
+                });
 
         Ticket result = ticketService.updateStatus(ticketId, newStatus, performedBy);
 
         assertThat(result.getStatus()).isEqualTo(newStatus);
         assertThat(result.getEvents()).hasSize(1);
         assertThat(result.getEvents().get(0).getEventType()).isEqualTo(TicketEventType.STATUS_CHANGED);
-        verify(ticketRepository).findById(ticketId);
-        verify(ticketRepository).save(ticket);
+
+        verify(ticketRepository).changeStatus(eq(ticketId), fromCaptor.capture(), eq(newStatus), eq(performedBy),
+                eq(List.of()));
+        assertThat(fromCaptor.getValue()).contains(TicketStatus.OPEN).doesNotContain(newStatus);
+        verify(ticketRepository).appendEvents(ticketId, 1, result.getEvents());
+        verify(ticketRepository, never()).save(any(Ticket.class));
+        verify(ticketCounterService).recordTransition(Priority.MEDIUM, TicketStatus.OPEN, TicketStatus.IN_PROGRESS);
+        verify(ticketRollupService, never()).recordResolved(any(), any());
+        verify(ticketCache).invalidate(ticketId);
+        verifyNoInteractions(customerService);
+
+        ArgumentCaptor<TicketFeedEvent> feedCaptor = ArgumentCaptor.forClass(TicketFeedEvent.class);
+        verify(ticketFeedService).publish(feedCaptor.capture());
+        assertThat(feedCaptor.getValue().getEventType()).isEqualTo(TicketEventType.STATUS_CHANGED);
+        assertThat(feedCaptor.getValue().getFromStatus()).isEqualTo(TicketStatus.OPEN);
+        assertThat(feedCaptor.getValue().getStatus()).isEqualTo(newStatus);
+    }
+
+    @Test
+    void updateStatuses_ByIds_AppliesOneUpdateManyAndReplaysSideEffectsForChangedTickets() {
+        String performedBy = "agent456";
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 8, 0);
+        when(ticketRepository.findStatusHeaders(List.of("t1", "t2", "t3"))).thenReturn(List.of(
+                Ticket.builder().id("t1").status(TicketStatus.OPEN).commentCount(0).eventCount(3).build(),
+                Ticket.builder().id("t2").status(TicketStatus.CLOSED).commentCount(0).eventCount(4).build()));
+        when(ticketRepository.changeStatuses(eq(List.of("t1", "t2")), anyCollection(), eq(TicketStatus.CLOSED),
+                eq(performedBy), any(LocalDateTime.class), anyList())).thenReturn(1L);
+        when(ticketRepository.streamStatusChanges(eq(List.of("t1", "t2")), eq(TicketStatus.CLOSED), eq(performedBy),
+                any(LocalDateTime.class), anyInt())).thenAnswer(invocation -> {
+                    LocalDateTime changedAt = invocation.getArgument(3);
+                    TicketEvent statusEvent = TicketEvent.builder().eventType(TicketEventType.STATUS_CHANGED)
+                            .fromStatus(TicketStatus.OPEN).toStatus(TicketStatus.CLOSED)
+                            .performedBy(performedBy).timestamp(changedAt).build();
+                    TicketEvent closedEvent = TicketEvent.builder().eventType(TicketEventType.CLOSED)
+                            .performedBy(performedBy).timestamp(changedAt).build();
+                    TicketEvent created = new TicketEvent(TicketEventType.CREATED, "Ticket created", customerExternalId);
+                    return Stream.of(Ticket.builder()
+                            .id("t1")
+                            .customerExternalId(customerExternalId)
+                            .status(TicketStatus.CLOSED)
+                            .priority(Priority.HIGH)
+                            .createdAt(createdAt)
+                            .resolvedAt(changedAt)
+                            .eventCount(5)
+                            .events(new ArrayList<>(List.of(created, statusEvent, closedEvent)))
+                            .build());
+                });
+
+        TicketBulkStatusResult result = ticketService.updateStatuses(List.of("t1", "t2", "t3"), null,
+                TicketStatus.CLOSED, performedBy);
+
+        assertThat(result.getMatched()).isEqualTo(2);
+        assertThat(result.getChanged()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.isHasMore()).isFalse();
+
+        ArgumentCaptor<LocalDateTime> changedAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(ticketRepository).changeStatuses(eq(List.of("t1", "t2")), anyCollection(), eq(TicketStatus.CLOSED),
+                eq(performedBy), changedAtCaptor.capture(), followUpCaptor.capture());
+        LocalDateTime changedAt = changedAtCaptor.getValue();
+        assertThat(followUpCaptor.getValue()).singleElement()
+                .satisfies(event -> assertThat(event.getTimestamp()).isEqualTo(changedAt));
+
+        verify(ticketRepository).appendPendingHistory(historyCaptor.capture());
+        Ticket history = historyCaptor.getValue().get(0);
+        assertThat(history.getId()).isEqualTo("t1");
+        assertThat(history.getEventCount()).isEqualTo(5);
+        assertThat(history.getPendingEvents()).extracting(TicketEvent::getEventType)
+                .containsExactly(TicketEventType.STATUS_CHANGED, TicketEventType.CLOSED);
+        assertThat(history.getPendingComments()).isEmpty();
+
+        verify(ticketCounterService).recordTransition(Priority.HIGH, TicketStatus.OPEN, TicketStatus.CLOSED);
+        verify(ticketRollupService).recordResolved(Priority.HIGH, changedAt);
+        verify(ticketSlaService).recordResolution(Priority.HIGH, Duration.between(createdAt, changedAt));
+        verify(ticketFeedService).publish(argThat(event -> "t1".equals(event.getTicketId())
+                && event.getFromStatus() == TicketStatus.OPEN && event.getStatus() == TicketStatus.CLOSED));
+        verify(ticketCache).invalidate("t1");
+        verify(customerService).incrementOpenTicketCounts(Map.of(customerExternalId, -1));
+        verify(ticketRepository, never()).recordSyncFailure(anyCollection(), anyInt());
+        verify(ticketRepository, never()).changeStatus(anyString(), anyCollection(), any(), anyString(), anyList());
+        verify(ticketRepository, never()).save(any(Ticket.class));
+    }
+
+    @Test
+    void updateStatuses_StatusEventMissing_SkipsTicketWithoutSideEffects() {
+        when(ticketRepository.findStatusHeaders(List.of("t1"))).thenReturn(List.of(
+                Ticket.builder().id("t1").status(TicketStatus.OPEN).commentCount(0).eventCount(3).build()));
+        when(ticketRepository.changeStatuses(eq(List.of("t1")), anyCollection(), eq(TicketStatus.CLOSED),
+                isNull(), any(LocalDateTime.class), anyList())).thenReturn(1L);
+        TicketEvent otherChange = TicketEvent.builder().eventType(TicketEventType.STATUS_CHANGED)
+                .fromStatus(TicketStatus.OPEN).toStatus(TicketStatus.CLOSED).performedBy("agent456")
+                .timestamp(LocalDateTime.of(2024, 3, 1, 8, 0)).build();
+        when(ticketRepository.streamStatusChanges(eq(List.of("t1")), eq(TicketStatus.CLOSED), isNull(),
+                any(LocalDateTime.class), anyInt())).thenReturn(Stream.of(Ticket.builder()
+                        .id("t1")
+                        .customerExternalId(customerExternalId)
+                        .status(TicketStatus.CLOSED)
+                        .eventCount(4)
+                        .events(new ArrayList<>(List.of(
+                                new TicketEvent(TicketEventType.CREATED, "Ticket created", customerExternalId),
+                                otherChange)))
+                        .build()));
+
+        TicketBulkStatusResult result = ticketService.updateStatuses(List.of("t1"), null, TicketStatus.CLOSED, null);
+
+        assertThat(result.getChanged()).isEqualTo(1);
+        verify(ticketCache).invalidate("t1");
+        verify(ticketRepository, never()).appendPendingHistory(anyList());
+        verify(ticketCounterService, never()).recordTransition(any(), any(), any());
+        verify(ticketFeedService, never()).publish(any());
+        verify(customerService, never()).incrementOpenTicketCounts(anyMap());
+    }
+
+    @Test
+    void updateStatuses_ByFilter_CapsSelectionAndReportsMore() {
+        List<String> selected = new ArrayList<>();
+        for (int i = 0; i <= TicketBatch.MAX_ITEMS; i++) {
+            selected.add("t" + i);
+        }
+        TicketFilter filter = TicketFilter.builder().customerExternalId(customerExternalId).build();
+        when(ticketRepository.findIdsForStatusChange(eq(filter), anyCollection(), eq(TicketBatch.MAX_ITEMS + 1)))
+                .thenReturn(selected);
+        when(ticketRepository.findStatusHeaders(anyList())).thenReturn(List.of());
+
+        TicketBulkStatusResult result = ticketService.updateStatuses(null, filter, TicketStatus.CLOSED, "agent456");
+
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getMatched()).isZero();
+        verify(ticketRepository).findStatusHeaders(argThat(ids -> ids.size() == TicketBatch.MAX_ITEMS));
+        verify(ticketRepository, never()).changeStatuses(anyCollection(), anyCollection(), any(), anyString(), any(),
+                anyList());
+    }
+
+    @Test
+    void updateStatuses_WithoutIdsOrFilter_ThrowsException() {
+        assertThatThrownBy(() -> ticketService.updateStatuses(null, null, TicketStatus.CLOSED, "agent456"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void updateStatus_IntoResolvedState_RecordsResolutionOnlyOnce() {
+        LocalDateTime resolvedAt = LocalDateTime.of(2024, 3, 1, 10, 30);
+        when(ticketRepository.changeStatus(eq(ticketId), anyCollection(), any(TicketStatus.class), anyString(), anyList()))
+                .thenAnswer(invocation -> {
+                    TicketStatus target = invocation.getArgument(2);
+                    TicketEvent statusEvent = new TicketEvent(TicketEventType.STATUS_CHANGED,
+                            "Status changed from " + ticket.getStatus() + " to " + target, "agent456");
+                    statusEvent.setFromStatus(ticket.getStatus());
+                    statusEvent.setToStatus(target);
+                    statusEvent.setTimestamp(resolvedAt);
+                    List<TicketEvent> events = new ArrayList<>(List.of(statusEvent));
+                    events.addAll(invocation.getArgument(4));
+                    if (target.isResolved() && !ticket.getStatus().isResolved()) {
+                        ticket.setResolvedAt(resolvedAt);
+                    }
+                    ticket.setStatus(target);
+                    ticket.setEvents(events);
+                    ticket.setEventCount(events.size());
+                    return ticket;
+                });
+
+        ticketService.updateStatus(ticketId, TicketStatus.RESOLVED, "agent456");
+        ticketService.updateStatus(ticketId, TicketStatus.CLOSED, "agent456");
+
+        verify(ticketRollupService, times(1)).recordResolved(Priority.MEDIUM, resolvedAt);
+        verify(ticketSlaService, times(1)).recordResolution(Priority.MEDIUM,
+                Duration.between(ticket.getCreatedAt(), resolvedAt));
+        verify(ticketCounterService).recordTransition(Priority.MEDIUM, TicketStatus.RESOLVED, TicketStatus.CLOSED);
     }
 
     @Test
@@ -104,29 +464,490 @@ class TicketServiceTest {
         TicketStatus newStatus = TicketStatus.CLOSED;
         String performedBy = "agent456";
 
-        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
-        when(ticketRepository.save(any(Ticket.class))).thenReturn(ticket);
+        when(ticketRepository.changeStatus(eq(ticketId), anyCollection(), eq(newStatus), eq(performedBy), anyList()))
+                .thenAnswer(invocation -> {
+                    List<TicketEvent> events = new ArrayList<>();
+                    events.add(new TicketEvent(TicketEventType.CREATED, "Ticket created", customerExternalId));
+                    events.add(new TicketEvent(TicketEventType.STATUS_CHANGED, "Status changed from OPEN to CLOSED",
+                            performedBy));
+                    events.addAll(invocation.getArgument(4));
+                    ticket.setStatus(newStatus);
+                    ticket.setEvents(events);
+                    ticket.setEventCount(7);
+                    return ticket;
+                });
 
         Ticket result = ticketService.updateStatus(ticketId, newStatus, performedBy);
 
         assertThat(result.getStatus()).isEqualTo(TicketStatus.CLOSED);
-        assertThat(result.getEvents()).hasSize(2);
-        assertThat(result.getEvents().get(0).getEventType()).isEqualTo(TicketEventType.STATUS_CHANGED);
-        assertThat(result.getEvents().get(1).getEventType()).isEqualTo(TicketEventType.CLOSED);
-        verify(ticketRepository).save(ticket);
+        assertThat(result.getEvents()).hasSize(3);
+        assertThat(result.getEvents().get(1).getEventType()).isEqualTo(TicketEventType.STATUS_CHANGED);
+        assertThat(result.getEvents().get(2).getEventType()).isEqualTo(TicketEventType.CLOSED);
+
+        verify(ticketRepository).appendEvents(eq(ticketId), eq(6), eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).extracting(TicketEvent::getEventType)
+                .containsExactly(TicketEventType.STATUS_CHANGED, TicketEventType.CLOSED);
+    }
+
+    @Test
+    void updateStatus_ToCancelled_DecrementsCustomerOpenTicketCount() {
+        stubCancellation("agent456");
+
+        ticketService.updateStatus(ticketId, TicketStatus.CANCELLED, "agent456");
+
+        verify(customerService).decrementOpenTicketCount(customerExternalId);
+        verify(customerService, never()).incrementOpenTicketCount(anyString());
+        verify(ticketRepository, never()).recordSyncFailure(anyCollection(), anyInt());
+    }
+
+    @Test
+    void updateStatus_DecrementFails_RecordsPendingDeltaForRecovery() {
+        stubCancellation("agent456");
+        doThrow(new RuntimeException("MySQL down")).when(customerService).decrementOpenTicketCount(customerExternalId);
+
+        Ticket result = ticketService.updateStatus(ticketId, TicketStatus.CANCELLED, "agent456");
+
+        assertThat(result.getStatus()).isEqualTo(TicketStatus.CANCELLED);
+        assertThat(result.getSyncStatus()).isEqualTo(SyncStatus.FAILED);
+        verify(ticketRepository).recordSyncFailure(List.of(ticketId), -1);
+        verify(ticketCache, times(2)).invalidate(ticketId);
+    }
+
+    @Test
+    void updateStatuses_DecrementFails_RecordsPendingDeltaPerTicket() {
+        String performedBy = "agent456";
+        when(ticketRepository.findStatusHeaders(List.of("t1")))
+                .thenReturn(List.of(Ticket.builder().id("t1").status(TicketStatus.OPEN).commentCount(0).eventCount(1)
+                        .build()));
+        when(ticketRepository.changeStatuses(anyCollection(), anyCollection(), eq(TicketStatus.CANCELLED),
+                eq(performedBy), any(LocalDateTime.class), anyList())).thenReturn(1L);
+        when(ticketRepository.streamStatusChanges(anyCollection(), eq(TicketStatus.CANCELLED), eq(performedBy),
+                any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    LocalDateTime changedAt = invocation.getArgument(3);
+                    TicketEvent statusEvent = TicketEvent.builder().eventType(TicketEventType.STATUS_CHANGED)
+                            .fromStatus(TicketStatus.OPEN).toStatus(TicketStatus.CANCELLED)
+                            .performedBy(performedBy).timestamp(changedAt).build();
+                    return Stream.of(Ticket.builder()
+                            .id("t1")
+                            .customerExternalId(customerExternalId)
+                            .status(TicketStatus.CANCELLED)
+                            .eventCount(2)
+                            .events(new ArrayList<>(List.of(statusEvent)))
+                            .build());
+                });
+        doThrow(new RuntimeException("MySQL down")).when(customerService).incrementOpenTicketCounts(any());
+
+        ticketService.updateStatuses(List.of("t1"), null, TicketStatus.CANCELLED, performedBy);
+
+        verify(customerService).incrementOpenTicketCounts(Map.of(customerExternalId, -1));
+        verify(ticketRepository).recordSyncFailure(List.of("t1"), -1);
+    }
+
+    @Test
+    void updateStatus_CreationNotYetSynced_ParksDeltaInsteadOfApplyingIt() {
+        ticket.setSyncStatus(SyncStatus.PENDING);
+        stubCancellation("agent456");
+
+        ticketService.updateStatus(ticketId, TicketStatus.CANCELLED, "agent456");
+
+        verify(ticketRepository).recordSyncFailure(List.of(ticketId), -1);
+        verify(customerService, never()).decrementOpenTicketCount(anyString());
+        verify(customerService, never()).incrementOpenTicketCount(anyString());
+    }
+
+    @Test
+    void updateStatuses_CreationNotYetSynced_ParksDeltaAndAppliesTheRest() {
+        String performedBy = "agent456";
+        when(ticketRepository.findStatusHeaders(List.of("t1", "t2"))).thenReturn(List.of(
+                Ticket.builder().id("t1").status(TicketStatus.OPEN).commentCount(0).eventCount(1).build(),
+                Ticket.builder().id("t2").status(TicketStatus.OPEN).commentCount(0).eventCount(1).build()));
+        when(ticketRepository.changeStatuses(anyCollection(), anyCollection(), eq(TicketStatus.CANCELLED),
+                eq(performedBy), any(LocalDateTime.class), anyList())).thenReturn(2L);
+        when(ticketRepository.streamStatusChanges(anyCollection(), eq(TicketStatus.CANCELLED), eq(performedBy),
+                any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    LocalDateTime changedAt = invocation.getArgument(3);
+                    TicketEvent statusEvent = TicketEvent.builder().eventType(TicketEventType.STATUS_CHANGED)
+                            .fromStatus(TicketStatus.OPEN).toStatus(TicketStatus.CANCELLED)
+                            .performedBy(performedBy).timestamp(changedAt).build();
+                    return Stream.of(
+                            Ticket.builder().id("t1").customerExternalId(customerExternalId)
+                                    .status(TicketStatus.CANCELLED).syncStatus(SyncStatus.PENDING).eventCount(2)
+                                    .events(new ArrayList<>(List.of(statusEvent))).build(),
+                            Ticket.builder().id("t2").customerExternalId("customer456")
+                                    .status(TicketStatus.CANCELLED).syncStatus(SyncStatus.SYNCED).eventCount(2)
+                                    .events(new ArrayList<>(List.of(statusEvent))).build());
+                });
+
+        ticketService.updateStatuses(List.of("t1", "t2"), null, TicketStatus.CANCELLED, performedBy);
+
+        verify(ticketRepository).recordSyncFailure(List.of("t1"), -1);
+        verify(customerService).incrementOpenTicketCounts(Map.of("customer456", -1));
+        verify(ticketCache, atLeastOnce()).invalidate("t1");
+    }
+
+    private void stubCancellation(String performedBy) {
+        when(ticketRepository.changeStatus(eq(ticketId), anyCollection(), eq(TicketStatus.CANCELLED),
+                eq(performedBy), anyList()))
+                .thenAnswer(invocation -> {
+                    TicketEvent statusEvent = new TicketEvent(TicketEventType.STATUS_CHANGED,
+                            "Status changed from OPEN to CANCELLED", performedBy);
+                    statusEvent.setFromStatus(TicketStatus.OPEN);
+                    statusEvent.setToStatus(TicketStatus.CANCELLED);
+                    List<TicketEvent> events = new ArrayList<>(List.of(statusEvent));
+                    events.addAll(invocation.getArgument(4));
+                    ticket.setStatus(TicketStatus.CANCELLED);
+                    ticket.setEvents(events);
+                    ticket.setEventCount(events.size());
+                    return ticket;
+                });
+    }
+
+    @Test
+    void updateStatus_AlreadyInStatus_ReturnsCurrentTicketWithoutEvents() {
+        ticket.setStatus(TicketStatus.IN_PROGRESS);
+        ticket.setCommentCount(0);
+        ticket.setEventCount(3);
+
+        when(ticketRepository.changeStatus(eq(ticketId), anyCollection(), eq(TicketStatus.IN_PROGRESS), anyString(),
+                anyList())).thenReturn(null);
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
+
+        Ticket result = ticketService.updateStatus(ticketId, TicketStatus.IN_PROGRESS, "agent456");
+
+        assertThat(result).isSameAs(ticket);
+        verify(ticketRepository, never()).appendEvents(anyString(), anyInt(), anyList());
+        verify(ticketRepository, never()).save(any(Ticket.class));
+        verifyNoInteractions(ticketFeedService);
+    }
+
+    @Test
+    void updateStatus_FromTerminalStatus_ThrowsConflictWithCurrentStatus() {
+        ticket.setStatus(TicketStatus.CLOSED);
+        ticket.setCommentCount(0);
+        ticket.setEventCount(2);
+
+        when(ticketRepository.changeStatus(eq(ticketId), anyCollection(), eq(TicketStatus.OPEN), anyString(), anyList()))
+                .thenReturn(null);
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
+
+        assertThatThrownBy(() -> ticketService.updateStatus(ticketId, TicketStatus.OPEN, "agent456"))
+                .isInstanceOfSatisfying(TicketStatusConflictException.class, e -> {
+                    assertThat(e.getCurrentStatus()).isEqualTo(TicketStatus.CLOSED);
+                    assertThat(e.getRequestedStatus()).isEqualTo(TicketStatus.OPEN);
+                });
+
+        verify(ticketRepository, times(1))
+                .changeStatus(eq(ticketId), anyCollection(), eq(TicketStatus.OPEN), anyString(), anyList());
+        verify(ticketRepository, never()).appendEvents(anyString(), anyInt(), anyList());
     }
 
     @Test
-    void findTickets_WithFilters_ReturnsFilteredResults() {
-        Ticket ticket1 = Ticket.builder().id("t1").status(TicketStatus.OPEN).priority(Priority.HIGH).build();
-        Ticket ticket2 = Ticket.builder().id("t2").status(TicketStatus.OPEN).priority(Priority.MEDIUM).build();
+    void updateStatus_UsesTransitionTableAsCompareAndSetCondition() {
+        ticket.setEvents(new ArrayList<>(List.of(
+                new TicketEvent(TicketEventType.STATUS_CHANGED, "Status changed from RESOLVED to OPEN", "agent456"))));
+        ticket.setEventCount(5);
+        when(ticketRepository.changeStatus(eq(ticketId), anyCollection(), eq(TicketStatus.OPEN), anyString(), anyList()))
+                .thenReturn(ticket);
 
-        when(ticketRepository.findAll()).thenReturn(Arrays.asList(ticket1, ticket2));
+        ticketService.updateStatus(ticketId, TicketStatus.OPEN, "agent456");
+
+        verify(ticketRepository).changeStatus(eq(ticketId), fromCaptor.capture(), eq(TicketStatus.OPEN), anyString(),
+                anyList());
+        assertThat(fromCaptor.getValue())
+                .containsExactlyInAnyOrder(TicketStatus.IN_PROGRESS, TicketStatus.RESOLVED);
+    }
+
+    @Test
+    void updateStatus_WithExpectedStatus_ComparesAgainstExpectedOnly() {
+        ticket.setStatus(TicketStatus.RESOLVED);
+        ticket.setCommentCount(0);
+        ticket.setEventCount(4);
+
+        when(ticketRepository.changeStatus(eq(ticketId), anyCollection(), eq(TicketStatus.CLOSED), anyString(),
+                anyList())).thenReturn(null);
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
+
+        assertThatThrownBy(() -> ticketService.updateStatus(ticketId, TicketStatus.CLOSED, TicketStatus.IN_PROGRESS,
+                "agent456"))
+                .isInstanceOfSatisfying(TicketStatusConflictException.class,
+                        e -> assertThat(e.getCurrentStatus()).isEqualTo(TicketStatus.RESOLVED));
+
+        verify(ticketRepository).changeStatus(eq(ticketId), fromCaptor.capture(), eq(TicketStatus.CLOSED),
+                anyString(), anyList());
+        assertThat(fromCaptor.getValue()).containsExactly(TicketStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void findComments_OldestFirst_ReadsSequenceRangeAndReturnsNextSequence() {
+        Ticket header = Ticket.builder().id(ticketId).commentCount(250).eventCount(300).build();
+        List<TicketComment> comments = List.of(new TicketComment("first", customerExternalId));
+        when(ticketRepository.findComments(ticketId, 1, 100)).thenReturn(comments);
 
-        List<Ticket> result = ticketService.findTickets(TicketStatus.OPEN, Priority.HIGH, null, null, null);
+        TicketPage<TicketComment> page = ticketService.findComments(header, null, 100, false);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getId()).isEqualTo("t1");
+        assertThat(page.getItems()).isEqualTo(comments);
+        assertThat(page.getNextCursor()).isEqualTo("101");
+    }
+
+    @Test
+    void findComments_OldestFirst_LastPageHasNoCursor() {
+        Ticket header = Ticket.builder().id(ticketId).commentCount(250).eventCount(300).build();
+        when(ticketRepository.findComments(ticketId, 201, 250)).thenReturn(List.of());
+
+        TicketPage<TicketComment> page = ticketService.findComments(header, "201", 100, false);
+
+        assertThat(page.getNextCursor()).isNull();
+        verify(ticketRepository).findComments(ticketId, 201, 250);
+    }
+
+    @Test
+    void findEvents_NewestFirst_ReversesRangeAndWalksBackwards() {
+        Ticket header = Ticket.builder().id(ticketId).commentCount(0).eventCount(120).build();
+        TicketEvent older = new TicketEvent(TicketEventType.CREATED, "older", customerExternalId);
+        TicketEvent newer = new TicketEvent(TicketEventType.STATUS_CHANGED, "newer", customerExternalId);
+        when(ticketRepository.findEvents(ticketId, 119, 120)).thenReturn(List.of(older, newer));
+
+        TicketPage<TicketEvent> first = ticketService.findEvents(header, null, 2, true);
+
+        assertThat(first.getItems()).containsExactly(newer, older);
+        assertThat(first.getNextCursor()).isEqualTo("118");
+
+        when(ticketRepository.findEvents(ticketId, 1, 2)).thenReturn(List.of(older, newer));
+        TicketPage<TicketEvent> last = ticketService.findEvents(header, "2", 50, true);
+
+        assertThat(last.getItems()).containsExactly(newer, older);
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void findComments_NoHistory_ReturnsEmptyPageWithoutQuerying() {
+        Ticket header = Ticket.builder().id(ticketId).commentCount(0).eventCount(1).build();
+
+        TicketPage<TicketComment> page = ticketService.findComments(header, null, null, true);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verify(ticketRepository, never()).findComments(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void findHistoryHeader_LegacyTicket_ReturnsProjectionWithoutWriting() {
+        Ticket header = Ticket.builder().id(ticketId).customerExternalId(customerExternalId).build();
+        when(ticketRepository.findHistoryHeader(ticketId)).thenReturn(header);
+
+        Optional<Ticket> result = ticketService.findHistoryHeader(ticketId);
+
+        assertThat(result).containsSame(header);
+        verify(ticketRepository, never()).findById(anyString());
+        verify(ticketRepository, never()).save(any(Ticket.class));
+        verify(ticketRepository, never()).migrateHistory(any(Ticket.class), any());
+    }
+
+    @Test
+    void findComments_LegacyTicket_PagesEmbeddedListWithoutMigrating() {
+        Ticket header = Ticket.builder().id(ticketId).customerExternalId(customerExternalId).build();
+        ticket.setComments(new ArrayList<>(List.of(
+                new TicketComment("first", customerExternalId),
+                new TicketComment("second", customerExternalId),
+                new TicketComment("third", customerExternalId))));
+        ticket.setCommentCount(null);
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
+
+        TicketPage<TicketComment> page = ticketService.findComments(header, null, 2, false);
+
+        assertThat(page.getItems()).extracting(TicketComment::getContent).containsExactly("first", "second");
+        assertThat(page.getNextCursor()).isEqualTo("3");
+        verify(ticketRepository, never()).findComments(anyString(), anyInt(), anyInt());
+        verify(ticketRepository, never()).migrateHistory(any(Ticket.class), any());
+        verify(ticketRepository, never()).save(any(Ticket.class));
+    }
+
+    @Test
+    void findComments_InvalidCursor_ThrowsIllegalArgument() {
+        Ticket header = Ticket.builder().id(ticketId).commentCount(10).eventCount(10).build();
+
+        assertThatThrownBy(() -> ticketService.findComments(header, "not-a-sequence", 10, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ticketService.findComments(header, "0", 10, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void searchTickets_FetchesOneExtraAndReturnsCursor() {
+        Ticket first = Ticket.builder().id("t1").build();
+        Ticket second = Ticket.builder().id("t2").build();
+        TicketFilter filter = TicketFilter.builder().priority(Priority.HIGH).build();
+        when(ticketRepository.searchPage("printer", filter, null, 2)).thenReturn(new TicketSearchResult(List.of(
+                new TicketSearchHit(first, TicketSearchMatch.TICKET, 2.5),
+                new TicketSearchHit(second, TicketSearchMatch.COMMENT, 1.5)), null));
+
+        TicketPage<Ticket> page = ticketService.searchTickets("  printer ", filter, null, 1);
+
+        assertThat(page.getItems()).containsExactly(first);
+        TicketSearchCursor cursor = TicketSearchCursor.decode(page.getNextCursor());
+        assertThat(cursor).isEqualTo(new TicketSearchCursor(TicketSearchMatch.TICKET, 2.5, "t1"));
+    }
+
+    @Test
+    void searchTickets_WithCursor_ResumesAfterDecodedHit() {
+        TicketFilter filter = new TicketFilter();
+        TicketSearchCursor after = new TicketSearchCursor(TicketSearchMatch.COMMENT, 1.5, "t2");
+        when(ticketRepository.searchPage("printer", filter, after, 11))
+                .thenReturn(new TicketSearchResult(List.of(), null));
+
+        TicketPage<Ticket> page = ticketService.searchTickets("printer", filter, after.encode(), 10);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void searchTickets_ScanCapReachedBeforePageFills_ReturnsCursorAtLastScannedCandidate() {
+        Ticket first = Ticket.builder().id("t1").build();
+        TicketFilter filter = new TicketFilter();
+        TicketSearchCursor scannedTo = new TicketSearchCursor(TicketSearchMatch.COMMENT, 0.75, "t9");
+        when(ticketRepository.searchPage("printer", filter, null, 11)).thenReturn(new TicketSearchResult(
+                List.of(new TicketSearchHit(first, TicketSearchMatch.COMMENT, 1.5)), scannedTo));
+
+        TicketPage<Ticket> page = ticketService.searchTickets("printer", filter, null, 10);
+
+        assertThat(page.getItems()).containsExactly(first);
+        assertThat(TicketSearchCursor.decode(page.getNextCursor())).isEqualTo(scannedTo);
+    }
+
+    @Test
+    void searchTickets_BlankText_ThrowsIllegalArgument() {
+        assertThatThrownBy(() -> ticketService.searchTickets(" ", new TicketFilter(), null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(ticketRepository, never()).searchPage(anyString(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findTicketPage_MoreResultsThanPageSize_ReturnsNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        Ticket ticket1 = Ticket.builder().id("t1").priority(Priority.HIGH).createdAt(createdAt.plusMinutes(2)).build();
+        Ticket ticket2 = Ticket.builder().id("t2").priority(Priority.LOW).createdAt(createdAt.plusMinutes(1)).build();
+        Ticket ticket3 = Ticket.builder().id("t3").priority(Priority.LOW).createdAt(createdAt).build();
+        TicketFilter filter = TicketFilter.builder().status(TicketStatus.OPEN).build();
+
+        when(ticketRepository.findPage(filter, TicketSortField.CREATED_AT, null, 3))
+                .thenReturn(new ArrayList<>(List.of(ticket1, ticket2, ticket3)));
+
+        TicketPage<Ticket> page = ticketService.findTicketPage(filter, null, null, 2);
+
+        assertThat(page.getItems()).containsExactly(ticket1, ticket2);
+        assertThat(page.getNextCursor()).isNotNull();
+        TicketPageCursor cursor = TicketPageCursor.decode(page.getNextCursor(), TicketSortField.CREATED_AT);
+        assertThat(cursor.getId()).isEqualTo("t2");
+        assertThat(cursor.getCreatedAt()).isEqualTo(ticket2.getCreatedAt());
+    }
+
+    @Test
+    void findTicketPage_LastPage_ReturnsNoCursorAndCapsPageSize() {
+        TicketFilter filter = new TicketFilter();
+        when(ticketRepository.findPage(filter, TicketSortField.PRIORITY, null, TicketPagination.MAX_PAGE_SIZE + 1))
+                .thenReturn(List.of(ticket));
+
+        TicketPage<Ticket> page = ticketService.findTicketPage(filter, TicketSortField.PRIORITY, null, 10_000);
+
+        assertThat(page.getItems()).containsExactly(ticket);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void findTicketSummaryPage_MoreResultsThanPageSize_ReturnsNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        TicketSummary summary1 = TicketSummary.builder().id("t1").priority(Priority.URGENT).createdAt(createdAt).build();
+        TicketSummary summary2 = TicketSummary.builder().id("t2").priority(Priority.HIGH).createdAt(createdAt).build();
+        TicketFilter filter = new TicketFilter();
+
+        when(ticketRepository.findSummaryPage(filter, TicketSortField.PRIORITY, null, 2))
+                .thenReturn(new ArrayList<>(List.of(summary1, summary2)));
+
+        TicketPage<TicketSummary> page = ticketService.findTicketSummaryPage(filter, TicketSortField.PRIORITY, null, 1);
+
+        assertThat(page.getItems()).containsExactly(summary1);
+        TicketPageCursor cursor = TicketPageCursor.decode(page.getNextCursor(), TicketSortField.PRIORITY);
+        assertThat(cursor.getPriorityRank()).isEqualTo(Priority.URGENT.ordinal());
+        assertThat(cursor.getId()).isEqualTo("t1");
+        verify(ticketRepository, never()).findPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findChanges_MoreChangesThanPageSize_AdvancesWatermarkToLastReturned() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        TicketSummary summary1 = TicketSummary.builder().id("t1").updatedAt(updatedAt).build();
+        TicketSummary summary2 = TicketSummary.builder().id("t2").updatedAt(updatedAt).build();
+        TicketSummary summary3 = TicketSummary.builder().id("t3").updatedAt(updatedAt.plusSeconds(1)).build();
+        String since = new TicketChangeWatermark(updatedAt.minusMinutes(1), "t0").encode();
+
+        when(ticketRepository.findChangedSince(eq(customerExternalId), any(TicketChangeWatermark.class),
+                any(LocalDateTime.class), eq(3)))
+                .thenReturn(new ArrayList<>(List.of(summary1, summary2, summary3)));
+
+        TicketChanges changes = ticketService.findChanges(customerExternalId, since, 2);
+
+        assertThat(changes.getItems()).containsExactly(summary1, summary2);
+        assertThat(changes.isHasMore()).isTrue();
+        TicketChangeWatermark watermark = TicketChangeWatermark.decode(changes.getWatermark());
+        assertThat(watermark.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(watermark.getId()).isEqualTo("t2");
+
+        ArgumentCaptor<TicketChangeWatermark> afterCaptor = ArgumentCaptor.forClass(TicketChangeWatermark.class);
+        verify(ticketRepository).findChangedSince(eq(customerExternalId), afterCaptor.capture(),
+                any(LocalDateTime.class), eq(3));
+        assertThat(afterCaptor.getValue().getId()).isEqualTo("t0");
+    }
+
+    @Test
+    void findChanges_ReadsOnlyChangesOlderThanSettleWindow() {
+        when(ticketRepository.findChangedSince(isNull(), isNull(), any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of());
+
+        LocalDateTime before = LocalDateTime.now();
+        TicketChanges changes = ticketService.findChanges(null, null, null);
+
+        ArgumentCaptor<LocalDateTime> untilCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(ticketRepository).findChangedSince(isNull(), isNull(), untilCaptor.capture(),
+                eq(TicketPagination.DEFAULT_PAGE_SIZE + 1));
+        assertThat(untilCaptor.getValue()).isBeforeOrEqualTo(LocalDateTime.now().minusSeconds(2))
+                .isAfterOrEqualTo(before.minusSeconds(2));
+        assertThat(changes.isHasMore()).isFalse();
+        assertThat(TicketChangeWatermark.decode(changes.getWatermark()).getUpdatedAt())
+                .isEqualTo(untilCaptor.getValue());
+    }
+
+    @Test
+    void findChanges_NoNewChanges_KeepsWatermark() {
+        String since = new TicketChangeWatermark(LocalDateTime.of(2024, 5, 1, 10, 0), "t1").encode();
+        when(ticketRepository.findChangedSince(any(), any(TicketChangeWatermark.class), any(LocalDateTime.class),
+                anyInt())).thenReturn(List.of());
+
+        TicketChanges changes = ticketService.findChanges(null, since, null);
+
+        assertThat(changes.getItems()).isEmpty();
+        assertThat(changes.getWatermark()).isEqualTo(since);
+    }
+
+    @Test
+    void findChanges_InvalidWatermark_ThrowsIllegalArgument() {
+        assertThatThrownBy(() -> ticketService.findChanges(null, "not-a-watermark", null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void findTicketPage_CursorFromDifferentSort_ThrowsException() {
+        String cursor = new TicketPageCursor(TicketSortField.CREATED_AT, 1, LocalDateTime.now(), "t1").encode();
+
+        assertThatThrownBy(() -> ticketService.findTicketPage(new TicketFilter(), TicketSortField.PRIORITY, cursor, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(ticketRepository);
     }
 
     @Test
@@ -138,5 +959,135 @@ class TicketServiceTest {
         assertThat(result).isEmpty();
         verify(ticketRepository).findById(ticketId);
     }
-}
 
+    @Test
+    void findById_NotInHotCollection_FallsThroughToArchive() {
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.empty());
+        when(ticketRepository.findArchivedById(ticketId)).thenReturn(Optional.of(ticket));
+
+        assertThat(ticketService.findById(ticketId)).contains(ticket);
+    }
+
+    @Test
+    void findById_RepeatedReads_ServedFromCacheUntilInvalidatedByWrite() {
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(ticketService.findById(ticketId)).contains(ticket);
+        assertThat(ticketService.findById(ticketId)).contains(ticket);
+        verify(ticketRepository, times(1)).findById(ticketId);
+
+        ticketService.save(ticket);
+        ticketService.findById(ticketId);
+
+        verify(ticketRepository, times(2)).findById(ticketId);
+        assertThat(ticketService.getCacheStats().getHits()).isEqualTo(1);
+        assertThat(ticketService.getCacheStats().getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void insertAll_AppendsHistoryForInsertedTicketsOnly() {
+        Ticket other = Ticket.builder().customerExternalId(customerExternalId).title("Other").description("Other").build();
+        ticket.addEvent(new TicketEvent(TicketEventType.CREATED, "Ticket created", customerExternalId));
+        other.addEvent(new TicketEvent(TicketEventType.CREATED, "Ticket created", customerExternalId));
+        when(ticketRepository.insertAll(List.of(ticket, other))).thenReturn(Map.of(1, "E11000 duplicate key"));
+        List<Integer> pendingAtAppend = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Ticket> tickets = invocation.getArgument(0);
+            tickets.forEach(appended -> pendingAtAppend.add(appended.getPendingEvents().size()));
+            return null;
+        }).when(ticketRepository).appendPendingHistory(anyList());
+
+        Map<Integer, String> failures = ticketService.insertAll(List.of(ticket, other));
+
+        assertThat(failures).containsOnlyKeys(1);
+        assertThat(ticket.getVersion()).isEqualTo(1L);
+        verify(ticketRepository).appendPendingHistory(List.of(ticket));
+        assertThat(pendingAtAppend).containsExactly(1);
+        assertThat(ticket.getPendingEvents()).isEmpty();
+        verify(ticketRepository, never()).appendEvents(anyString(), anyInt(), anyList());
+    }
+
+    @Test
+    void saveAll_ReplacesInOneBulkAndInvalidatesCache() {
+        ticket.setVersion(3L);
+        ticketCache.get(ticketId, id -> Optional.of(ticket));
+
+        ticketService.saveAll(List.of(ticket));
+
+        assertThat(ticket.getVersion()).isEqualTo(4L);
+        verify(ticketRepository).replaceAll(List.of(ticket));
+        verify(ticketRepository).appendPendingHistory(List.of(ticket));
+        verify(ticketRepository, never()).save(any(Ticket.class));
+        assertThat(ticketCache.peek(ticketId)).isEmpty();
+    }
+
+    @Test
+    void findByIdempotencyKeys_UsesSingleInQuery() {
+        ticket.setIdempotencyKey("key-1");
+        when(ticketRepository.findByIdempotencyKeyIn(List.of("key-1", "key-2"))).thenReturn(List.of(ticket));
+
+        assertThat(ticketService.findByIdempotencyKeys(List.of("key-1", "key-2"))).containsOnlyKeys("key-1");
+        verify(ticketRepository, never()).findByIdempotencyKey(anyString());
+    }
+
+    @Test
+    void save_IncrementsVersionAndTouchesUpdatedAt() {
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ticket.setVersion(null);
+        ticket.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(ticketService.save(ticket).getVersion()).isEqualTo(1L);
+        assertThat(ticket.getUpdatedAt()).isAfter(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(ticketService.save(ticket).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void findVersionHeader_CachedTicket_StillReadsCurrentVersionFromRepository() {
+        ticket.setVersion(4L);
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticket));
+        ticketService.findById(ticketId);
+        Ticket header = Ticket.builder().id(ticketId).customerExternalId(customerExternalId).version(5L).build();
+        when(ticketRepository.findVersionHeader(ticketId)).thenReturn(header);
+
+        assertThat(ticketService.findVersionHeader(ticketId)).contains(header);
+        verify(ticketRepository).findVersionHeader(ticketId);
+    }
+
+    @Test
+    void findVersionHeader_ReadsProjectionFromRepository() {
+        Ticket header = Ticket.builder().id(ticketId).customerExternalId(customerExternalId).version(5L).build();
+        when(ticketRepository.findVersionHeader(ticketId)).thenReturn(header);
+
+        assertThat(ticketService.findVersionHeader(ticketId)).contains(header);
+        verify(ticketRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void findVersionHeader_UnknownTicket_ReturnsEmpty() {
+        when(ticketRepository.findVersionHeader(ticketId)).thenReturn(null);
+
+        assertThat(ticketService.findVersionHeader(ticketId)).isEmpty();
+    }
+
+    @Test
+    void markCustomerSynced_PendingTicket_AppendsSyncHistoryAndInvalidatesCache() {
+        when(ticketRepository.markSynced(eq(List.of(ticketId)), any(LocalDateTime.class))).thenReturn(1L);
+
+        assertThat(ticketService.markCustomerSynced(ticketId)).isTrue();
+
+        verify(ticketRepository).appendSyncHistory(eq(List.of(ticketId)), any(LocalDateTime.class));
+        verify(ticketCache).invalidate(ticketId);
+        verify(ticketRepository, never()).save(any(Ticket.class));
+    }
+
+    @Test
+    void markCustomerSynced_TicketNoLongerPending_LeavesHistoryAlone() {
+        when(ticketRepository.markSynced(eq(List.of(ticketId)), any(LocalDateTime.class))).thenReturn(0L);
+
+        assertThat(ticketService.markCustomerSynced(ticketId)).isFalse();
+
+        verify(ticketRepository, never()).appendSyncHistory(anyCollection(), any(LocalDateTime.class));
+        verify(ticketCache).invalidate(ticketId);
+    }
+}
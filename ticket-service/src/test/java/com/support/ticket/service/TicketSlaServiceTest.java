@@ -0,0 +1,91 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketSlaReport;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketSlaServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @InjectMocks
+    private TicketSlaService ticketSlaService;
+
+    @Test
+    void getReport_ComputesPercentilesPerPriority() {
+        for (int minutes = 1; minutes <= 100; minutes++) {
+            ticketSlaService.recordResolution(Priority.HIGH, Duration.ofMinutes(minutes));
+        }
+        ticketSlaService.recordResolution(Priority.LOW, Duration.ofDays(2));
+
+        TicketSlaReport report = ticketSlaService.getReport();
+
+        TicketSlaReport.ResolutionTime high = report.getResolutionTime().get(Priority.HIGH);
+        assertThat(high.getCount()).isEqualTo(100);
+        assertThat(high.getP50Millis()).isCloseTo(Duration.ofMinutes(50).toMillis(), withinPercentage(1));
+        assertThat(high.getP90Millis()).isCloseTo(Duration.ofMinutes(90).toMillis(), withinPercentage(1));
+        assertThat(high.getP99Millis()).isCloseTo(Duration.ofMinutes(99).toMillis(), withinPercentage(1));
+        assertThat(report.getResolutionTime().get(Priority.LOW).getMaxMillis())
+                .isCloseTo(Duration.ofDays(2).toMillis(), withinPercentage(1));
+        assertThat(report.getResolutionTime().get(Priority.URGENT).getCount()).isZero();
+        assertThat(report.getResolutionTime().get(Priority.URGENT).getMeanMillis()).isCloseTo(0, within(0.001));
+    }
+
+    @Test
+    void getReport_AccumulatesAcrossReports() {
+        ticketSlaService.recordResolution(Priority.MEDIUM, Duration.ofHours(1));
+        ticketSlaService.getReport();
+        ticketSlaService.recordResolution(Priority.MEDIUM, Duration.ofHours(3));
+
+        TicketSlaReport.ResolutionTime medium = ticketSlaService.getReport().getResolutionTime().get(Priority.MEDIUM);
+
+        assertThat(medium.getCount()).isEqualTo(2);
+        assertThat(medium.getMeanMillis()).isCloseTo(Duration.ofHours(2).toMillis(), withinPercentage(1));
+    }
+
+    @Test
+    void recordResolution_OutOfRangeValues_AreClamped() {
+        ticketSlaService.recordResolution(Priority.HIGH, Duration.ofMillis(-5));
+        ticketSlaService.recordResolution(Priority.HIGH, Duration.ofDays(4000));
+
+        TicketSlaReport.ResolutionTime high = ticketSlaService.getReport().getResolutionTime().get(Priority.HIGH);
+
+        assertThat(high.getCount()).isEqualTo(2);
+        assertThat(high.getMaxMillis()).isCloseTo(Duration.ofDays(365).toMillis(), withinPercentage(1));
+    }
+
+    @Test
+    void seed_RecordsPreviouslyResolvedTickets() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        when(ticketRepository.streamResolvedBefore(any(LocalDateTime.class), anyInt())).thenReturn(Stream.of(
+                Ticket.builder().priority(Priority.URGENT).createdAt(createdAt).resolvedAt(createdAt.plusHours(4)).build(),
+                Ticket.builder().priority(Priority.URGENT).createdAt(null).resolvedAt(createdAt).build()));
+
+        assertThat(ticketSlaService.isSeeded()).isFalse();
+        ticketSlaService.seed();
+
+        assertThat(ticketSlaService.isSeeded()).isTrue();
+        TicketSlaReport.ResolutionTime urgent = ticketSlaService.getReport().getResolutionTime().get(Priority.URGENT);
+        assertThat(urgent.getCount()).isEqualTo(1);
+        assertThat(urgent.getP50Millis()).isCloseTo(Duration.ofHours(4).toMillis(), withinPercentage(1));
+    }
+}
@@ -0,0 +1,132 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.TicketFilter;
+import com.support.ticket.model.TicketStats;
+import com.support.ticket.model.TicketStatusPriorityCount;
+import com.support.ticket.model.enums.Priority;
+import com.support.ticket.model.enums.ReadConsistency;
+import com.support.ticket.model.enums.TicketStatus;
+import com.support.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketStatsServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @InjectMocks
+    private TicketStatsService ticketStatsService;
+
+    private TicketFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ticketStatsService, "cacheTtl", Duration.ofMinutes(1));
+        filter = TicketFilter.builder().customerExternalId("customer123").build();
+    }
+
+    @Test
+    void getStats_FoldsCountsIntoMatrixAndTotals() {
+        when(ticketRepository.countByStatusAndPriority(filter, ReadConsistency.STALE_OK)).thenReturn(List.of(
+                new TicketStatusPriorityCount(TicketStatus.OPEN, Priority.HIGH, 3),
+                new TicketStatusPriorityCount(TicketStatus.OPEN, Priority.LOW, 2),
+                new TicketStatusPriorityCount(TicketStatus.CLOSED, Priority.HIGH, 5)));
+
+        TicketStats stats = ticketStatsService.getStats(filter);
+
+        assertThat(stats.getTotal()).isEqualTo(10);
+        assertThat(stats.getByStatus().get(TicketStatus.OPEN)).isEqualTo(5);
+        assertThat(stats.getByStatus().get(TicketStatus.RESOLVED)).isZero();
+        assertThat(stats.getByPriority().get(Priority.HIGH)).isEqualTo(8);
+        assertThat(stats.getByStatusAndPriority().get(TicketStatus.CLOSED).get(Priority.HIGH)).isEqualTo(5);
+        assertThat(stats.getByStatusAndPriority().get(TicketStatus.CLOSED).get(Priority.LOW)).isZero();
+        assertThat(stats.getGeneratedAt()).isNotNull();
+    }
+
+    @Test
+    void getStats_WithinTtl_ReturnsCachedResult() {
+        when(ticketRepository.countByStatusAndPriority(filter, ReadConsistency.STALE_OK)).thenReturn(List.of());
+
+        TicketStats first = ticketStatsService.getStats(filter);
+        TicketStats second = ticketStatsService.getStats(TicketFilter.builder().customerExternalId("customer123").build());
+
+        assertThat(second).isSameAs(first);
+        verify(ticketRepository, times(1)).countByStatusAndPriority(any(), any());
+    }
+
+    @Test
+    void getStats_AfterTtl_ReloadsResult() {
+        ReflectionTestUtils.setField(ticketStatsService, "cacheTtl", Duration.ZERO);
+        when(ticketRepository.countByStatusAndPriority(filter, ReadConsistency.STALE_OK)).thenReturn(List.of());
+
+        ticketStatsService.getStats(filter);
+        ticketStatsService.getStats(filter);
+
+        verify(ticketRepository, times(2)).countByStatusAndPriority(filter, ReadConsistency.STALE_OK);
+    }
+
+    @Test
+    void getStats_ConcurrentCallers_ShareSingleAggregation() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(ticketRepository.countByStatusAndPriority(filter, ReadConsistency.STALE_OK)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(new TicketStatusPriorityCount(TicketStatus.OPEN, Priority.HIGH, 1));
+        });
+
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<TicketStats>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> ticketStatsService.getStats(filter)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            TicketStats first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<TicketStats> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(ticketRepository, times(1)).countByStatusAndPriority(filter, ReadConsistency.STALE_OK);
+    }
+
+    @Test
+    void getStats_AggregationFails_DoesNotCacheFailure() {
+        when(ticketRepository.countByStatusAndPriority(filter, ReadConsistency.STALE_OK))
+                .thenThrow(new IllegalStateException("Mongo unavailable"))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> ticketStatsService.getStats(filter))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Mongo unavailable");
+
+        assertThat(ticketStatsService.getStats(filter).getTotal()).isZero();
+        verify(ticketRepository, times(2)).countByStatusAndPriority(filter, ReadConsistency.STALE_OK);
+    }
+}